@@ -1,6 +1,7 @@
 package thrift;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,6 +13,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import thrift.commons.core.Config;
 import thrift.commons.core.LogsCenter;
+import thrift.commons.core.ThriftStorageFormat;
 import thrift.commons.core.Version;
 import thrift.commons.exceptions.DataConversionException;
 import thrift.commons.util.ConfigUtil;
@@ -25,13 +27,17 @@ import thrift.model.ReadOnlyUserPrefs;
 import thrift.model.Thrift;
 import thrift.model.UserPrefs;
 import thrift.model.util.CurrencyUtil;
+import thrift.model.util.HistoricalRates;
+import thrift.storage.BinaryThriftStorage;
 import thrift.storage.CurrencyMappingsStorage;
+import thrift.storage.JournalThriftStorage;
 import thrift.storage.JsonCurrencyMappingsStorage;
 import thrift.storage.JsonThriftStorage;
 import thrift.storage.JsonUserPrefsStorage;
 import thrift.storage.Storage;
 import thrift.storage.StorageManager;
 import thrift.storage.ThriftStorage;
+import thrift.storage.ThriftStorageConverter;
 import thrift.storage.UserPrefsStorage;
 import thrift.ui.Ui;
 import thrift.ui.UiManager;
@@ -61,7 +67,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ThriftStorage thriftStorage = new JsonThriftStorage(userPrefs.getThriftFilePath());
+        ThriftStorage thriftStorage = initThriftStorage(userPrefs);
         CurrencyMappingsStorage currencyMappingsStorage =
                 new JsonCurrencyMappingsStorage(userPrefs.getCurrencyMappingsFilePath());
         storage = new StorageManager(thriftStorage, userPrefsStorage, currencyMappingsStorage);
@@ -77,6 +83,43 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code ThriftStorage} for the data file at {@code userPrefs}'s THRIFT file path, in the format chosen
+     * in {@code userPrefs}. <br>
+     * If the data was last saved in another format, it is first converted to the chosen format. A journal left by
+     * the journal format is folded into the json file before switching to a format that would ignore it.
+     */
+    private ThriftStorage initThriftStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getThriftFilePath();
+        JournalThriftStorage journalStorage = new JournalThriftStorage(jsonFilePath);
+        BinaryThriftStorage binaryStorage = new BinaryThriftStorage(BinaryThriftStorage.toBinaryFilePath(jsonFilePath));
+        try {
+            switch (userPrefs.getThriftStorageFormat()) {
+            case JOURNAL:
+                ThriftStorageConverter.convertIfNewer(binaryStorage, journalStorage);
+                return journalStorage;
+            case BINARY:
+                ThriftStorageConverter.convertIfNewer(journalStorage, binaryStorage);
+                return binaryStorage;
+            case JSON:
+            default:
+                JsonThriftStorage jsonStorage = new JsonThriftStorage(jsonFilePath);
+                Path journalFilePath = JournalThriftStorage.getJournalFilePath(jsonFilePath);
+                if (Files.exists(journalFilePath)) {
+                    ThriftStorageConverter.convert(journalStorage, jsonStorage);
+                    Files.delete(journalFilePath);
+                }
+                ThriftStorageConverter.convertIfNewer(binaryStorage, jsonStorage);
+                return jsonStorage;
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file to the " + userPrefs.getThriftStorageFormat()
+                    + " format: " + StringUtil.getDetails(e));
+            // A journal that could not be folded is still read correctly by the journal storage.
+            return userPrefs.getThriftStorageFormat() == ThriftStorageFormat.BINARY ? binaryStorage : journalStorage;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s thrift and {@code userPrefs}. <br>
      * The data from the sample thrift will be used instead if {@code storage}'s thrift is not found,
@@ -171,6 +214,27 @@ public class MainApp extends Application {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
 
+        initHistoricalRates(storage);
+    }
+
+    /**
+     * Initialises the historical exchange rates at CurrencyUtil using the file at {@code storage}'s historical rates
+     * file path, or does nothing (to convert at the current rates only) if the file is missing or cannot be read.
+     */
+    protected void initHistoricalRates(Storage storage) {
+        Path historicalRatesFilePath = storage.getHistoricalRatesFilePath();
+        try {
+            Optional<HistoricalRates> historicalRates = storage.readHistoricalRates();
+            if (historicalRates.isPresent()) {
+                logger.info("Using historical currency rates file : " + historicalRatesFilePath);
+                CurrencyUtil.setHistoricalRates(historicalRates.get());
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Historical currency rates file at " + historicalRatesFilePath
+                    + " is not in the correct format. Using current currency mappings only");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Using current currency mappings only");
+        }
     }
 
     /**
@@ -214,6 +278,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping THRIFT ] =============================");
+        try {
+            logic.flushPendingSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save THRIFT " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
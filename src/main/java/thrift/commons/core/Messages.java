@@ -10,6 +10,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT_WITH_PE = "Invalid command format! %2$s\n%1$s";
     public static final String MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX =
             "The transaction index provided is invalid";
+    public static final String MESSAGE_RECURRENCE_DISPLAYED_INDEX =
+            "The transaction at the index provided recurs from another transaction and cannot be changed on its own";
     public static final String MESSAGE_TRANSACTIONS_LISTED_OVERVIEW = "%1$d transactions listed!";
 
 }
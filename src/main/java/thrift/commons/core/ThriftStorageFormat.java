@@ -0,0 +1,13 @@
+package thrift.commons.core;
+
+/**
+ * The formats in which THRIFT data can be stored on the hard disk.
+ */
+public enum ThriftStorageFormat {
+    /** A single json file that is rewritten in full on every save. */
+    JSON,
+    /** A json snapshot together with a journal of the changes made since the snapshot was taken. */
+    JOURNAL,
+    /** A compact binary file, kept next to where the json file would be, that is rewritten in full on every save. */
+    BINARY
+}
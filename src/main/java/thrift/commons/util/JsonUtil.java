@@ -2,7 +2,9 @@ package thrift.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -90,6 +94,32 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a {@code JsonGenerator} that streams pretty-printed JSON directly to the specified file, in the same
+     * layout as {@link #saveJsonFile(Object, Path)}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The caller is responsible for closing the generator, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonGenerator createJsonFileGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} that writes compact JSON, without any whitespace between tokens, to
+     * {@code writer}. Closing the generator does not close {@code writer}.
+     * @param writer cannot be null
+     */
+    public static JsonGenerator createJsonGenerator(Writer writer) throws IOException {
+        requireNonNull(writer);
+
+        return objectMapper.getFactory().createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
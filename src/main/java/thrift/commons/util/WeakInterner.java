@@ -0,0 +1,98 @@
+package thrift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values can share a single instance.
+ * The pool only holds its instances weakly, so an instance that is no longer used elsewhere is garbage collected
+ * and dropped from the pool.
+ * The pool is safe to use from several threads without a common lock, so that values converted in parallel are not
+ * serialized again by interning them.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    private final ConcurrentMap<Entry<T>, Entry<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the instance in the pool that is equal to {@code value}, adding {@code value} to the pool as that
+     * instance if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        purge();
+        Entry<T> entry = new Entry<>(value, collected);
+        while (true) {
+            Entry<T> existing = pool.get(entry);
+            if (existing == null) {
+                existing = pool.putIfAbsent(entry, entry);
+                if (existing == null) {
+                    return value;
+                }
+            }
+            T canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // The instance was collected after it was found, so drop it and try again.
+            pool.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Returns the number of instances in the pool, which may include instances that are about to be dropped.
+     */
+    public int size() {
+        purge();
+        return pool.size();
+    }
+
+    /**
+     * Drops the entries of the instances that have been garbage collected.
+     */
+    private void purge() {
+        Reference<? extends T> reference;
+        while ((reference = collected.poll()) != null) {
+            pool.remove(reference);
+        }
+    }
+
+    /**
+     * A weak reference to an instance in the pool, which is equal to the references to equal instances.
+     * Its hash code is kept, so that it can still be found and dropped after the instance is collected.
+     */
+    private static class Entry<T> extends WeakReference<T> {
+        private final int hash;
+
+        Entry(T value, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            T value = get();
+            return value != null && value.equals(((Entry<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
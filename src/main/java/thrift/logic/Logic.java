@@ -1,6 +1,8 @@
 package thrift.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import thrift.commons.core.GuiSettings;
@@ -26,13 +28,26 @@ public interface Logic {
      * @param transactionListPanel The TransactionListPanel to be manipulated by execution of certain commands.
      * @param balanceBar The BalanceBar that displays the current month, budget and balance.
      * @param filteredBar The FilteredBar that displays the meaning of the list.
-     * @return the result of the command execution.
+     * @return the result of the command execution. THRIFT is saved in the background once this returns.
      * @throws CommandException If an error occurs during command execution.
      * @throws ParseException If an error occurs during parsing.
      */
     CommandResult execute(String commandText, TransactionListPanel transactionListPanel, BalanceBar balanceBar,
             FilteredBar filteredBar) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given the error message when saving THRIFT after a command fails.
+     * THRIFT is saved in the background, so the handler may be called on a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Waits for THRIFT to be saved after all the commands executed so far.
+     *
+     * @throws IOException if the last save failed.
+     */
+    void flushPendingSaves() throws IOException;
+
     /**
      * Returns the Thrift.
      *
@@ -5,6 +5,7 @@ import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,9 +18,11 @@ import thrift.logic.commands.CloneCommand;
 import thrift.logic.commands.Command;
 import thrift.logic.commands.CommandResult;
 import thrift.logic.commands.DeleteCommand;
+import thrift.logic.commands.FilterCommand;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.commands.ListCommand;
 import thrift.logic.commands.NonScrollingCommand;
+import thrift.logic.commands.RecurCommand;
 import thrift.logic.commands.RedoCommand;
 import thrift.logic.commands.ScrollingCommand;
 import thrift.logic.commands.UndoCommand;
@@ -30,7 +33,9 @@ import thrift.logic.parser.ThriftParser;
 import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.Model;
 import thrift.model.ReadOnlyThrift;
+import thrift.model.ThriftSnapshot;
 import thrift.model.transaction.Transaction;
+import thrift.storage.AsyncThriftSaver;
 import thrift.storage.Storage;
 import thrift.ui.BalanceBar;
 import thrift.ui.FilteredBar;
@@ -44,13 +49,13 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncThriftSaver thriftSaver;
     private final ThriftParser thriftParser;
 
     public LogicManager(Model model, Storage storage) {
         requireAllNonNull(model, storage);
         this.model = model;
-        this.storage = storage;
+        thriftSaver = new AsyncThriftSaver(storage);
         thriftParser = new ThriftParser();
     }
 
@@ -59,17 +64,29 @@ public class LogicManager implements Logic {
             FilteredBar filteredBar) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         Command command = thriftParser.parseCommand(commandText);
+        long modificationCount = model.getThriftModificationCount();
         CommandResult commandResult = processParsedCommand(command, commandText, transactionListPanel, balanceBar,
                 filteredBar);
-        try {
-            storage.saveThrift(model.getThrift());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (model.getThriftModificationCount() == modificationCount) {
+            logger.info("[" + command.getClass().getSimpleName() + " DID NOT CHANGE THRIFT, SKIPPING SAVE]");
+            return commandResult;
         }
+        thriftSaver.save(new ThriftSnapshot(model.getThrift()));
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        thriftSaver.setFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        thriftSaver.flush();
+    }
+
     @Override
     public ReadOnlyThrift getThrift() {
         return model.getThrift();
@@ -132,6 +149,8 @@ public class LogicManager implements Logic {
             } else if (command instanceof FindCommand) {
                 String filteredString = formatFindCommandArguments(arguments);
                 filteredBar.setFiltered(filteredString);
+            } else if (command instanceof FilterCommand) {
+                filteredBar.setFiltered("Tags: " + arguments);
             }
         } catch (ParseException e) {
             logger.severe("Unable to parse the user input at LogicManager#parseFilterable");
@@ -192,6 +211,7 @@ public class LogicManager implements Logic {
                 || command instanceof CloneCommand
                 || command instanceof DeleteCommand
                 || command instanceof ListCommand
+                || command instanceof RecurCommand
                 || command instanceof RedoCommand
                 || command instanceof UpdateCommand
                 || command instanceof UndoCommand) {
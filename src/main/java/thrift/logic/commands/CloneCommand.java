@@ -2,11 +2,9 @@ package thrift.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
-import static thrift.model.transaction.TransactionDate.DATE_FORMATTER;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -40,24 +38,28 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
             + "Format: "
             + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer)\n"
             + "[" + CliSyntax.PREFIX_OCCURRENCE
-            + "OCCURRENCE (FREQUENCY:NUMBER_OF_OCCURRENCES)]"
+            + "OCCURRENCE (FREQUENCY[*INTERVAL]:NUMBER_OF_OCCURRENCES or FREQUENCY[*INTERVAL]:END_DATE)]"
             + "\n- Valid FREQUENCY values are: \"daily\", \"weekly\", \"monthly\", \"yearly\"."
-            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - 5 with \"yearly\", 0 - 12 with other frequencies.\n"
+            + "\n- Valid INTERVAL ranges are: 1 - " + Occurrence.MAX_INTERVAL + " (1 if not given)."
+            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - " + Occurrence.MAX_OCCURRENCES + ".\n"
             + "If NUMBER_OF_OCCURRENCES is 0, one clone will be created on the same date as original "
             + "transaction as if\nno " + CliSyntax.PREFIX_OCCURRENCE + "OCCURRENCE parameter was input."
             + "\nPossible usage of " + COMMAND_WORD + ": \n"
             + "To clone the transaction at index 8 in the displayed transaction list: "
             + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8\n"
             + "To clone the transaction at index 8 5 times across next 5 months (including current month): "
-            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8 " + CliSyntax.PREFIX_OCCURRENCE + "monthly:5";
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8 " + CliSyntax.PREFIX_OCCURRENCE + "monthly:5\n"
+            + "To clone the transaction at index 8 every 2 weeks until 31 Dec 2025: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8 " + CliSyntax.PREFIX_OCCURRENCE + "weekly*2:31/12/2025";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Clones the transaction specified by its index number used in the displayed transaction list.\n"
             + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer) "
             + "[" + CliSyntax.PREFIX_OCCURRENCE
-            + "OCCURRENCE (FREQUENCY:NUMBER_OF_OCCURRENCES)]"
+            + "OCCURRENCE (FREQUENCY[*INTERVAL]:NUMBER_OF_OCCURRENCES or FREQUENCY[*INTERVAL]:END_DATE)]"
             + "\n- Valid FREQUENCY values are: \"daily\", \"weekly\", \"monthly\", \"yearly\"."
-            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - 5 with \"yearly\", 0 - 12 with other frequencies.\n"
+            + "\n- Valid INTERVAL ranges are: 1 - " + Occurrence.MAX_INTERVAL + " (1 if not given)."
+            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - " + Occurrence.MAX_OCCURRENCES + ".\n"
             + "If NUMBER_OF_OCCURRENCES is 0, one clone will be created on the same date as original "
             + "transaction as if\nno " + CliSyntax.PREFIX_OCCURRENCE + "OCCURRENCE parameter was input."
             + "\nExample: " + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1 "
@@ -65,6 +67,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
 
     public static final String MESSAGE_CLONE_TRANSACTION_SUCCESS = "Cloned transaction: %1$s";
     public static final String MESSAGE_NUM_CLONED_TRANSACTIONS = "(Cloned %s %d time(s))";
+    public static final String MESSAGE_NO_CLONES = "No clones occur on or before the end date of the occurrence.";
 
     public static final String UNDO_SUCCESS = "Deleted cloned transaction(s):\n%1$s";
     public static final String REDO_SUCCESS = "Added cloned transaction(s):\n%1$s";
@@ -73,8 +76,12 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
 
     private final Index targetIndex;
     private final Occurrence occurrence;
-    private int frequencyCalendarField;
-    private ArrayList<Transaction> clonedTransactionList;
+    /** The transaction that was cloned, which the clones are recreated from when redone. */
+    private Transaction clonedTransaction;
+    /** The day the command was executed, which the dates of the clones are regenerated from when redone. */
+    private LocalDate cloneDay;
+    /** Number of clones, which is all that is kept of them to undo the command. */
+    private int cloneCount;
 
     /**
      * Creates a CloneCommand instance to clone an {@code Expense} or {@code Income}
@@ -89,8 +96,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
         assert occurrence.getNumOccurrences() >= 0 : "Number of occurrences for clones not positive integer";
         this.targetIndex = targetIndex;
         this.occurrence = occurrence;
-        this.clonedTransactionList = new ArrayList<>();
-        this.frequencyCalendarField = 0;
+        this.clonedTransaction = null;
     }
 
     @Override
@@ -103,16 +109,16 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
         }
 
         Transaction transactionToClone = lastShownList.get(targetIndex.getZeroBased());
-        Date originalDate = transactionToClone.getDate().getDate();
-
-        frequencyCalendarField = occurrence.getFrequencyCalendarField();
-        assert (frequencyCalendarField == Calendar.DATE) || (frequencyCalendarField == Calendar.WEEK_OF_YEAR)
-                || (frequencyCalendarField == Calendar.MONTH) || (frequencyCalendarField == Calendar.YEAR)
-                : "Frequency of occurrence for clones not converted to a valid Calendar field";
+        LocalDate today = LocalDate.now();
+        List<LocalDate> dates = occurrence.getCloneDates(transactionToClone.getDate().getLocalDate(), today);
+        if (dates.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CLONES);
+        }
 
-        executeCloneOperation(originalDate, transactionToClone, model, transactionListPanel);
+        cloneDay = today;
+        executeCloneOperation(dates, transactionToClone, model, transactionListPanel);
 
-        int actualTimesCloned = occurrence.getNumOccurrences();
+        int actualTimesCloned = dates.size();
         String actualFrequency = occurrence.getFrequency();
         if (occurrence.getNumOccurrences() == 0) {
             actualTimesCloned = 1;
@@ -126,64 +132,31 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
      * Adds cloned transactions to the existing {@link Model} and scrolls to their list entries in the
      * {@link TransactionListPanel}.
      *
-     * @param originalDate of the original transaction.
+     * @param dates of the clones, in order.
      * @param transactionToClone The original transaction to be clone.
      * @param model The {@link Model} which cloned transactions should be added to.
      * @param transactionListPanel The {@link TransactionListPanel} that should scroll to the list entry of clones.
      */
-    private void executeCloneOperation(Date originalDate, Transaction transactionToClone, Model model,
+    private void executeCloneOperation(List<LocalDate> dates, Transaction transactionToClone, Model model,
                                        TransactionListPanel transactionListPanel) {
-        requireAllNonNull(originalDate, transactionToClone, model);
-        StringBuilder logDates = new StringBuilder("Clones created for: ");
-
-        int cloneNumber;
-        for (cloneNumber = 0; cloneNumber <= occurrence.getNumOccurrences(); cloneNumber++) {
-            // If cloning multiple times, skip step to clone a transaction on date of original transaction
-            if (occurrence.getNumOccurrences() > 0 && cloneNumber == 0) {
-                continue;
-            }
-
-            String date = getDateOfClone(originalDate, cloneNumber);
-
-            Transaction clonedTransaction = createClonedTransaction(transactionToClone, date);
-            clonedTransactionList.add(clonedTransaction);
-            if (clonedTransaction instanceof Expense) {
-                model.addExpense((Expense) clonedTransaction);
-            } else {
-                assert clonedTransaction instanceof Income : "Transaction to Clone not of type Expense or Income";
-                model.addIncome((Income) clonedTransaction);
-            }
-
-            logDates.append(date).append(", ");
-
-            // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
-            // handle JavaFX initialization
-            if (transactionListPanel != null && model.isInView(clonedTransaction)) {
-                int cloneIndex = model.getFilteredTransactionList().size() - 1;
-                transactionListPanel.getTransactionListView().scrollTo(cloneIndex);
-            }
+        requireAllNonNull(dates, transactionToClone, model);
+        clonedTransaction = transactionToClone;
+        cloneCount = dates.size();
+        List<Transaction> clones = new ArrayList<>(dates.size());
+        for (LocalDate localDate : dates) {
+            clones.add(createClonedTransaction(transactionToClone, TransactionDate.fromLocalDate(localDate)));
         }
+        model.addTransactions(clones);
 
-        cloneNumber = (occurrence.getNumOccurrences() == 0) ? cloneNumber : cloneNumber - 1;
-        logDates.delete(logDates.length() - 2, logDates.length());
-        logger.info("CLONED transaction [ " + transactionToClone + " ] [" + cloneNumber + " TIMES]\n"
-                + logDates);
-    }
-
-    /** Produce the date attribute of a cloned transaction.
-     *
-     * @param originalDate of the original transaction to be cloned.
-     * @param dateFieldIncrement to be added to the relevant date field of {@code originalDate}.
-     * @return {@code Date} String that cloned transaction contains.
-     */
-    private String getDateOfClone(Date originalDate, int dateFieldIncrement) {
-        requireAllNonNull(originalDate, dateFieldIncrement);
-        Calendar calendar = Calendar.getInstance();
-        if (occurrence.getNumOccurrences() > 0) {
-            calendar.setTime(originalDate);
+        // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
+        // handle JavaFX initialization
+        if (transactionListPanel != null && clones.stream().anyMatch(model::isInView)) {
+            int cloneIndex = model.getFilteredTransactionList().size() - 1;
+            transactionListPanel.getTransactionListView().scrollTo(cloneIndex);
         }
-        calendar.add(frequencyCalendarField, dateFieldIncrement);
-        return DATE_FORMATTER.format(calendar.getTime());
+
+        logger.info("CLONED transaction [ " + transactionToClone + " ] [" + cloneCount + " TIMES]\n"
+                + "Clones created from " + clones.get(0).getDate() + " to " + clones.get(cloneCount - 1).getDate());
     }
 
     /**
@@ -193,18 +166,17 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
      * @param date that the cloned Transaction should contain.
      * @return {@link Expense} or {@link Income} clone of {@code transactionToClone} containing current Date.
      */
-    private Transaction createClonedTransaction(Transaction transactionToClone, String date) {
+    private Transaction createClonedTransaction(Transaction transactionToClone, TransactionDate date) {
 
         Description clonedDescription = transactionToClone.getDescription();
         Value clonedValue = transactionToClone.getValue();
         Remark clonedRemark = transactionToClone.getRemark();
         Set<Tag> clonedTags = transactionToClone.getTags();
-        TransactionDate currentDate = new TransactionDate(date);
         if (transactionToClone instanceof Expense) {
-            return new Expense(clonedDescription, clonedValue, clonedRemark, currentDate, clonedTags);
+            return new Expense(clonedDescription, clonedValue, clonedRemark, date, clonedTags);
         } else {
             assert transactionToClone instanceof Income : "Transaction to clone not of type Expense or Income";
-            return new Income(clonedDescription, clonedValue, clonedRemark, currentDate, clonedTags);
+            return new Income(clonedDescription, clonedValue, clonedRemark, date, clonedTags);
         }
     }
 
@@ -220,11 +192,11 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
     public String undo(Model model) {
         requireAllNonNull(model, occurrence);
         StringBuilder sb = new StringBuilder();
-        int actualTimesCloned = (occurrence.getNumOccurrences() == 0) ? 1 : occurrence.getNumOccurrences();
-        assert actualTimesCloned > 0 : "The transaction should clone at least one time";
-        for (int i = 0; i < actualTimesCloned; i++) {
-            Transaction deleteTransaction = model.deleteLastTransaction();
-            sb.append(deleteTransaction).append("\n");
+        assert cloneCount > 0 : "The transaction should clone at least one time";
+        List<Transaction> deletedTransactions = model.deleteLastTransactions(cloneCount);
+        // Listed from the latest clone, as when the clones were deleted one by one
+        for (int i = deletedTransactions.size() - 1; i >= 0; i--) {
+            sb.append(deletedTransactions.get(i)).append("\n");
         }
         sb.deleteCharAt(sb.length() - 1);
         return String.format(UNDO_SUCCESS, sb.toString());
@@ -233,20 +205,24 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
     @Override
     public String redo(Model model) {
         requireAllNonNull(model, occurrence);
-        assert frequencyCalendarField == Calendar.DATE || frequencyCalendarField == Calendar.WEEK_OF_YEAR
-                || frequencyCalendarField == Calendar.MONTH || frequencyCalendarField == Calendar.YEAR
-                : "Frequency of occurrence for clone not converted to a valid Calendar field";
-        assert clonedTransactionList.size() > 0;
+        assert clonedTransaction != null && cloneDay != null;
+
+        List<LocalDate> dates;
+        try {
+            dates = occurrence.getCloneDates(clonedTransaction.getDate().getLocalDate(), cloneDay);
+        } catch (CommandException e) {
+            throw new AssertionError(e); // the frequency was checked when this was executed
+        }
+        assert dates.size() == cloneCount : "Clones regenerated differently from when the command was executed";
 
         StringBuilder sb = new StringBuilder();
-        for (Transaction clonedTransaction : clonedTransactionList) {
-            if (clonedTransaction instanceof Expense) {
-                model.addExpense((Expense) clonedTransaction);
-            } else if (clonedTransaction instanceof Income) {
-                model.addIncome((Income) clonedTransaction);
-            }
-            sb.append(clonedTransaction).append("\n");
+        List<Transaction> clones = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            Transaction clone = createClonedTransaction(clonedTransaction, TransactionDate.fromLocalDate(date));
+            clones.add(clone);
+            sb.append(clone).append("\n");
         }
+        model.addTransactions(clones);
         sb.deleteCharAt(sb.length() - 1);
         return String.format(REDO_SUCCESS, sb.toString());
     }
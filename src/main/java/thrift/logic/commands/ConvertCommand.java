@@ -3,8 +3,8 @@ package thrift.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static thrift.model.transaction.Value.DECIMAL_FORMATTER;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import thrift.logic.parser.CliSyntax;
 import thrift.model.Model;
@@ -20,12 +20,12 @@ public class ConvertCommand extends NonScrollingCommand {
     public static final String DEFAULT_VALUE = "1.00";
     public static final String DEFAULT_CURRENCY = "SGD";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts amount "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts amounts "
             + "from the first specified currency to the rest of the specified currencies.\n"
             + "If no value is specified, it converts with a value of " + DEFAULT_VALUE + ".\n"
             + "If only one currency is specified, it converts from " + DEFAULT_CURRENCY + " to that currency.\n"
             + "Note: This command works offline, so conversions might not be up to date. \n"
-            + "Parameters: [" + CliSyntax.PREFIX_VALUE + "AMOUNT] (up to 2 decimal places) "
+            + "Parameters: [" + CliSyntax.PREFIX_VALUE + "AMOUNT]... (up to 2 decimal places) "
             + CliSyntax.PREFIX_CURRENCY + "CURRENCIES...\n"
             + "Example: " + COMMAND_WORD + " "
             + CliSyntax.PREFIX_VALUE + "1000 "
@@ -42,12 +42,12 @@ public class ConvertCommand extends NonScrollingCommand {
     public static final String MESSAGE_TARGET_CURRENCY_FORMAT = "To %1$S: %1$S%2$s\n";
 
     public static final String HELP_MESSAGE = COMMAND_WORD
-            + ": Converts amount from the first specified currency to the rest of the specified currencies.\n"
+            + ": Converts amounts from the first specified currency to the rest of the specified currencies.\n"
             + "If no value is specified, it converts with a value of " + DEFAULT_VALUE + ".\n"
             + "If only one currency is specified, it converts from " + DEFAULT_CURRENCY + " to that currency.\n"
             + "Note: This command works offline, so conversions might not be up to date. \n"
             + "Format: "
-            + COMMAND_WORD + " " + "[" + CliSyntax.PREFIX_VALUE + "AMOUNT] (up to 2 decimal places) "
+            + COMMAND_WORD + " " + "[" + CliSyntax.PREFIX_VALUE + "AMOUNT]... (up to 2 decimal places) "
             + CliSyntax.PREFIX_CURRENCY + "CURRENCIES...\n"
             + "Possible usages of " + COMMAND_WORD + ": \n"
             + "To convert 500 USD to MYR: "
@@ -56,19 +56,30 @@ public class ConvertCommand extends NonScrollingCommand {
             + "To view the conversion rate from USD to MYR: "
             + COMMAND_WORD + " " + CliSyntax.PREFIX_CURRENCY + "USD " + CliSyntax.PREFIX_CURRENCY + "MYR\n"
             + "To convert a value from " + DEFAULT_CURRENCY + " to USD: "
-            + COMMAND_WORD + " " + CliSyntax.PREFIX_VALUE + "100 " + CliSyntax.PREFIX_CURRENCY + "USD"
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_VALUE + "100 " + CliSyntax.PREFIX_CURRENCY + "USD\n"
+            + "To convert several values from USD to " + DEFAULT_CURRENCY + " and MYR at once: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_VALUE + "5 " + CliSyntax.PREFIX_VALUE + "12.50 "
+            + CliSyntax.PREFIX_CURRENCY + "USD " + CliSyntax.PREFIX_CURRENCY + DEFAULT_CURRENCY + " "
+            + CliSyntax.PREFIX_CURRENCY + "MYR"
             + MESSAGE_CREDITS;
 
-    private double amount;
+    private double[] amounts;
     private List<String> currencies;
 
     public ConvertCommand(double amount, List<String> currencies) {
+        this(new double[] {amount}, currencies);
+    }
+
+    /**
+     * Creates a ConvertCommand to convert each of {@code amounts} from the first of {@code currencies} to the rest.
+     */
+    public ConvertCommand(double[] amounts, List<String> currencies) {
         assert currencies != null; //assumption: the specfied list of currencies are not null
 
-        requireNonNull(amount);
+        requireNonNull(amounts);
         requireNonNull(currencies);
 
-        this.amount = amount;
+        this.amounts = amounts;
         this.currencies = currencies;
     }
 
@@ -83,7 +94,7 @@ public class ConvertCommand extends NonScrollingCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ConvertCommand // instanceof handles nulls
-                && amount == (((ConvertCommand) other).amount)
+                && Arrays.equals(amounts, ((ConvertCommand) other).amounts)
                 && currencies.equals(((ConvertCommand) other).currencies));
     }
 
@@ -93,7 +104,7 @@ public class ConvertCommand extends NonScrollingCommand {
      * @return Result message for conversions
      */
     private String generateConvertResult() {
-        return generateConvertResult(amount, currencies);
+        return generateConvertResult(amounts, currencies);
     }
 
     /**
@@ -102,23 +113,35 @@ public class ConvertCommand extends NonScrollingCommand {
      * @return Result message for conversions
      */
     public static String generateConvertResult(double amount, List<String> currencies) {
+        return generateConvertResult(new double[] {amount}, currencies);
+    }
+
+    /**
+     * Generates the result message for converting each of {@code amounts}, with all of them converted in one batch.
+     *
+     * @return Result message for conversions
+     */
+    public static String generateConvertResult(double[] amounts, List<String> currencies) {
         assert currencies != null; //assumption: list of currencies is not null
         assert currencies.size() > 0; //assumption: at least one currency was specified
 
         StringBuilder convertResultMsgSb = new StringBuilder();
         String baseCurrency = currencies.get(0);
-
-        convertResultMsgSb.append(String.format(MESSAGE_BASE_CURRENCY_FORMAT, baseCurrency,
-                DECIMAL_FORMATTER.format(amount)));
-
+        int[] targetCurrencyIds = new int[currencies.size() - 1];
         for (int i = 1; i < currencies.size(); i++) {
-            Map<String, Double> currencyMap = CurrencyUtil.getCurrencyMap();
+            targetCurrencyIds[i - 1] = CurrencyUtil.getCurrencyId(currencies.get(i));
+        }
+        double[][] convertedValues = CurrencyUtil.convert(amounts, CurrencyUtil.getCurrencyId(baseCurrency),
+                targetCurrencyIds);
 
-            String targetCurrency = currencies.get(i);
-            double convertedValue = CurrencyUtil.convert(currencyMap, amount, baseCurrency, targetCurrency);
+        for (int amountIndex = 0; amountIndex < amounts.length; amountIndex++) {
+            convertResultMsgSb.append(String.format(MESSAGE_BASE_CURRENCY_FORMAT, baseCurrency,
+                    DECIMAL_FORMATTER.format(amounts[amountIndex])));
 
-            convertResultMsgSb.append(String.format(MESSAGE_TARGET_CURRENCY_FORMAT, targetCurrency,
-                    DECIMAL_FORMATTER.format(convertedValue)));
+            for (int i = 1; i < currencies.size(); i++) {
+                convertResultMsgSb.append(String.format(MESSAGE_TARGET_CURRENCY_FORMAT, currencies.get(i),
+                        DECIMAL_FORMATTER.format(convertedValues[i - 1][amountIndex])));
+            }
         }
 
         convertResultMsgSb.append(MESSAGE_CREDITS);
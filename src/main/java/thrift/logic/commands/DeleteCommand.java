@@ -61,7 +61,8 @@ public class DeleteCommand extends NonScrollingCommand implements Undoable {
 
         transactionToDelete = lastShownList.get(targetIndex.getZeroBased());
         assert transactionToDelete != null;
-        actualIndex = model.getIndexInFullTransactionList(transactionToDelete).get();
+        actualIndex = model.getIndexInFullTransactionList(transactionToDelete)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX));
         model.deleteTransaction(actualIndex);
         return new CommandResult(String.format(MESSAGE_DELETE_TRANSACTION_SUCCESS, transactionToDelete));
     }
@@ -0,0 +1,53 @@
+package thrift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import thrift.commons.core.Messages;
+import thrift.model.Model;
+import thrift.model.transaction.TransactionHasTagsPredicate;
+
+/**
+ * Lists all transactions in THRIFT whose tags satisfy a combination of tags.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends NonScrollingCommand {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String HELP_MESSAGE = COMMAND_WORD + ": Lists all transactions with the specified tag, or "
+            + "with a combination of tags joined by \"and\", \"or\" and \"not\" (case-sensitive), and displays them "
+            + "as a list with index numbers. \"and\" is applied before \"or\".\n"
+            + "Format: " + COMMAND_WORD + " [not] TAG [and|or [not] TAG]...\n"
+            + "Possible usages of " + COMMAND_WORD + ": \n"
+            + "To list all transactions tagged Lunch: " + COMMAND_WORD + " Lunch\n"
+            + "To list all transactions tagged Lunch or Dinner, but not Work: "
+            + COMMAND_WORD + " Lunch and not Work or Dinner and not Work";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all transactions with the specified tag, or "
+            + "with a combination of tags joined by \"and\", \"or\" and \"not\" (case-sensitive).\n"
+            + "Parameters: [not] TAG [and|or [not] TAG]...\n"
+            + "Example: " + COMMAND_WORD + " Lunch or Dinner";
+
+    private final TransactionHasTagsPredicate predicate;
+
+    public FilterCommand(TransactionHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredTransactionListToTags(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW,
+                        model.getFilteredTransactionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && predicate.equals(((FilterCommand) other).predicate)); // state check
+    }
+}
@@ -2,13 +2,20 @@ package thrift.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Objects;
+
 import thrift.commons.core.Messages;
 import thrift.model.Model;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.SearchTerm;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
 
 /**
- * Finds and lists all transactions in THRIFT whose description contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all transactions in THRIFT whose description or remark contains any of the argument keywords.
+ * Keyword matching is case insensitive. Keywords may instead be prefix, substring or fuzzy search terms, which are
+ * matched against the tag names as well.
  */
 public class FindCommand extends NonScrollingCommand {
 
@@ -17,36 +24,61 @@ public class FindCommand extends NonScrollingCommand {
     public static final String HELP_MESSAGE = COMMAND_WORD + ": Finds all transactions whose descriptions contain any "
             + "of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Format: " + COMMAND_WORD + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "- A KEYWORD of the form \"WORD*\" matches words starting with WORD, \"*WORD*\" matches words containing "
+            + "WORD and \"~WORD\" matches words spelled 1 letter away from WORD, or 2 letters away if WORD is longer "
+            + "than " + SearchTerm.MAX_LENGTH_FOR_ONE_EDIT + " letters. Tags are searched as well when any of these "
+            + "are used, and the closest match is reported.\n"
             + "Possible usage of " + COMMAND_WORD + ": \n"
             + "To find all transactions that contain the words 'alice', 'bob' and 'charlie': "
-            + COMMAND_WORD + " alice bob charlie";
+            + COMMAND_WORD + " alice bob charlie\n"
+            + "To find all transactions with a word starting with 'lak' or spelled like 'chiken': "
+            + COMMAND_WORD + " lak* ~chiken";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all transactions whose descriptions contain any "
             + "of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... (KEYWORD may also be WORD*, *WORD* or ~WORD)\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    public static final String MESSAGE_CLOSEST_MATCH = "Closest match: %1$s";
+
     private final DescriptionOrRemarkContainsKeywordsPredicate predicate;
+    private final TransactionContainsSearchTermsPredicate searchTermsPredicate;
 
     public FindCommand(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.searchTermsPredicate = null;
+    }
+
+    public FindCommand(TransactionContainsSearchTermsPredicate searchTermsPredicate) {
+        this.predicate = null;
+        this.searchTermsPredicate = searchTermsPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        assert predicate != null;
+        assert predicate != null || searchTermsPredicate != null;
+
+        if (searchTermsPredicate == null) {
+            model.updateFilteredTransactionListToKeywords(predicate);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW,
+                            model.getFilteredTransactionList().size()));
+        }
 
-        model.updateFilteredTransactionList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW,
-                        model.getFilteredTransactionList().size()));
+        List<Transaction> found = model.updateFilteredTransactionListToSearchTerms(searchTermsPredicate);
+        String listed = String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW,
+                model.getFilteredTransactionList().size());
+        return new CommandResult(found.isEmpty()
+                ? listed
+                : listed + "\n" + String.format(MESSAGE_CLOSEST_MATCH, found.get(0)));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate)
+                && Objects.equals(searchTermsPredicate, ((FindCommand) other).searchTermsPredicate)); // state check
     }
 }
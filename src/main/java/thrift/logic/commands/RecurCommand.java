@@ -0,0 +1,114 @@
+package thrift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import thrift.commons.core.Messages;
+import thrift.commons.core.index.Index;
+import thrift.logic.commands.exceptions.CommandException;
+import thrift.logic.parser.CliSyntax;
+import thrift.model.Model;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Makes a transaction specified by its index in THRIFT recur, without adding its recurrences to the transaction list.
+ */
+public class RecurCommand extends NonScrollingCommand implements Undoable {
+
+    public static final String COMMAND_WORD = "recur";
+
+    public static final String HELP_MESSAGE = COMMAND_WORD
+            + ": Makes the transaction specified by its index number used in the displayed transaction list recur.\n"
+            + "Recurrences are shown in the months they fall in, but are not added as transactions of their own.\n"
+            + "Format: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer) "
+            + CliSyntax.PREFIX_OCCURRENCE
+            + "OCCURRENCE (FREQUENCY[*INTERVAL]:NUMBER_OF_OCCURRENCES or FREQUENCY[*INTERVAL]:END_DATE)"
+            + "\n- Valid FREQUENCY values are: \"daily\", \"weekly\", \"monthly\", \"yearly\"."
+            + "\n- Valid INTERVAL ranges are: 1 - " + Occurrence.MAX_INTERVAL + " (1 if not given)."
+            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 1 - " + Occurrence.MAX_OCCURRENCES + "."
+            + "\nPossible usage of " + COMMAND_WORD + ": \n"
+            + "To make the transaction at index 8 recur every month for the next 12 months: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8 " + CliSyntax.PREFIX_OCCURRENCE + "monthly:12\n"
+            + "To make the transaction at index 8 recur every 2 weeks until 31 Dec 2025: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "8 " + CliSyntax.PREFIX_OCCURRENCE + "weekly*2:31/12/2025";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Makes the transaction specified by its index number used in the displayed transaction list recur.\n"
+            + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer) "
+            + CliSyntax.PREFIX_OCCURRENCE
+            + "OCCURRENCE (FREQUENCY[*INTERVAL]:NUMBER_OF_OCCURRENCES or FREQUENCY[*INTERVAL]:END_DATE)"
+            + "\nExample: " + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1 "
+            + CliSyntax.PREFIX_OCCURRENCE + "monthly:12";
+
+    public static final String MESSAGE_RECUR_TRANSACTION_SUCCESS = "Recurring transaction: %1$s";
+
+    public static final String UNDO_SUCCESS = "Stopped recurring transaction: %1$s";
+    public static final String REDO_SUCCESS = "Recurring transaction: %1$s";
+
+    private final Index targetIndex;
+    private final Occurrence occurrence;
+    private RecurringTransaction recurringTransaction;
+
+    /**
+     * Creates a RecurCommand to make the {@code Expense} or {@code Income} at {@code targetIndex} recur.
+     *
+     * @param targetIndex from the displayed list of the transaction to recur
+     * @param occurrence representing how often and how many times the transaction recurs
+     */
+    public RecurCommand(Index targetIndex, Occurrence occurrence) {
+        requireAllNonNull(targetIndex, occurrence);
+        this.targetIndex = targetIndex;
+        this.occurrence = occurrence;
+        this.recurringTransaction = null;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Transaction> lastShownList = model.getFilteredTransactionList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+        }
+
+        Transaction transactionToRecur = lastShownList.get(targetIndex.getZeroBased());
+        if (!model.getIndexInFullTransactionList(transactionToRecur).isPresent()) {
+            throw new CommandException(Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX);
+        }
+        if (occurrence.getNumOccurrences() == 0) {
+            throw new CommandException(RecurringTransaction.MESSAGE_NO_RECURRENCE);
+        }
+
+        recurringTransaction = new RecurringTransaction(transactionToRecur, occurrence);
+        model.addRecurringTransaction(recurringTransaction);
+        return new CommandResult(String.format(MESSAGE_RECUR_TRANSACTION_SUCCESS, recurringTransaction));
+    }
+
+    @Override
+    public String undo(Model model) {
+        requireAllNonNull(model, recurringTransaction);
+        model.deleteRecurringTransaction(recurringTransaction);
+        return String.format(UNDO_SUCCESS, recurringTransaction);
+    }
+
+    @Override
+    public String redo(Model model) {
+        requireAllNonNull(model, recurringTransaction);
+        model.addRecurringTransaction(recurringTransaction);
+        return String.format(REDO_SUCCESS, recurringTransaction);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecurCommand // instanceof handles nulls
+                && targetIndex.equals(((RecurCommand) other).targetIndex)
+                && occurrence.equals(((RecurCommand) other).occurrence)); // state check
+    }
+
+}
@@ -62,9 +62,7 @@ public class TagCommand extends ScrollingCommand implements Undoable {
     private final Index index;
     private final Set<Tag> tagSet;
     private final StringBuilder existedTags;
-    private Index actualIndex;
-    private Transaction transactionToTag;
-    private Transaction updatedTransaction;
+    private TransactionReplacement replacement;
 
     /**
      * Creates a TagCommand to tag the specified {@code Transaction}
@@ -79,9 +77,7 @@ public class TagCommand extends ScrollingCommand implements Undoable {
         this.index = index;
         this.tagSet = tagSet;
         existedTags = new StringBuilder();
-        this.actualIndex = null;
-        this.transactionToTag = null;
-        this.updatedTransaction = null;
+        this.replacement = null;
     }
 
     @Override
@@ -96,16 +92,18 @@ public class TagCommand extends ScrollingCommand implements Undoable {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
         }
 
-        transactionToTag = lastShownList.get(index.getZeroBased());
+        Transaction transactionToTag = lastShownList.get(index.getZeroBased());
+        Index actualIndex = model.getIndexInFullTransactionList(transactionToTag)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX));
         String originalTransactionNotification = String.format(MESSAGE_ORIGINAL_TRANSACTION, transactionToTag);
-        updatedTransaction = createTaggedTransaction(transactionToTag, tagSet);
+        Transaction updatedTransaction = createTaggedTransaction(transactionToTag, tagSet);
         String taggedTransactionNotification = String.format(MESSAGE_TAG_TRANSACTION_SUCCESS, updatedTransaction);
         String existedTagsNotification = existedTags.length() == 0
                 ? ""
                 : String.format(MESSAGE_TAG_EXISTED, existedTags.toString());
 
-        actualIndex = model.getIndexInFullTransactionList(transactionToTag).orElse(index);
-        model.setTransactionWithIndex(actualIndex, updatedTransaction);
+        replacement = new TransactionReplacement(actualIndex, transactionToTag, updatedTransaction);
+        replacement.redo(model);
 
         // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
         // handle JavaFX initialization
@@ -171,17 +169,20 @@ public class TagCommand extends ScrollingCommand implements Undoable {
 
     @Override
     public String undo(Model model) {
-        requireAllNonNull(model, actualIndex, updatedTransaction, transactionToTag);
-        assert actualIndex.getZeroBased() >= 0;
-        model.setTransactionWithIndex(actualIndex, transactionToTag);
-        return String.format(UNDO_SUCCESS, transactionToTag, updatedTransaction);
+        requireAllNonNull(model, replacement);
+        replacement.undo(model);
+        return String.format(UNDO_SUCCESS, replacement.getOriginal(), replacement.getReplacement());
     }
 
     @Override
     public String redo(Model model) {
-        requireAllNonNull(model, actualIndex, updatedTransaction, transactionToTag);
-        assert actualIndex.getZeroBased() >= 0;
-        model.setTransactionWithIndex(actualIndex, updatedTransaction);
-        return String.format(REDO_SUCCESS, updatedTransaction, transactionToTag);
+        requireAllNonNull(model, replacement);
+        replacement.redo(model);
+        return String.format(REDO_SUCCESS, replacement.getReplacement(), replacement.getOriginal());
+    }
+
+    @Override
+    public int getRetainedTransactionCount() {
+        return 2;
     }
 }
@@ -0,0 +1,54 @@
+package thrift.logic.commands;
+
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import thrift.commons.core.index.Index;
+import thrift.model.Model;
+import thrift.model.transaction.Transaction;
+
+/**
+ * The replacement of a transaction at a position in the full transaction list, which is all that a command that
+ * changes a single transaction has to keep to undo and redo the change.
+ */
+class TransactionReplacement {
+
+    private final Index actualIndex;
+    private final Transaction original;
+    private final Transaction replacement;
+
+    /**
+     * @param actualIndex position of the transaction in the full transaction list
+     * @param original transaction before the change
+     * @param replacement transaction after the change
+     */
+    TransactionReplacement(Index actualIndex, Transaction original, Transaction replacement) {
+        requireAllNonNull(actualIndex, original, replacement);
+        assert actualIndex.getZeroBased() >= 0;
+        this.actualIndex = actualIndex;
+        this.original = original;
+        this.replacement = replacement;
+    }
+
+    Transaction getOriginal() {
+        return original;
+    }
+
+    Transaction getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Puts the original transaction back in place of the replacement.
+     */
+    void undo(Model model) {
+        model.setTransactionWithIndex(actualIndex, original);
+    }
+
+    /**
+     * Puts the replacement back in place of the original transaction.
+     */
+    void redo(Model model) {
+        model.setTransactionWithIndex(actualIndex, replacement);
+    }
+
+}
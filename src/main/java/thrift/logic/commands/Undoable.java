@@ -24,4 +24,14 @@ public interface Undoable {
      * @return feedback message of the operation result for display.
      */
     String redo(Model model);
+
+    /**
+     * Returns the number of transactions that this command keeps to undo and redo itself, which is how the size of
+     * the undo history is measured.
+     *
+     * @return number of transactions kept by this command.
+     */
+    default int getRetainedTransactionCount() {
+        return 1;
+    }
 }
@@ -75,9 +75,7 @@ public class UpdateCommand extends ScrollingCommand implements Undoable {
 
     private final Index index;
     private final UpdateTransactionDescriptor updateTransactionDescriptor;
-    private Index actualIndex;
-    private Transaction transactionToUpdate;
-    private Transaction updatedTransaction;
+    private TransactionReplacement replacement;
 
     /**
      * @param index of the transaction in the filtered transaction list to update
@@ -89,9 +87,7 @@ public class UpdateCommand extends ScrollingCommand implements Undoable {
         assert index.getZeroBased() >= 0 : "Index of transaction to be updated is negative";
         this.index = index;
         this.updateTransactionDescriptor = new UpdateTransactionDescriptor(updateTransactionDescriptor);
-        this.actualIndex = null;
-        this.transactionToUpdate = null;
-        this.updatedTransaction = null;
+        this.replacement = null;
     }
 
     /**
@@ -111,15 +107,17 @@ public class UpdateCommand extends ScrollingCommand implements Undoable {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
         }
 
-        transactionToUpdate = lastShownList.get(index.getZeroBased());
+        Transaction transactionToUpdate = lastShownList.get(index.getZeroBased());
+        Index actualIndex = model.getIndexInFullTransactionList(transactionToUpdate)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX));
         String originalTransactionNotification = String.format(MESSAGE_ORIGINAL_TRANSACTION, transactionToUpdate);
 
-        updatedTransaction = createUpdatedTransaction(transactionToUpdate, updateTransactionDescriptor);
+        Transaction updatedTransaction = createUpdatedTransaction(transactionToUpdate, updateTransactionDescriptor);
         logger.info("Instance of [UPDATED TRANSACTION] [" + updatedTransaction + "] created");
         String updatedTransactionNotification = String.format(MESSAGE_UPDATE_TRANSACTION_SUCCESS, updatedTransaction);
 
-        actualIndex = model.getIndexInFullTransactionList(transactionToUpdate).get();
-        model.setTransactionWithIndex(actualIndex, updatedTransaction);
+        replacement = new TransactionReplacement(actualIndex, transactionToUpdate, updatedTransaction);
+        replacement.redo(model);
 
         // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
         // handle JavaFX initialization
@@ -173,18 +171,21 @@ public class UpdateCommand extends ScrollingCommand implements Undoable {
 
     @Override
     public String undo(Model model) {
-        requireAllNonNull(model, transactionToUpdate, updatedTransaction, actualIndex);
-        assert actualIndex.getZeroBased() >= 0;
-        model.setTransactionWithIndex(actualIndex, transactionToUpdate);
-        return String.format(UNDO_SUCCESS, transactionToUpdate, updatedTransaction);
+        requireAllNonNull(model, replacement);
+        replacement.undo(model);
+        return String.format(UNDO_SUCCESS, replacement.getOriginal(), replacement.getReplacement());
     }
 
     @Override
     public String redo(Model model) {
-        requireAllNonNull(model, transactionToUpdate, updatedTransaction, actualIndex);
-        assert actualIndex.getZeroBased() >= 0;
-        model.setTransactionWithIndex(actualIndex, updatedTransaction);
-        return String.format(REDO_SUCCESS, updatedTransaction, transactionToUpdate);
+        requireAllNonNull(model, replacement);
+        replacement.redo(model);
+        return String.format(REDO_SUCCESS, replacement.getReplacement(), replacement.getOriginal());
+    }
+
+    @Override
+    public int getRetainedTransactionCount() {
+        return 2;
     }
 
     /**
@@ -1,8 +1,6 @@
 package thrift.logic.parser;
 
-import static thrift.model.transaction.TransactionDate.DATE_FORMATTER;
-
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -68,7 +66,7 @@ public abstract class AddTransactionCommandParser {
      * @return {@code TransactionDate} object based on the current System's date.
      */
     protected TransactionDate parseTransactionDate() {
-        return new TransactionDate(DATE_FORMATTER.format(new Date()));
+        return TransactionDate.fromLocalDate(LocalDate.now());
     }
 
     /**
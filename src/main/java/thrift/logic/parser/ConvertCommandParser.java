@@ -25,13 +25,18 @@ public class ConvertCommandParser implements Parser<ConvertCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_VALUE, CliSyntax.PREFIX_CURRENCY);
 
-        double value;
+        double[] values;
         List<String> currencies;
 
         try {
-            String valueString = argMultimap.getSingleValue(CliSyntax.PREFIX_VALUE).orElse("1.00");
-            value = ParserUtil.parseValue(valueString).getMonetaryValue();
-
+            List<String> valueStrings = argMultimap.getAllValues(CliSyntax.PREFIX_VALUE);
+            if (valueStrings.isEmpty()) {
+                valueStrings = List.of(ConvertCommand.DEFAULT_VALUE);
+            }
+            values = new double[valueStrings.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ParserUtil.parseValue(valueStrings.get(i)).getMonetaryValue();
+            }
 
             List<String> currencyStrings = argMultimap.getAllValues(CliSyntax.PREFIX_CURRENCY);
             if (currencyStrings.isEmpty()) {
@@ -48,6 +53,6 @@ public class ConvertCommandParser implements Parser<ConvertCommand> {
                             pe.getMessage()), pe);
         }
 
-        return new ConvertCommand(value, currencies);
+        return new ConvertCommand(values, currencies);
     }
 }
@@ -0,0 +1,80 @@
+package thrift.logic.parser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import thrift.commons.core.Messages;
+import thrift.logic.commands.FilterCommand;
+import thrift.logic.parser.exceptions.ParseException;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.TransactionHasTagsPredicate;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * The tags are joined by "and" and "or", where "and" is applied first, and each tag may be preceded by "not".
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        List<TransactionHasTagsPredicate.Clause> clauses = new ArrayList<>();
+        Set<Tag> required = new HashSet<>();
+        Set<Tag> excluded = new HashSet<>();
+        String[] words = trimmedArgs.split("\\s+");
+        int i = 0;
+        while (true) {
+            boolean isExcluded = words[i].equalsIgnoreCase(NOT);
+            if (isExcluded) {
+                i++;
+            }
+            if (i >= words.length || isOperator(words[i])) {
+                throw invalidFormat();
+            }
+            Tag tag = ParserUtil.parseTag(words[i]);
+            if (isExcluded) {
+                excluded.add(tag);
+            } else {
+                required.add(tag);
+            }
+            i++;
+
+            if (i == words.length || words[i].equalsIgnoreCase(OR)) {
+                clauses.add(new TransactionHasTagsPredicate.Clause(required, excluded));
+                required = new HashSet<>();
+                excluded = new HashSet<>();
+            }
+            if (i == words.length) {
+                break;
+            }
+            if (!isOperator(words[i]) || words[i].equalsIgnoreCase(NOT) || i + 1 == words.length) {
+                throw invalidFormat();
+            }
+            i++;
+        }
+        return new FilterCommand(new TransactionHasTagsPredicate(clauses));
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equalsIgnoreCase(AND) || word.equalsIgnoreCase(OR) || word.equalsIgnoreCase(NOT);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -1,17 +1,24 @@
 package thrift.logic.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import thrift.commons.core.Messages;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.SearchTerm;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String WILDCARD = "*";
+    private static final String FUZZY_MARKER = "~";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -27,7 +34,46 @@ public class FindCommandParser implements Parser<FindCommand> {
         String[] nameKeywords = trimmedArgs.split("\\s+");
         assert nameKeywords[0] != null;
 
-        return new FindCommand(new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (Arrays.stream(nameKeywords).noneMatch(FindCommandParser::isSearchPattern)) {
+            return new FindCommand(new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        List<SearchTerm> searchTerms = new ArrayList<>();
+        for (String keyword : nameKeywords) {
+            searchTerms.add(parseSearchTerm(keyword));
+        }
+        return new FindCommand(new TransactionContainsSearchTermsPredicate(searchTerms));
+    }
+
+    private static boolean isSearchPattern(String keyword) {
+        return keyword.startsWith(FUZZY_MARKER) || keyword.endsWith(WILDCARD);
+    }
+
+    /**
+     * Parses {@code keyword} into a {@code SearchTerm}, where "WORD*" is a prefix, "*WORD*" a substring and "~WORD" a
+     * fuzzy term. Other keywords only match whole words.
+     *
+     * @throws ParseException if the word of the given {@code keyword} is empty.
+     */
+    private static SearchTerm parseSearchTerm(String keyword) throws ParseException {
+        SearchTerm.Type type = SearchTerm.Type.WORD;
+        String word = keyword;
+        if (keyword.startsWith(FUZZY_MARKER)) {
+            type = SearchTerm.Type.FUZZY;
+            word = keyword.substring(FUZZY_MARKER.length());
+        } else if (keyword.length() > WILDCARD.length() && keyword.startsWith(WILDCARD) && keyword.endsWith(WILDCARD)) {
+            type = SearchTerm.Type.SUBSTRING;
+            word = keyword.substring(WILDCARD.length(), keyword.length() - WILDCARD.length());
+        } else if (keyword.endsWith(WILDCARD)) {
+            type = SearchTerm.Type.PREFIX;
+            word = keyword.substring(0, keyword.length() - WILDCARD.length());
+        }
+
+        if (word.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new SearchTerm(type, word);
     }
 
 }
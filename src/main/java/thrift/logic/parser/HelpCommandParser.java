@@ -10,9 +10,11 @@ import thrift.logic.commands.CloneCommand;
 import thrift.logic.commands.ConvertCommand;
 import thrift.logic.commands.DeleteCommand;
 import thrift.logic.commands.ExitCommand;
+import thrift.logic.commands.FilterCommand;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.commands.HelpCommand;
 import thrift.logic.commands.ListCommand;
+import thrift.logic.commands.RecurCommand;
 import thrift.logic.commands.RedoCommand;
 import thrift.logic.commands.TagCommand;
 import thrift.logic.commands.UndoCommand;
@@ -45,12 +47,16 @@ public class HelpCommandParser implements Parser<HelpCommand> {
             return new HelpCommand(DeleteCommand.HELP_MESSAGE);
         case ExitCommand.COMMAND_WORD:
             return new HelpCommand(ExitCommand.HELP_MESSAGE);
+        case FilterCommand.COMMAND_WORD:
+            return new HelpCommand(FilterCommand.HELP_MESSAGE);
         case FindCommand.COMMAND_WORD:
             return new HelpCommand(FindCommand.HELP_MESSAGE);
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand(HelpCommand.HELP_MESSAGE);
         case ListCommand.COMMAND_WORD:
             return new HelpCommand(ListCommand.HELP_MESSAGE);
+        case RecurCommand.COMMAND_WORD:
+            return new HelpCommand(RecurCommand.HELP_MESSAGE);
         case RedoCommand.COMMAND_WORD:
             return new HelpCommand(RedoCommand.HELP_MESSAGE);
         case TagCommand.COMMAND_WORD:
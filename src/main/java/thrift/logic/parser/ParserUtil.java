@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static thrift.model.transaction.Budget.BUDGET_DATE_FORMAT;
 
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -11,6 +12,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import thrift.commons.core.index.Index;
 import thrift.commons.util.StringUtil;
@@ -21,6 +23,7 @@ import thrift.model.transaction.Budget;
 import thrift.model.transaction.BudgetValue;
 import thrift.model.transaction.Description;
 import thrift.model.transaction.Remark;
+import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
 import thrift.model.util.CurrencyUtil;
 
@@ -32,6 +35,8 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_CURRENCY = "Currency entered is not valid. (Must exist)";
 
+    private static final Pattern CURRENCY_PATTERN = Pattern.compile("[A-Za-z]+");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -53,7 +58,7 @@ public class ParserUtil {
     public static Description parseDescription(String description) {
         requireNonNull(description);
         String trimmedDescription = description.trim();
-        return new Description(trimmedDescription);
+        return Description.valueOf(trimmedDescription);
     }
 
     /**
@@ -66,7 +71,7 @@ public class ParserUtil {
         Calendar date = Calendar.getInstance();
 
         String trimmedMonthYear = monthYear.trim();
-        if (!trimmedMonthYear.matches(Budget.VALIDATION_REGEX)) {
+        if (!Budget.isValidMonthYear(trimmedMonthYear)) {
             throw new ParseException(Budget.DATE_CONSTRAINTS);
         }
 
@@ -87,10 +92,7 @@ public class ParserUtil {
     public static Value parseValue(String value) throws ParseException {
         requireNonNull(value);
         String trimmedValue = value.trim();
-        if (!Value.isValidValue(trimmedValue)) {
-            throw new ParseException(Value.VALUE_CONSTRAINTS);
-        }
-        return new Value(trimmedValue);
+        return Value.tryParse(trimmedValue).orElseThrow(() -> new ParseException(Value.VALUE_CONSTRAINTS));
     }
 
     /**
@@ -102,10 +104,8 @@ public class ParserUtil {
     public static BudgetValue parseBudgetValue(String value) throws ParseException {
         requireNonNull(value);
         String trimmedValue = value.trim();
-        if (!BudgetValue.isValidValue(trimmedValue)) {
-            throw new ParseException(BudgetValue.VALUE_CONSTRAINTS);
-        }
-        return new BudgetValue(trimmedValue);
+        return BudgetValue.tryParse(trimmedValue)
+                .orElseThrow(() -> new ParseException(BudgetValue.VALUE_CONSTRAINTS));
     }
 
     /**
@@ -115,7 +115,7 @@ public class ParserUtil {
     public static Remark parseRemark(String remark) {
         requireNonNull(remark);
         String trimmedRemark = remark.trim();
-        return new Remark(trimmedRemark);
+        return Remark.valueOf(trimmedRemark);
     }
 
     /**
@@ -130,7 +130,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.valueOf(trimmedTag);
     }
 
     /**
@@ -156,11 +156,10 @@ public class ParserUtil {
         requireNonNull(currencies);
         final List<String> currencyList = new ArrayList<String>();
         for (String currency : currencies) {
-            if (!currency.matches("[A-Za-z]+")) {
+            if (!CURRENCY_PATTERN.matcher(currency).matches()) {
                 throw new ParseException(MESSAGE_INVALID_CURRENCY);
             }
-            if (!CurrencyUtil.getCurrencyMap().containsKey(currency.toUpperCase())
-                    && !CurrencyUtil.getDefaultMap().containsKey(currency.toUpperCase())) {
+            if (!CurrencyUtil.isKnownCurrency(currency)) {
                 throw new ParseException(MESSAGE_INVALID_CURRENCY);
             }
 
@@ -190,26 +189,45 @@ public class ParserUtil {
 
     /**
      * Parses a String representing occurrence into an {@code Occurrence}.
+     * The occurrence is in the format {@code FREQUENCY[*INTERVAL]:NUMBER_OF_OCCURRENCES} or
+     * {@code FREQUENCY[*INTERVAL]:END_DATE}, where clones up to {@link Occurrence#MAX_OCCURRENCES} are created until
+     * {@code END_DATE}.
      *
      * @param inputOccurrence String to be parsed into Occurrence.
-     * @throws ParseException if given {@code inputOccurrence} has invalid {@code frequency} or {@code numOccurrences}.
+     * @throws ParseException if given {@code inputOccurrence} has invalid {@code frequency}, {@code interval},
+     *     {@code numOccurrences} or {@code endDate}.
      */
     public static Occurrence parseOccurrence(String inputOccurrence) throws ParseException {
         requireNonNull(inputOccurrence);
         try {
             String[] occurrenceParts = inputOccurrence.split(":");
-            String frequency = occurrenceParts[0].trim().toLowerCase();
-            if (!Occurrence.isValidFrequency(frequency) || occurrenceParts.length != 2) {
-                // Throw exception if frequency invalid or input occurrence string has missing or extra parts
+            if (occurrenceParts.length != 2) {
+                // Throw exception if input occurrence string has missing or extra parts
+                throw new ParseException(Occurrence.OCCURRENCE_CONSTRAINTS);
+            }
+
+            String[] frequencyParts = occurrenceParts[0].split("\\*", -1);
+            String frequency = frequencyParts[0].trim().toLowerCase();
+            if (!Occurrence.isValidFrequency(frequency) || frequencyParts.length > 2) {
+                throw new ParseException(Occurrence.OCCURRENCE_CONSTRAINTS);
+            }
+            int interval = frequencyParts.length == 2 ? Integer.parseInt(frequencyParts[1].trim()) : 1;
+            if (interval < 1 || interval > Occurrence.MAX_INTERVAL) {
                 throw new ParseException(Occurrence.OCCURRENCE_CONSTRAINTS);
             }
 
-            int numOccurrences = Integer.parseInt(occurrenceParts[1].trim());
-            if (numOccurrences < 0 || numOccurrences > 12 || ("yearly".equals(frequency) && numOccurrences > 5)) {
-                // Throw exception if number of occurrences invalid for its frequency
+            String numOccurrencesOrEndDate = occurrenceParts[1].trim();
+            if (TransactionDate.isValidDate(numOccurrencesOrEndDate)) {
+                LocalDate endDate = new TransactionDate(numOccurrencesOrEndDate).getLocalDate();
+                return new Occurrence(frequency, Occurrence.MAX_OCCURRENCES, interval, endDate);
+            }
+
+            int numOccurrences = Integer.parseInt(numOccurrencesOrEndDate);
+            if (numOccurrences < 0 || numOccurrences > Occurrence.MAX_OCCURRENCES) {
+                // Throw exception if number of occurrences invalid
                 throw new ParseException(Occurrence.OCCURRENCE_CONSTRAINTS);
             }
-            return new Occurrence(frequency, numOccurrences);
+            return new Occurrence(frequency, numOccurrences, interval, null);
         } catch (ParseException | NumberFormatException e) {
             throw new ParseException(Occurrence.OCCURRENCE_CONSTRAINTS);
         }
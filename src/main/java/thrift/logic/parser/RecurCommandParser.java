@@ -0,0 +1,40 @@
+package thrift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import thrift.commons.core.Messages;
+import thrift.commons.core.index.Index;
+import thrift.logic.commands.RecurCommand;
+import thrift.logic.parser.exceptions.ParseException;
+import thrift.model.clone.Occurrence;
+
+/**
+ * Parses input arguments and creates a new RecurCommand object
+ */
+public class RecurCommandParser implements Parser<RecurCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RecurCommand
+     * and returns a RecurCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RecurCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_INDEX,
+                CliSyntax.PREFIX_OCCURRENCE);
+
+        try {
+            Index index = ParserUtil.parseIndex(argMultimap.getIndexFromCommand());
+            if (!argMultimap.getValue(CliSyntax.PREFIX_OCCURRENCE).isPresent()) {
+                throw new ParseException(RecurCommand.MESSAGE_USAGE);
+            }
+            Occurrence occurrence =
+                    ParserUtil.parseOccurrence(argMultimap.getSingleValue(CliSyntax.PREFIX_OCCURRENCE).get());
+            return new RecurCommand(index, occurrence);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RecurCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -14,9 +14,11 @@ import thrift.logic.commands.Command;
 import thrift.logic.commands.ConvertCommand;
 import thrift.logic.commands.DeleteCommand;
 import thrift.logic.commands.ExitCommand;
+import thrift.logic.commands.FilterCommand;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.commands.HelpCommand;
 import thrift.logic.commands.ListCommand;
+import thrift.logic.commands.RecurCommand;
 import thrift.logic.commands.RedoCommand;
 import thrift.logic.commands.TagCommand;
 import thrift.logic.commands.UndoCommand;
@@ -76,6 +78,9 @@ public class ThriftParser {
         case CloneCommand.COMMAND_WORD:
             return new CloneCommandParser().parse(arguments);
 
+        case RecurCommand.COMMAND_WORD:
+            return new RecurCommandParser().parse(arguments);
+
         /*
          * Deleting transactions command.
          */
@@ -97,6 +102,9 @@ public class ThriftParser {
         /*
          * Filtered transaction list manipulation commands.
          */
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
@@ -1,19 +1,27 @@
 package thrift.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import thrift.commons.core.GuiSettings;
 import thrift.commons.core.index.Index;
 import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 
 /**
  * The API of the Model component.
@@ -60,6 +68,11 @@ public interface Model {
     /** Returns THRIFT */
     ReadOnlyThrift getThrift();
 
+    /**
+     * Returns the number of changes made to THRIFT so far. THRIFT is unchanged if the count has not changed.
+     */
+    long getThriftModificationCount();
+
     /**
      * Returns true if a transaction with the same identity as {@code transaction} exists in the transactions list.
      */
@@ -91,6 +104,13 @@ public interface Model {
      */
     Transaction deleteLastTransaction();
 
+    /**
+     * Deletes the last {@code count} transactions in the full transaction list, all at once.
+     *
+     * @return deleted transactions, in the order they were in the list.
+     */
+    List<Transaction> deleteLastTransactions(int count);
+
     /**
      * Adds the given expense.
      */
@@ -111,6 +131,23 @@ public interface Model {
      */
     void addIncome(Income income, Index index);
 
+    /**
+     * Adds the given expenses and incomes, in order, all at once.
+     */
+    void addTransactions(List<Transaction> transactions);
+
+    /**
+     * Adds the given recurring transaction, whose recurrences are shown and counted without being added to the
+     * transactions list.
+     */
+    void addRecurringTransaction(RecurringTransaction recurringTransaction);
+
+    /**
+     * Deletes the given recurring transaction.
+     * The recurring transaction must exist in THRIFT.
+     */
+    void deleteRecurringTransaction(RecurringTransaction recurringTransaction);
+
     /**
      * Sets the monthly budget to the specified budget.
      *
@@ -138,6 +175,12 @@ public interface Model {
      */
     void setTransactionWithIndex(Index actualIndex, Transaction updatedTransaction);
 
+    /**
+     * Replaces each transaction in the full transaction list with the result of applying {@code operator} to it,
+     * all at once.
+     */
+    void replaceAllTransactions(UnaryOperator<Transaction> operator);
+
     /** Returns the current month and year in MMM yyyy format. */
     String getCurrentMonthYear();
 
@@ -149,7 +192,22 @@ public interface Model {
     /** Returns the current month's budget. */
     double getCurrentMonthBudget();
 
-    /** Returns an unmodifiable view of the filtered transaction list */
+    /**
+     * Returns the transactions in the full transaction list that occur in {@code yearMonth}, ordered by date,
+     * together with the recurrences of the recurring transactions in that month.
+     */
+    List<Transaction> getTransactionsInMonth(YearMonth yearMonth);
+
+    /**
+     * Returns the transactions in the full transaction list that occur from {@code start} to {@code end},
+     * both inclusive, ordered by date, together with the recurrences of the recurring transactions in that period.
+     */
+    List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns an unmodifiable view of the filtered transaction list, which is the full transaction list followed by
+     * the recurrences of the recurring transactions in the current month.
+     */
     ObservableList<Transaction> getFilteredTransactionList();
 
     /** Filters the view of the transaction list to only show transactions that occur in the current month. */
@@ -162,6 +220,32 @@ public interface Model {
      */
     void updateFilteredTransactionList(Predicate<Transaction> predicate);
 
+    /**
+     * Updates the filter of the filtered transaction list to the transactions matched by {@code predicate}, looking
+     * up the keywords of the predicate in the keyword index of the transaction list instead of testing each
+     * transaction against them.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredTransactionListToKeywords(DescriptionOrRemarkContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered transaction list to the transactions matched by {@code predicate}, looking
+     * up its search terms in the trigram index of the transaction list.
+     *
+     * @return the matched transactions in the transaction list, closest matches first.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Transaction> updateFilteredTransactionListToSearchTerms(TransactionContainsSearchTermsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered transaction list to the transactions matched by {@code predicate}, combining
+     * the bitmaps of its tags in the tag index of the transaction list.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredTransactionListToTags(TransactionHasTagsPredicate predicate);
+
     /**
      * Updates the balance tracked by the model by summing values from the {@code Transaction} in the filteredList.
      */
@@ -5,23 +5,33 @@ import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import thrift.commons.core.GuiSettings;
 import thrift.commons.core.LogsCenter;
 import thrift.commons.core.index.Index;
 import thrift.commons.util.CollectionUtil;
 import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
 import thrift.model.transaction.Expense;
+import thrift.model.transaction.FilteredTransactionList;
 import thrift.model.transaction.Income;
+import thrift.model.transaction.MonthlyTotals;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 import thrift.model.transaction.TransactionIsInMonthYearPredicate;
 
 /**
@@ -33,7 +43,11 @@ public class ModelManager implements Model {
 
     private final Thrift thrift;
     private final UserPrefs userPrefs;
-    private final FilteredList<Transaction> filteredTransactions;
+    /**
+     * The transactions shown, followed by the recurrences of the recurring transactions in the current month, which
+     * are the only recurrences ever generated for display.
+     */
+    private final FilteredTransactionList filteredTransactions;
     private final PastUndoableCommands pastUndoableCommands;
     private Calendar currentMonthYear;
     private double balance;
@@ -51,9 +65,13 @@ public class ModelManager implements Model {
 
         this.thrift = new Thrift(thrift);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredTransactions = new FilteredList<>(this.thrift.getTransactionList());
+        filteredTransactions = new FilteredTransactionList(this.thrift.getTransactionList());
         pastUndoableCommands = new PastUndoableCommands();
         currentMonthYear = Calendar.getInstance();
+        this.thrift.addTransactionListener(filteredTransactions);
+        this.thrift.getRecurringTransactionList().addListener((ListChangeListener<RecurringTransaction>) change ->
+                refreshRecurrencesInView());
+        refreshRecurrencesInView();
         balance = 0;
         expense = 0;
     }
@@ -109,6 +127,11 @@ public class ModelManager implements Model {
         return thrift;
     }
 
+    @Override
+    public long getThriftModificationCount() {
+        return thrift.getModificationCount();
+    }
+
     @Override
     public boolean hasTransaction(Transaction t) {
         requireNonNull(t);
@@ -135,6 +158,12 @@ public class ModelManager implements Model {
         return thrift.removeLastTransaction();
     }
 
+    @Override
+    public List<Transaction> deleteLastTransactions(int count) {
+        int size = thrift.getTransactionList().size();
+        return thrift.removeTransactionRange(size - count, size);
+    }
+
     @Override
     public void addExpense(Expense expense) {
         thrift.addTransaction(expense);
@@ -155,6 +184,24 @@ public class ModelManager implements Model {
         thrift.addTransaction(income, index);
     }
 
+    @Override
+    public void addTransactions(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        thrift.addTransactions(transactions);
+    }
+
+    @Override
+    public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        thrift.addRecurringTransaction(recurringTransaction);
+    }
+
+    @Override
+    public void deleteRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        thrift.removeRecurringTransaction(recurringTransaction);
+    }
+
     @Override
     public String getCurrentMonthYear() {
         return new SimpleDateFormat("MMMMM yyyy").format(currentMonthYear.getTime());
@@ -162,9 +209,16 @@ public class ModelManager implements Model {
 
     @Override
     public double getCurrentMonthBudget() {
+        return getCurrentMonthBudgetMinorUnits() / 100.0;
+    }
+
+    /**
+     * Returns the budget of the current month in hundredths, or 0 if there is no budget for the month.
+     */
+    private long getCurrentMonthBudgetMinorUnits() {
         Optional<Budget> optBudget = thrift.getBudgetList().getBudgetForMonthYear(currentMonthYear);
         if (optBudget.isPresent()) {
-            return optBudget.get().getBudgetValue().getMonetaryValue();
+            return optBudget.get().getBudgetValue().getMonetaryMinorUnits();
         } else {
             return 0;
         }
@@ -196,12 +250,57 @@ public class ModelManager implements Model {
         updateBalanceForCurrentMonth();
     }
 
+    @Override
+    public void replaceAllTransactions(UnaryOperator<Transaction> operator) {
+        requireNonNull(operator);
+        thrift.replaceAllTransactions(operator);
+        updateBalanceForCurrentMonth();
+    }
+
     @Override
     public void setCurrentMonthYear(Calendar monthYear) {
         this.currentMonthYear = monthYear;
+        refreshRecurrencesInView();
+    }
+
+    @Override
+    public List<Transaction> getTransactionsInMonth(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return thrift.getTransactionsInMonth(yearMonth);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return thrift.getTransactionsBetween(start, end);
     }
 
     //=========== Filtered Transaction List Accessors =============================================================
+
+    /**
+     * Replaces the recurrences in {@link #filteredTransactions} with those of the recurring transactions in the
+     * current month.
+     */
+    private void refreshRecurrencesInView() {
+        YearMonth yearMonth = getCurrentYearMonth();
+        filteredTransactions.setRecurrences(
+                thrift.getRecurrencesBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth()));
+    }
+
+    /**
+     * Returns the total value of the recurrences in the current month that are of {@code type}, in hundredths of
+     * {@link thrift.model.transaction.Value#DEFAULT_CURRENCY}.
+     */
+    private long getRecurrenceTotalMinorUnits(Class<? extends Transaction> type) {
+        long total = 0;
+        for (Transaction recurrence : filteredTransactions.getRecurrences()) {
+            if (type.isInstance(recurrence)) {
+                total += recurrence.getValue().getMonetaryMinorUnits(recurrence.getDate().getLocalDate());
+            }
+        }
+        return total;
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Transaction} backed by the internal list of
      * {@code versionedThrift}
@@ -214,38 +313,54 @@ public class ModelManager implements Model {
     /** Filters the view of the transaction list to only show transactions that occur in the current month. */
     @Override
     public void updateFilteredTransactionListToCurrentMonth() {
-        filteredTransactions.setPredicate(new TransactionIsInMonthYearPredicate(currentMonthYear));
+        YearMonth yearMonth = getCurrentYearMonth();
+        filteredTransactions.setFilter(new TransactionIsInMonthYearPredicate(yearMonth), () ->
+                thrift.getTransactionPositionsInMonth(yearMonth));
         updateBalanceForCurrentMonth();
     }
 
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
         requireNonNull(predicate);
-        filteredTransactions.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_TRANSACTIONS) {
+            filteredTransactions.showAll();
+        } else {
+            filteredTransactions.setFilter(predicate);
+        }
+    }
+
+    @Override
+    public void updateFilteredTransactionListToKeywords(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredTransactions.setFilter(predicate, () ->
+                thrift.getTransactionPositionsContainingAnyWord(predicate.getKeywords()));
+    }
+
+    @Override
+    public List<Transaction> updateFilteredTransactionListToSearchTerms(
+            TransactionContainsSearchTermsPredicate predicate) {
+        requireNonNull(predicate);
+        List<Transaction> found = thrift.searchTransactions(predicate.getSearchTerms());
+        filteredTransactions.setFilter(predicate, () ->
+                thrift.getTransactionPositionsMatching(predicate.getSearchTerms()));
+        return found;
+    }
+
+    @Override
+    public void updateFilteredTransactionListToTags(TransactionHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredTransactions.setFilter(predicate, () -> thrift.getTransactionPositionsWithTags(predicate));
     }
 
     @Override
     public void updateBalanceForCurrentMonth() {
-        //If transaction does not belong to current displayed month, don't update the balance.
         logger.info("Original balance: " + balance);
-        balance = getCurrentMonthBudget() + thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> {
-                    double value = t.getValue().getMonetaryValue();
-                    if (t instanceof Expense) {
-                        return value * -1;
-                    }
-                    return value;
-                })
-                .sum();
+        YearMonth yearMonth = getCurrentYearMonth();
+        MonthlyTotals monthlyTotals = thrift.getMonthlyTotals();
+        long balanceMinorUnits = getCurrentMonthBudgetMinorUnits() + monthlyTotals.getIncomeMinorUnits(yearMonth)
+                + getRecurrenceTotalMinorUnits(Income.class) - monthlyTotals.getExpenseMinorUnits(yearMonth)
+                - getRecurrenceTotalMinorUnits(Expense.class);
+        balance = balanceMinorUnits / 100.0;
         logger.info("Updated balance: " + balance);
     }
 
@@ -256,21 +371,9 @@ public class ModelManager implements Model {
 
     @Override
     public void updateExpenseForCurrentMonth() {
-        //If transaction does not belong to current displayed month and not an expense, don't update the expense.
         logger.info("Original expense: " + expense);
-        expense = thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)
-                            || t instanceof Income) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> t.getValue().getMonetaryValue())
-                .sum();
+        expense = (thrift.getMonthlyTotals().getExpenseMinorUnits(getCurrentYearMonth())
+                + getRecurrenceTotalMinorUnits(Expense.class)) / 100.0;
         logger.info("Updated expense: " + expense);
     }
 
@@ -281,24 +384,19 @@ public class ModelManager implements Model {
 
     @Override
     public void updateIncomeForCurrentMonth() {
-        //If transaction does not belong to current displayed month and not an income, don't update the income.
         logger.info("Original income: " + income);
-        income = thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)
-                            || t instanceof Expense) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> t.getValue().getMonetaryValue())
-                .sum();
+        income = (thrift.getMonthlyTotals().getIncomeMinorUnits(getCurrentYearMonth())
+                + getRecurrenceTotalMinorUnits(Income.class)) / 100.0;
         logger.info("Updated income: " + income);
     }
 
+    /**
+     * Returns {@code currentMonthYear} as a {@code YearMonth}.
+     */
+    private YearMonth getCurrentYearMonth() {
+        return YearMonth.of(currentMonthYear.get(Calendar.YEAR), currentMonthYear.get(Calendar.MONTH) + 1);
+    }
+
     @Override
     public double getIncome() {
         return income;
@@ -353,4 +451,5 @@ public class ModelManager implements Model {
     public boolean hasUndoneCommand() {
         return pastUndoableCommands.hasRedoCommand();
     }
+
 }
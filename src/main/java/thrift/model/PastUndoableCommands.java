@@ -1,8 +1,8 @@
 package thrift.model;
 
 import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
 
-import java.util.Stack;
 import java.util.logging.Logger;
 
 import thrift.commons.core.LogsCenter;
@@ -12,17 +12,41 @@ import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
 
 /**
- * Stores all the past undoable commands executed by the user.
+ * Stores the past undoable commands executed by the user, up to a limit on the number of commands and on the number
+ * of transactions they keep. The oldest commands are forgotten once either limit is exceeded.
+ *
+ * The commands are kept in a ring buffer in the order they were executed, with the commands that can be undone
+ * followed by those that have been undone and can be redone.
  */
 public class PastUndoableCommands {
 
-    private final Stack<Undoable> undoStack;
-    private final Stack<Undoable> redoStack;
+    public static final int DEFAULT_MAX_COMMANDS = 1000;
+    public static final long DEFAULT_MAX_RETAINED_TRANSACTIONS = 50_000;
+    public static final String MESSAGE_INVALID_LIMITS = "Limits of the undo history must be positive";
+
+    private final Undoable[] commands;
+    private final long maxRetainedTransactions;
     private final Logger logger = LogsCenter.getLogger(PastUndoableCommands.class);
 
+    /** Position in {@link #commands} of the oldest command kept. */
+    private int oldest;
+    private int undoCount;
+    private int redoCount;
+    private long retainedTransactions;
+
     public PastUndoableCommands() {
-        this.undoStack = new Stack<>();
-        this.redoStack = new Stack<>();
+        this(DEFAULT_MAX_COMMANDS, DEFAULT_MAX_RETAINED_TRANSACTIONS);
+    }
+
+    /**
+     * Creates an empty history that keeps at most {@code maxCommands} commands, which together keep at most
+     * {@code maxRetainedTransactions} transactions. The latest command is always kept, even if it alone keeps more
+     * transactions than that.
+     */
+    public PastUndoableCommands(int maxCommands, long maxRetainedTransactions) {
+        checkArgument(maxCommands > 0 && maxRetainedTransactions > 0, MESSAGE_INVALID_LIMITS);
+        this.commands = new Undoable[maxCommands];
+        this.maxRetainedTransactions = maxRetainedTransactions;
     }
 
     /**
@@ -34,9 +58,17 @@ public class PastUndoableCommands {
     public void addPastCommand(Undoable command) {
         requireNonNull(command);
         if (hasRedoCommand()) {
-            clearRedoStack();
+            clearRedoCommands();
+        }
+        if (undoCount == commands.length) {
+            evictOldestCommand();
+        }
+        commands[position(undoCount)] = command;
+        undoCount++;
+        retainedTransactions += command.getRetainedTransactionCount();
+        while (retainedTransactions > maxRetainedTransactions && undoCount > 1) {
+            evictOldestCommand();
         }
-        undoStack.push(command);
         logger.fine("A new undoable command is available to perform undo.");
     }
 
@@ -48,9 +80,10 @@ public class PastUndoableCommands {
      */
     public Undoable getCommandToUndo() throws CommandException {
         if (hasUndoCommand()) {
-            Undoable undoCommand = undoStack.pop();
-            addUndoneCommand(undoCommand);
-            return undoCommand;
+            undoCount--;
+            redoCount++;
+            logger.fine("A new undoable command is available to perform redo.");
+            return commands[position(undoCount)];
         }
         throw new CommandException(UndoCommand.NO_UNDOABLE_COMMAND);
     }
@@ -61,26 +94,7 @@ public class PastUndoableCommands {
      * @return true if there is available commands to perform undo, else false.
      */
     public boolean hasUndoCommand() {
-        return !undoStack.isEmpty();
-    }
-
-    /**
-     * Removes all undoable commands to be redone.
-     */
-    private void clearRedoStack() {
-        logger.fine("All commands available for redo have been purged.");
-        redoStack.clear();
-    }
-
-    /**
-     * Keeps track of undone command.
-     *
-     * @param command is the undoable command to be tracked
-     */
-    private void addUndoneCommand(Undoable command) {
-        requireNonNull(command);
-        redoStack.push(command);
-        logger.fine("A new undoable command is available to perform redo.");
+        return undoCount > 0;
     }
 
     /**
@@ -91,8 +105,9 @@ public class PastUndoableCommands {
      */
     public Undoable getCommandToRedo() throws CommandException {
         if (hasRedoCommand()) {
-            Undoable redoCommand = redoStack.pop();
-            undoStack.push(redoCommand);
+            Undoable redoCommand = commands[position(undoCount)];
+            undoCount++;
+            redoCount--;
             return redoCommand;
         }
         throw new CommandException(RedoCommand.NO_REDOABLE_COMMAND);
@@ -104,6 +119,47 @@ public class PastUndoableCommands {
      * @return true if there is available commands to perform redo, else false.
      */
     public boolean hasRedoCommand() {
-        return !redoStack.isEmpty();
+        return redoCount > 0;
+    }
+
+    /**
+     * Returns the number of transactions kept by all the commands in the history.
+     */
+    public long getRetainedTransactionCount() {
+        return retainedTransactions;
+    }
+
+    /**
+     * Removes all undoable commands to be redone.
+     */
+    private void clearRedoCommands() {
+        for (int i = undoCount; i < undoCount + redoCount; i++) {
+            forget(position(i));
+        }
+        redoCount = 0;
+        logger.fine("All commands available for redo have been purged.");
+    }
+
+    /**
+     * Removes the oldest command that can be undone, so that it can no longer be undone.
+     */
+    private void evictOldestCommand() {
+        assert undoCount > 0;
+        forget(oldest);
+        oldest = position(1);
+        undoCount--;
+        logger.fine("The oldest undoable command has been purged.");
+    }
+
+    private void forget(int position) {
+        retainedTransactions -= commands[position].getRetainedTransactionCount();
+        commands[position] = null;
+    }
+
+    /**
+     * Returns the position in {@link #commands} of the command {@code offset} places after the oldest one.
+     */
+    private int position(int offset) {
+        return (oldest + offset) % commands.length;
     }
 }
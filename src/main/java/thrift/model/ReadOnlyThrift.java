@@ -1,8 +1,12 @@
 package thrift.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.BudgetList;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionChangeLog;
 
 /**
  * Unmodifiable view of THRIFT.
@@ -19,4 +23,30 @@ public interface ReadOnlyThrift {
      */
     BudgetList getBudgetList();
 
+    /**
+     * Returns an unmodifiable view of the recurring transactions list.
+     */
+    ObservableList<RecurringTransaction> getRecurringTransactionList();
+
+    /**
+     * Returns the log of the latest changes to the transactions list, if the changes are logged.
+     */
+    default Optional<TransactionChangeLog> getTransactionChangeLog() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of changes in {@link #getTransactionChangeLog()} that the transactions list reflects.
+     */
+    default long getTransactionChangeCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of changes made to the recurring transactions list so far, or 0 if they are not counted.
+     */
+    default long getRecurringTransactionChangeCount() {
+        return 0;
+    }
+
 }
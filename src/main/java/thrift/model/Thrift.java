@@ -3,14 +3,28 @@ package thrift.model;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import thrift.commons.core.index.Index;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.Budget;
 import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.MonthlyTotals;
+import thrift.model.transaction.SearchTerm;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionChangeLog;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 import thrift.model.transaction.TransactionList;
 
 /**
@@ -20,6 +34,15 @@ public class Thrift implements ReadOnlyThrift {
 
     private final TransactionList transactions;
     private final BudgetList budgets;
+    private final ObservableList<RecurringTransaction> recurringTransactions;
+    private final ObservableList<RecurringTransaction> recurringTransactionsUnmodifiable;
+
+    /**
+     * Number of changes made to the transactions, budgets and recurring transactions, used to tell if THRIFT has
+     * changed.
+     */
+    private long modificationCount = 0;
+    private long recurringTransactionChangeCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,9 +54,18 @@ public class Thrift implements ReadOnlyThrift {
     {
         transactions = new TransactionList();
         budgets = new BudgetList();
+        recurringTransactions = FXCollections.observableArrayList();
+        recurringTransactionsUnmodifiable = FXCollections.unmodifiableObservableList(recurringTransactions);
     }
 
-    public Thrift() {}
+    public Thrift() {
+        transactions.asUnmodifiableObservableList().addListener((ListChangeListener<Transaction>) change ->
+                modificationCount++);
+        recurringTransactions.addListener((ListChangeListener<RecurringTransaction>) change -> {
+            modificationCount++;
+            recurringTransactionChangeCount++;
+        });
+    }
 
     /**
      * Creates an THRIFT using the Transaction in the {@code toBeCopied}
@@ -57,6 +89,15 @@ public class Thrift implements ReadOnlyThrift {
      */
     public void setBudgets(BudgetList budgets) {
         this.budgets.setBudgets(budgets);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the recurring transaction list with {@code recurringTransactions}.
+     */
+    public void setRecurringTransactions(List<RecurringTransaction> recurringTransactions) {
+        requireNonNull(recurringTransactions);
+        this.recurringTransactions.setAll(recurringTransactions);
     }
 
     /**
@@ -66,6 +107,7 @@ public class Thrift implements ReadOnlyThrift {
         requireNonNull(newData);
         setTransactions(newData.getTransactionList());
         setBudgets(newData.getBudgetList());
+        setRecurringTransactions(newData.getRecurringTransactionList());
     }
 
     //// transaction-level operations
@@ -84,6 +126,13 @@ public class Thrift implements ReadOnlyThrift {
         transactions.add(t, index);
     }
 
+    /**
+     * Adds all of {@code transactions} to the end of THRIFT, in order, as a single change to the transaction list.
+     */
+    public void addTransactions(List<Transaction> transactions) {
+        this.transactions.addAll(transactions);
+    }
+
     /**
      * Adds the specified {@code budget} into the budget list, updates the budget instead if it already exists.
      *
@@ -92,6 +141,7 @@ public class Thrift implements ReadOnlyThrift {
      */
     public Optional<Budget> setBudget(Budget budget) {
         requireNonNull(budget);
+        modificationCount++;
         return budgets.setBudget(budget);
     }
 
@@ -103,6 +153,25 @@ public class Thrift implements ReadOnlyThrift {
     public void removeBudget(Budget budget) {
         requireNonNull(budget);
         budgets.removeBudget(budget);
+        modificationCount++;
+    }
+
+    /**
+     * Adds a recurring transaction to the end of the recurring transaction list.
+     */
+    public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        recurringTransactions.add(recurringTransaction);
+    }
+
+    /**
+     * Removes {@code recurringTransaction} from the recurring transaction list.
+     * {@code recurringTransaction} must exist in THRIFT.
+     */
+    public void removeRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        boolean isRemoved = recurringTransactions.remove(recurringTransaction);
+        assert isRemoved : "Recurring transaction to be removed is not in THRIFT";
     }
 
     /**
@@ -123,6 +192,15 @@ public class Thrift implements ReadOnlyThrift {
         transactions.setTransactionWithIndex(actualIndex, updatedTransaction);
     }
 
+    /**
+     * Replaces each transaction in THRIFT with the result of applying {@code operator} to it, as a single change to
+     * the transaction list.
+     */
+    public void replaceAllTransactions(UnaryOperator<Transaction> operator) {
+        requireNonNull(operator);
+        transactions.replaceAll(operator);
+    }
+
     /**
      * Returns true if the specified transaction exists in the transactions list.
      */
@@ -148,6 +226,16 @@ public class Thrift implements ReadOnlyThrift {
         return transactions.removeLast();
     }
 
+    /**
+     * Removes the transactions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a single change to
+     * the transaction list.
+     *
+     * @return removed transactions.
+     */
+    public List<Transaction> removeTransactionRange(int fromIndex, int toIndex) {
+        return transactions.removeRange(fromIndex, toIndex);
+    }
+
     /**
      * Remove the transaction from the list based on the index.
      */
@@ -168,16 +256,150 @@ public class Thrift implements ReadOnlyThrift {
         return transactions.getIndex(transaction);
     }
 
+    /**
+     * Returns the positions in the transaction list of the transactions whose description or remark contains any of
+     * {@code words}, ignoring case. Recurrences of the recurring transactions are not included.
+     */
+    public BitSet getTransactionPositionsContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return transactions.getPositionsContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the transactions in the transaction list with a word in their description, remark or tag names that
+     * matches any of {@code searchTerms}, closest matches first. Recurrences of the recurring transactions are not
+     * included.
+     */
+    public List<Transaction> searchTransactions(Collection<SearchTerm> searchTerms) {
+        requireNonNull(searchTerms);
+        return transactions.searchTransactions(searchTerms);
+    }
+
+    /**
+     * Returns the positions in the transaction list of the transactions with a word in their description, remark or
+     * tag names that matches any of {@code searchTerms}. Recurrences of the recurring transactions are not included.
+     */
+    public BitSet getTransactionPositionsMatching(Collection<SearchTerm> searchTerms) {
+        requireNonNull(searchTerms);
+        return transactions.getPositionsMatching(searchTerms);
+    }
+
+    /**
+     * Returns the positions in the transaction list of the transactions whose tags satisfy {@code predicate}.
+     * Recurrences of the recurring transactions are not included.
+     */
+    public BitSet getTransactionPositionsWithTags(TransactionHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return transactions.getPositionsWithTags(predicate);
+    }
+
+    /**
+     * Returns the transactions that occur from {@code start} to {@code end}, both inclusive, ordered by date,
+     * together with the recurrences of the recurring transactions in that period.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+        List<Transaction> found = transactions.getTransactionsBetween(start, end);
+        return recurringTransactions.isEmpty() ? found : withRecurrences(found, getRecurrencesBetween(start, end));
+    }
+
+    /**
+     * Returns the transactions that occur in {@code yearMonth}, ordered by date, together with the recurrences of
+     * the recurring transactions in that month.
+     */
+    public List<Transaction> getTransactionsInMonth(YearMonth yearMonth) {
+        List<Transaction> found = transactions.getTransactionsInMonth(yearMonth);
+        return recurringTransactions.isEmpty()
+                ? found
+                : withRecurrences(found, getRecurrencesBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth()));
+    }
+
+    /**
+     * Returns the positions in the transaction list of the transactions that occur in {@code yearMonth}, without the
+     * recurrences, which are not in the list.
+     */
+    public BitSet getTransactionPositionsInMonth(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return transactions.getPositionsInMonth(yearMonth);
+    }
+
+    /**
+     * Returns the recurrences of the recurring transactions from {@code start} to {@code end}, both inclusive.
+     * Recurrences are only generated for that period, and are not in the transaction list.
+     */
+    public List<Transaction> getRecurrencesBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        List<Transaction> recurrences = new ArrayList<>();
+        for (RecurringTransaction recurringTransaction : recurringTransactions) {
+            recurrences.addAll(recurringTransaction.getTransactionsBetween(start, end));
+        }
+        return recurrences;
+    }
+
+    /**
+     * Returns {@code transactions}, which are ordered by date, merged with {@code recurrences} in order of date.
+     * Transactions on the same date stay ahead of the recurrences.
+     */
+    private static List<Transaction> withRecurrences(List<Transaction> transactions, List<Transaction> recurrences) {
+        List<Transaction> merged = new ArrayList<>(transactions.size() + recurrences.size());
+        merged.addAll(transactions);
+        merged.addAll(recurrences);
+        merged.sort(Comparator.comparing(transaction -> transaction.getDate().getLocalDate()));
+        return merged;
+    }
+
+    /**
+     * Returns the expense and income totals of each month in the transactions list.
+     */
+    public MonthlyTotals getMonthlyTotals() {
+        return transactions.getMonthlyTotals();
+    }
+
+    /**
+     * Returns the number of changes made to this {@code Thrift} so far. If the count is the same at two points in
+     * time, no change was made in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds a listener that is notified of the changes to the transaction list after its indexes are up to date, so
+     * that it can look up the transactions with the methods of this class.
+     */
+    public void addTransactionListener(ListChangeListener<? super Transaction> listener) {
+        transactions.addListener(listener);
+    }
+
     @Override
     public ObservableList<Transaction> getTransactionList() {
         return transactions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<TransactionChangeLog> getTransactionChangeLog() {
+        return Optional.of(transactions.getChangeLog());
+    }
+
+    @Override
+    public long getTransactionChangeCount() {
+        return transactions.getChangeLog().getChangeCount();
+    }
+
+    @Override
+    public long getRecurringTransactionChangeCount() {
+        return recurringTransactionChangeCount;
+    }
+
     @Override
     public BudgetList getBudgetList() {
         return budgets;
     }
 
+    @Override
+    public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+        return recurringTransactionsUnmodifiable;
+    }
+
     @Override
     public String toString() {
         return transactions.asUnmodifiableObservableList().size() + " transactions";
@@ -189,7 +411,8 @@ public class Thrift implements ReadOnlyThrift {
         return other == this // short circuit if same object
                 || (other instanceof Thrift // instanceof handles nulls
                 && transactions.equals(((Thrift) other).transactions)
-                && budgets.equals(((Thrift) other).budgets));
+                && budgets.equals(((Thrift) other).budgets)
+                && recurringTransactions.equals(((Thrift) other).recurringTransactions));
     }
 
     @Override
@@ -0,0 +1,88 @@
+package thrift.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionChangeLog;
+
+/**
+ * An immutable copy of the transactions, budgets and recurring transactions of a {@code ReadOnlyThrift}, which can
+ * be handed to another thread while the original keeps changing.
+ * Unlike {@link Thrift#Thrift(ReadOnlyThrift)}, taking a snapshot only copies the references to the transactions and
+ * budgets, without building the indexes of a {@code TransactionList}.
+ */
+public class ThriftSnapshot implements ReadOnlyThrift {
+
+    private final ObservableList<Transaction> transactions;
+    private final BudgetList budgets = new BudgetList();
+    private final ObservableList<RecurringTransaction> recurringTransactions;
+    private final Optional<TransactionChangeLog> transactionChangeLog;
+    private final long transactionChangeCount;
+    private final long recurringTransactionChangeCount;
+
+    /**
+     * Creates a snapshot of the current transactions, budgets and recurring transactions of {@code source}.
+     */
+    public ThriftSnapshot(ReadOnlyThrift source) {
+        requireNonNull(source);
+        transactions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getTransactionList()));
+        budgets.setBudgets(source.getBudgetList());
+        recurringTransactions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getRecurringTransactionList()));
+        transactionChangeLog = source.getTransactionChangeLog();
+        transactionChangeCount = source.getTransactionChangeCount();
+        recurringTransactionChangeCount = source.getRecurringTransactionChangeCount();
+    }
+
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        return transactions;
+    }
+
+    /**
+     * Returns a copy of the budget list, so that the snapshot cannot be changed through it.
+     */
+    @Override
+    public BudgetList getBudgetList() {
+        BudgetList copy = new BudgetList();
+        copy.setBudgets(budgets);
+        return copy;
+    }
+
+    @Override
+    public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+        return recurringTransactions;
+    }
+
+    /**
+     * Returns the change log of the source, which keeps logging the changes made to the source after the snapshot
+     * was taken. Only the first {@link #getTransactionChangeCount()} changes are reflected in the snapshot.
+     */
+    @Override
+    public Optional<TransactionChangeLog> getTransactionChangeLog() {
+        return transactionChangeLog;
+    }
+
+    @Override
+    public long getTransactionChangeCount() {
+        return transactionChangeCount;
+    }
+
+    @Override
+    public long getRecurringTransactionChangeCount() {
+        return recurringTransactionChangeCount;
+    }
+
+    @Override
+    public String toString() {
+        return transactions.size() + " transactions";
+    }
+
+}
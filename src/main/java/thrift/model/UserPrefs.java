@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import thrift.commons.core.GuiSettings;
+import thrift.commons.core.ThriftStorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path thriftFilePath = Paths.get("data" , "thrift.json");
+    private ThriftStorageFormat thriftStorageFormat = ThriftStorageFormat.JSON;
     private Path currencyMappingsFilePath = Paths.get("data" , "currency.json");
 
     /**
@@ -37,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setThriftFilePath(newUserPrefs.getThriftFilePath());
+        setThriftStorageFormat(newUserPrefs.getThriftStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +60,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.thriftFilePath = thriftFilePath;
     }
 
+    public ThriftStorageFormat getThriftStorageFormat() {
+        return thriftStorageFormat;
+    }
+
+    public void setThriftStorageFormat(ThriftStorageFormat thriftStorageFormat) {
+        requireNonNull(thriftStorageFormat);
+        this.thriftStorageFormat = thriftStorageFormat;
+    }
+
     public Path getCurrencyMappingsFilePath() {
         return currencyMappingsFilePath;
     }
@@ -73,12 +85,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && thriftFilePath.equals(o.thriftFilePath);
+                && thriftFilePath.equals(o.thriftFilePath)
+                && thriftStorageFormat.equals(o.thriftStorageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, thriftFilePath);
+        return Objects.hash(guiSettings, thriftFilePath, thriftStorageFormat);
     }
 
     @Override
@@ -86,6 +99,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + thriftFilePath);
+        sb.append("\nLocal data file format : " + thriftStorageFormat);
         return sb.toString();
     }
 
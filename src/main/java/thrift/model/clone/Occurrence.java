@@ -1,39 +1,72 @@
 package thrift.model.clone;
 
 import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import thrift.logic.commands.exceptions.CommandException;
 import thrift.logic.parser.CliSyntax;
 
 /**
  * Represents how many times and with what frequency (how much time apart) a {@code Transaction} should be cloned.
+ * The clones occur every {@code interval} periods of the frequency after the original transaction, for
+ * {@code numOccurrences} times or until the end date, whichever comes first.
  * Guarantees: immutable, frequency not null, numOccurences valid according to frequency.
  */
 public class Occurrence {
-    public static final String OCCURRENCE_CONSTRAINTS = "Occurrence must be in the format \"FREQUENCY:"
-            + "NUMBER_OF_OCCURRENCES\"."
+    public static final int MAX_OCCURRENCES = 10000;
+    public static final int MAX_INTERVAL = 100;
+    public static final String OCCURRENCE_CONSTRAINTS = "Occurrence must be in the format \"FREQUENCY[*INTERVAL]:"
+            + "NUMBER_OF_OCCURRENCES\" or \"FREQUENCY[*INTERVAL]:END_DATE\"."
             + "\n- Valid FREQUENCY values are: \"daily\", \"weekly\", \"monthly\", \"yearly\"."
-            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - 5 with \"yearly\", 0 - 12 with other frequencies.\n"
+            + "\n- Valid INTERVAL ranges are: 1 - " + MAX_INTERVAL + ", and clones are 1 FREQUENCY apart if it is "
+            + "not given."
+            + "\n- Valid NUMBER_OF_OCCURRENCES ranges are: 0 - " + MAX_OCCURRENCES + "."
+            + "\n- END_DATE is in dd/mm/yyyy format, and clones are created up to and including it.\n"
             + "If NUMBER_OF_OCCURRENCES is 0, one clone will be created on the same date as original "
             + "transaction as if\nno " + CliSyntax.PREFIX_OCCURRENCE + "OCCURRENCE parameter was input.";
+
+    /** Clones cannot be dated after the last date that a {@code TransactionDate} can show. */
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
     private static final String[] validFrequencies = {"daily", "weekly", "monthly", "yearly"};
 
     private final String frequency;
     private final int numOccurrences;
+    private final int interval;
+    private final LocalDate endDate;
 
     /**
-     * Constructs an {@code Occurrence}.
+     * Constructs an {@code Occurrence} whose clones are one period of {@code frequency} apart.
      *
      * @param frequency How often the {@code Transaction}'s clones occur.
      * @param numOccurrences How many times the {@code Transaction}'s clones occur with frequency of {@code frequency}.
      */
     public Occurrence(String frequency, int numOccurrences) {
+        this(frequency, numOccurrences, 1, null);
+    }
+
+    /**
+     * Constructs an {@code Occurrence}.
+     *
+     * @param frequency How often the {@code Transaction}'s clones occur.
+     * @param numOccurrences Most number of times the {@code Transaction}'s clones occur.
+     * @param interval Number of periods of {@code frequency} between consecutive clones.
+     * @param endDate Last date that a clone may occur on, or null if the clones occur {@code numOccurrences} times.
+     */
+    public Occurrence(String frequency, int numOccurrences, int interval, LocalDate endDate) {
         requireNonNull(frequency);
+        assert interval > 0 : "Interval between clones must be positive";
         this.frequency = frequency;
         this.numOccurrences = numOccurrences;
+        this.interval = interval;
+        this.endDate = endDate;
     }
 
     public String getFrequency() {
@@ -44,6 +77,14 @@ public class Occurrence {
         return numOccurrences;
     }
 
+    public int getInterval() {
+        return interval;
+    }
+
+    public Optional<LocalDate> getEndDate() {
+        return Optional.ofNullable(endDate);
+    }
+
     /**
      * Determines whether a {@code frequency String} is a valid {@code frequency} according to
      * {@link Occurrence#validFrequencies}.
@@ -81,17 +122,104 @@ public class Occurrence {
         }
     }
 
+    /**
+     * Returns the dates of the clones of a transaction dated {@code originalDate}, in order.
+     * If {@code numOccurrences} is 0, there is a single clone dated {@code today}. Otherwise the date of each clone
+     * is computed directly from {@code originalDate}, so a clone on the 31st of a month falls on the last day of
+     * shorter months without moving the clones after it.
+     *
+     * @throws CommandException if {@code frequency} is invalid.
+     */
+    public List<LocalDate> getCloneDates(LocalDate originalDate, LocalDate today) throws CommandException {
+        requireNonNull(originalDate);
+        requireNonNull(today);
+        ChronoUnit unit = getFrequencyUnit();
+        if (numOccurrences == 0) {
+            return List.of(today);
+        }
+
+        int count = getCloneCount(originalDate, unit);
+        List<LocalDate> cloneDates = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            cloneDates.add(originalDate.plus((long) i * interval, unit));
+        }
+        return cloneDates;
+    }
+
+    /**
+     * Returns the dates of the clones of a transaction dated {@code originalDate} that fall from {@code start} to
+     * {@code end}, both inclusive, in order. The first of them is found arithmetically, so the cost depends only on
+     * the number of clones returned. If {@code numOccurrences} is 0, there are none, as the only clone is dated
+     * when it is made.
+     *
+     * @throws CommandException if {@code frequency} is invalid.
+     */
+    public List<LocalDate> getCloneDatesBetween(LocalDate originalDate, LocalDate start, LocalDate end)
+            throws CommandException {
+        requireAllNonNull(originalDate, start, end);
+        ChronoUnit unit = getFrequencyUnit();
+        int count = numOccurrences == 0 ? 0 : getCloneCount(originalDate, unit);
+
+        // Periods are floored by between(), and adding months or years may shorten them, so adjust by one clone
+        long first = Math.max(1, unit.between(originalDate, start) / interval);
+        while (first > 1 && !originalDate.plus((first - 1) * interval, unit).isBefore(start)) {
+            first--;
+        }
+        while (first <= count && originalDate.plus(first * interval, unit).isBefore(start)) {
+            first++;
+        }
+
+        List<LocalDate> cloneDates = new ArrayList<>();
+        for (long i = first; i <= count; i++) {
+            LocalDate cloneDate = originalDate.plus(i * interval, unit);
+            if (cloneDate.isAfter(end)) {
+                break;
+            }
+            cloneDates.add(cloneDate);
+        }
+        return cloneDates;
+    }
+
+    /**
+     * Returns the number of clones of a transaction dated {@code originalDate}, which are {@code interval} of
+     * {@code unit} apart, when {@code numOccurrences} is not 0.
+     */
+    private int getCloneCount(LocalDate originalDate, ChronoUnit unit) {
+        LocalDate lastDate = endDate == null || endDate.isAfter(LAST_DATE) ? LAST_DATE : endDate;
+        int count = (int) Math.min(numOccurrences, Math.max(0, unit.between(originalDate, lastDate) / interval));
+        // Adding whole months or years may shorten the last period, so the next clone could still be on time
+        if (count < numOccurrences && !originalDate.plus((long) (count + 1) * interval, unit).isAfter(lastDate)) {
+            count++;
+        }
+        return count;
+    }
+
+    private ChronoUnit getFrequencyUnit() throws CommandException {
+        switch (getFrequencyCalendarField()) {
+        case Calendar.WEEK_OF_YEAR:
+            return ChronoUnit.WEEKS;
+        case Calendar.MONTH:
+            return ChronoUnit.MONTHS;
+        case Calendar.YEAR:
+            return ChronoUnit.YEARS;
+        default:
+            return ChronoUnit.DAYS;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Occurrence // instanceof handles nulls
                 && frequency.equals(((Occurrence) other).frequency)
-                && numOccurrences == ((Occurrence) other).numOccurrences); // state check
+                && numOccurrences == ((Occurrence) other).numOccurrences
+                && interval == ((Occurrence) other).interval
+                && Objects.equals(endDate, ((Occurrence) other).endDate)); // state check
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(frequency, numOccurrences);
+        return Objects.hash(frequency, numOccurrences, interval, endDate);
     }
 
 }
@@ -0,0 +1,121 @@
+package thrift.model.clone;
+
+import static thrift.commons.util.AppUtil.checkArgument;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Income;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+
+/**
+ * Represents a {@code Transaction} that recurs according to an {@code Occurrence}, after the date of the transaction
+ * itself.
+ * Only the rule is kept: the transactions that it stands for are generated from it on demand, for the dates asked
+ * for, so a rule takes the same space however many times it recurs.
+ * Guarantees: immutable, fields not null, frequency of the occurrence is valid and it recurs at least once.
+ */
+public class RecurringTransaction {
+
+    public static final String MESSAGE_NO_RECURRENCE = "A recurring transaction must recur at least once.";
+
+    private final Transaction transaction;
+    private final Occurrence occurrence;
+
+    /**
+     * Constructs a {@code RecurringTransaction}.
+     *
+     * @param transaction The transaction that recurs, which is dated before its first recurrence.
+     * @param occurrence How often and how many times {@code transaction} recurs.
+     */
+    public RecurringTransaction(Transaction transaction, Occurrence occurrence) {
+        requireAllNonNull(transaction, occurrence);
+        checkArgument(Occurrence.isValidFrequency(occurrence.getFrequency()), Occurrence.OCCURRENCE_CONSTRAINTS);
+        checkArgument(occurrence.getNumOccurrences() > 0, MESSAGE_NO_RECURRENCE);
+        this.transaction = transaction;
+        this.occurrence = occurrence;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public Occurrence getOccurrence() {
+        return occurrence;
+    }
+
+    /**
+     * Returns the recurrences of the transaction from {@code start} to {@code end}, both inclusive, ordered by date.
+     * A new {@code Transaction} is created for each of them.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        List<LocalDate> dates;
+        try {
+            dates = occurrence.getCloneDatesBetween(transaction.getDate().getLocalDate(), start, end);
+        } catch (CommandException e) {
+            throw new AssertionError(e); // the frequency was checked when this was constructed
+        }
+
+        List<Transaction> recurrences = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            recurrences.add(createRecurrence(TransactionDate.fromLocalDate(date)));
+        }
+        return recurrences;
+    }
+
+    /**
+     * Returns the recurrences of the transaction in {@code yearMonth}, ordered by date.
+     */
+    public List<Transaction> getTransactionsInMonth(YearMonth yearMonth) {
+        return getTransactionsBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    private Transaction createRecurrence(TransactionDate date) {
+        if (transaction instanceof Expense) {
+            return new Expense(transaction.getDescription(), transaction.getValue(), transaction.getRemark(), date,
+                    transaction.getTags());
+        } else {
+            assert transaction instanceof Income : "Recurring transaction not of type Expense or Income";
+            return new Income(transaction.getDescription(), transaction.getValue(), transaction.getRemark(), date,
+                    transaction.getTags());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecurringTransaction // instanceof handles nulls
+                && transaction.equals(((RecurringTransaction) other).transaction)
+                && occurrence.equals(((RecurringTransaction) other).occurrence)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transaction, occurrence);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(transaction.toString()).append(" Recurs: ")
+                .append(occurrence.getFrequency());
+        if (occurrence.getInterval() > 1) {
+            builder.append('*').append(occurrence.getInterval());
+        }
+        builder.append(':');
+        if (occurrence.getEndDate().isPresent()) {
+            builder.append(TransactionDate.fromLocalDate(occurrence.getEndDate().get()));
+        } else {
+            builder.append(occurrence.getNumOccurrences());
+        }
+        return builder.toString();
+    }
+
+}
@@ -3,6 +3,8 @@ package thrift.model.tag;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 
+import thrift.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in THRIFT.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tag names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakInterner<Tag> POOL = new WeakInterner<>();
+
     public final String tagName;
 
     /**
@@ -26,10 +30,29 @@ public class Tag {
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Returns the shared {@code Tag} with the name {@code tagName}, so that the transactions carrying the same tag do
+     * not each hold a copy of it.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag valueOf(String tagName) {
+        return POOL.intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns true if a given string is a valid tag name, which is what {@link #VALIDATION_REGEX} matches.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
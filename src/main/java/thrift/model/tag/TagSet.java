@@ -0,0 +1,132 @@
+package thrift.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import thrift.commons.util.WeakInterner;
+
+/**
+ * An immutable set of {@code Tag}, in which the tags are kept in an array rather than in a hash table.
+ * Equal tag sets are interned with {@link #of(Collection)}, so the transactions that carry the same tags share a
+ * single set instead of each owning one.
+ * Guarantees: immutable; tags are not null and distinct.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+    private static final WeakInterner<TagSet> POOL = new WeakInterner<>();
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.hashCode = Arrays.stream(tags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns the shared tag set with the same tags as {@code tags}.
+     * Tags are iterated over in the same order as in a {@code HashSet} of them.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Set<Tag> distinctTags = new HashSet<>(tags);
+        Tag[] tagArray = new Tag[distinctTags.size()];
+        int i = 0;
+        for (Tag tag : distinctTags) {
+            tagArray[i++] = Tag.valueOf(requireNonNull(tag).tagName);
+        }
+        return POOL.intern(new TagSet(tagArray));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        for (Tag tag : tags) {
+            if (tag.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
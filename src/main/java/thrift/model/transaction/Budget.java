@@ -1,13 +1,17 @@
 package thrift.model.transaction;
 
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a budget for a particular month, containing a Date and Value object.
+ * Guarantees: immutable; the month cannot be changed through the {@code Calendar} it is given or returns.
  */
 public class Budget {
 
@@ -16,22 +20,69 @@ public class Budget {
             + "\nwhere MM is an integer between 01-12 and yyyy is between 0001-9999";
     public static final String VALIDATION_REGEX = "^(0[1-9]|10|11|12)\\/(?!0{4})[0-9]{4}$";
 
-    private Calendar period;
-    private BudgetValue value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    /** Keys of the earliest and latest months in {@link #DATE_CONSTRAINTS}, which are 01/0001 and 12/9999. */
+    private static final int MIN_MONTH_YEAR_KEY = 12;
+    private static final int MAX_MONTH_YEAR_KEY = 9999 * 12 + 11;
+
+    private final Calendar period;
+    private final BudgetValue value;
+
+    /** The month of {@link #period}, as declared in {@link #toMonthYearKey(Calendar)}. */
+    private final int monthYearKey;
 
     /**
      * Creates a Budget object that has {@code value} amount of money for the month of {@code period}.
      */
     public Budget(Calendar period, BudgetValue value) {
         requireAllNonNull(period, value);
-        this.period = period;
+        this.period = (Calendar) period.clone();
         this.value = value;
+        this.monthYearKey = toMonthYearKey(period);
+    }
+
+    /**
+     * Returns the month of {@code monthYear} as the number of months since January of year 0, which is a key that
+     * orders and compares months without going through {@code Calendar} again.
+     */
+    public static int toMonthYearKey(Calendar monthYear) {
+        requireNonNull(monthYear);
+        return monthYear.get(Calendar.YEAR) * 12 + monthYear.get(Calendar.MONTH);
+    }
+
+    /**
+     * Returns the first moment of the month with {@code monthYearKey}, as declared in
+     * {@link #toMonthYearKey(Calendar)}, which is the same {@code Calendar} as the month parsed from MM/yyyy.
+     */
+    public static Calendar toMonthYear(int monthYearKey) {
+        checkArgument(monthYearKey >= MIN_MONTH_YEAR_KEY && monthYearKey <= MAX_MONTH_YEAR_KEY, DATE_CONSTRAINTS);
+        Calendar monthYear = Calendar.getInstance();
+        monthYear.clear();
+        monthYear.set(monthYearKey / 12, monthYearKey % 12, 1);
+        return monthYear;
     }
 
+    /**
+     * Returns the month of this budget, as declared in {@link #toMonthYearKey(Calendar)}.
+     */
+    public int getMonthYearKey() {
+        return monthYearKey;
+    }
+
+    /**
+     * Returns true if {@code test} is a month in MM/yyyy format, as declared in {@link #VALIDATION_REGEX}.
+     */
+    public static boolean isValidMonthYear(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns a copy of the month of this budget, so that changing it does not change the budget.
+     */
     public Calendar getBudgetDate() {
         assert period != null;
 
-        return this.period;
+        return (Calendar) this.period.clone();
     }
 
     public String getBudgetDateString() {
@@ -57,7 +108,7 @@ public class Budget {
         }
 
         Budget otherBudget = (Budget) other;
-        return otherBudget.getBudgetDate().equals(getBudgetDate())
+        return otherBudget.period.equals(period)
                 && otherBudget.getBudgetValue().equals(getBudgetValue());
     }
 
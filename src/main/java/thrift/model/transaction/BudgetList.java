@@ -2,22 +2,24 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * A list of {@code Budget} that does not allow nulls. A unique month-year can contain one budget set, which can be
  * changed by the user.
+ * Budgets are kept by their {@link Budget#getMonthYearKey()}, so that the budget of a month is looked up and replaced
+ * in constant time however many months have budgets. Budgets are iterated in the order their months were first set.
  */
 public class BudgetList implements Iterable<Budget> {
 
-    private final List<Budget> internalList;
+    private final Map<Integer, Budget> internalMap;
 
     public BudgetList() {
-        this.internalList = new ArrayList<>();
+        this.internalMap = new LinkedHashMap<>();
     }
 
     /**
@@ -25,15 +27,9 @@ public class BudgetList implements Iterable<Budget> {
      */
     public Optional<Budget> getBudgetForMonthYear(Calendar toCheck) {
         requireNonNull(toCheck);
-        assert internalList != null;
-
-        for (Budget b : internalList) {
-            if (b.getBudgetDate().get(Calendar.MONTH) == toCheck.get(Calendar.MONTH)
-                && b.getBudgetDate().get(Calendar.YEAR) == toCheck.get(Calendar.YEAR)) {
-                return Optional.of(b);
-            }
-        }
-        return Optional.empty();
+        assert internalMap != null;
+
+        return Optional.ofNullable(internalMap.get(Budget.toMonthYearKey(toCheck)));
     }
 
     /**
@@ -44,13 +40,7 @@ public class BudgetList implements Iterable<Budget> {
      */
     public Optional<Budget> setBudget(Budget toSet) {
         requireNonNull(toSet);
-        Optional<Budget> optBudget = getBudgetForMonthYear(toSet.getBudgetDate());
-        if (optBudget.isPresent()) {
-            internalList.set(internalList.indexOf(optBudget.get()), toSet);
-        } else {
-            internalList.add(toSet);
-        }
-        return optBudget;
+        return Optional.ofNullable(internalMap.put(toSet.getMonthYearKey(), toSet));
     }
 
     /**
@@ -60,38 +50,38 @@ public class BudgetList implements Iterable<Budget> {
      */
     public void removeBudget(Budget budget) {
         requireNonNull(budget);
-        assert internalList != null;
+        assert internalMap != null;
 
-        internalList.remove(budget);
+        internalMap.remove(budget.getMonthYearKey(), budget);
     }
 
     /**
      * Replaces the content of this budget list with {@code replacement}.
      */
     public void setBudgets(BudgetList replacement) {
-        assert internalList != null;
+        assert internalMap != null;
 
-        internalList.clear();
-        internalList.addAll(replacement.internalList);
+        internalMap.clear();
+        internalMap.putAll(replacement.internalMap);
     }
 
     @Override
     public Iterator<Budget> iterator() {
-        assert internalList != null;
+        assert internalMap != null;
 
-        return internalList.iterator();
+        return internalMap.values().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof BudgetList) //instanceof handles nulls
-                        && internalList.equals(((BudgetList) other).internalList);
+                        && internalMap.equals(((BudgetList) other).internalMap);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalMap.hashCode();
     }
 
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 import static thrift.model.transaction.Value.DECIMAL_FORMATTER;
 
+import java.util.Optional;
+
 /**
  * Represents a Budget's monetary value in the Budgets list.
  * Guarantees: immutable; is valid as declared in {@link #isValidValue(String)}
@@ -15,7 +17,11 @@ public class BudgetValue {
                     + "accepts up to 2 decimal digits.\nValue should also be lesser than 1 billion.";
     public static final String VALIDATION_REGEX = "^\\d{1,9}(\\.\\d{0,2})?$";
 
-    private Double amount;
+    /** Exclusive upper bound of the amount in minor units, which is 1 billion. */
+    private static final long MAX_MINOR_UNITS = 100_000_000_000L;
+
+    /** Amount in hundredths, which is exact unlike a floating-point amount. */
+    private final long minorUnits;
 
     /**
      * Constructs a {@code BudgetValue} that allows $0.
@@ -24,8 +30,34 @@ public class BudgetValue {
      */
     public BudgetValue(String value) {
         requireNonNull(value);
-        checkArgument(isValidValue(value), VALUE_CONSTRAINTS);
-        this.amount = Double.parseDouble(value);
+        long minorUnits = Value.scanMinorUnits(value);
+        checkArgument(minorUnits >= 0, VALUE_CONSTRAINTS);
+        this.minorUnits = minorUnits;
+    }
+
+    private BudgetValue(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Returns a {@code BudgetValue} of {@code minorUnits} hundredths, without going through the string form of the
+     * amount.
+     *
+     * @param minorUnits Monetary cost describing the value, in hundredths.
+     */
+    public static BudgetValue fromMinorUnits(long minorUnits) {
+        checkArgument(minorUnits >= 0 && minorUnits < MAX_MINOR_UNITS, VALUE_CONSTRAINTS);
+        return new BudgetValue(minorUnits);
+    }
+
+    /**
+     * Returns a {@code BudgetValue} of {@code value}, or an empty {@code Optional} if {@code value} is not a valid
+     * monetary value. The value is validated and parsed in a single pass.
+     */
+    public static Optional<BudgetValue> tryParse(String value) {
+        requireNonNull(value);
+        long minorUnits = Value.scanMinorUnits(value);
+        return minorUnits >= 0 ? Optional.of(new BudgetValue(minorUnits)) : Optional.empty();
     }
 
     /**
@@ -34,16 +66,21 @@ public class BudgetValue {
      * @return true if amount is a valid double.
      */
     public static boolean isValidValue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Value.scanMinorUnits(test) >= 0;
     }
 
     /**
      * Returns this object's value in double.
      */
-    public Double getMonetaryValue() {
-        assert amount != null;
+    public double getMonetaryValue() {
+        return minorUnits / 100.0;
+    }
 
-        return this.amount;
+    /**
+     * Returns this object's value in hundredths, which can be summed without rounding errors.
+     */
+    public long getMonetaryMinorUnits() {
+        return minorUnits;
     }
 
     /**
@@ -51,25 +88,23 @@ public class BudgetValue {
      * storing.
      */
     public String getUnformattedString() {
-        return String.format("%.2f", getMonetaryValue());
+        return Value.formatMinorUnits(minorUnits);
     }
 
     @Override
     public String toString() {
-        assert amount != null;
-
-        return String.valueOf(DECIMAL_FORMATTER.format(amount));
+        return String.valueOf(DECIMAL_FORMATTER.format(getMonetaryValue()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof BudgetValue // instanceof handles nulls
-                && amount.equals(((BudgetValue) other).amount)); // state check
+                && minorUnits == ((BudgetValue) other).minorUnits); // state check
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(minorUnits);
     }
 }
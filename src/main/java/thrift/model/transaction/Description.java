@@ -2,12 +2,16 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
+import thrift.commons.util.WeakInterner;
+
 /**
  * Represents a Transaction's message description in the Transactions list.
  * Guarantees: immutable.
  */
 public class Description {
 
+    private static final WeakInterner<Description> POOL = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -20,6 +24,14 @@ public class Description {
         value = description;
     }
 
+    /**
+     * Returns the shared {@code Description} of {@code description}, so that the transactions with the same
+     * description do not each hold a copy of it.
+     */
+    public static Description valueOf(String description) {
+        return POOL.intern(new Description(description));
+    }
+
     @Override
     public String toString() {
         assert value != null;
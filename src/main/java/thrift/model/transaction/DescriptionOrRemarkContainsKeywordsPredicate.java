@@ -17,6 +17,10 @@ public class DescriptionOrRemarkContainsKeywordsPredicate implements Predicate<T
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Transaction transaction) {
         requireNonNull(transaction);
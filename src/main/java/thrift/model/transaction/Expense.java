@@ -2,12 +2,11 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import thrift.model.tag.Tag;
+import thrift.model.tag.TagSet;
 
 /**
  * Represents an Expense in the transactions list.
@@ -20,7 +19,7 @@ public class Expense extends Transaction {
     private final TransactionDate date;
     private final Value value;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -30,7 +29,7 @@ public class Expense extends Transaction {
         this.value = value;
         this.remark = remark;
         this.date = date;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Description getDescription() {
@@ -51,10 +50,10 @@ public class Expense extends Transaction {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is shared with the other transactions that have the same tags.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
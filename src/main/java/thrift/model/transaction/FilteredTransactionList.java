@@ -0,0 +1,239 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of the {@code Transaction} in a list that are shown to the user, followed by the recurrences
+ * of the recurring transactions in the period shown, which are not in the list.
+ * Unless a filter is set, the transactions are read through from the list without being copied. A filter gives the
+ * positions in the list of the transactions it matches, usually from an index of the list, so that only the matching
+ * transactions are kept, and finding them again after the list changes does not test every transaction.
+ * The view has to be registered as a listener of the list by the caller, after the indexes that its filters read.
+ */
+public class FilteredTransactionList extends ObservableListBase<Transaction>
+        implements ListChangeListener<Transaction> {
+
+    private final List<Transaction> source;
+
+    /** Recurrences in the period shown, whether or not they match the filter. */
+    private List<Transaction> recurrences = Collections.emptyList();
+
+    /** Tells if a recurrence matches the filter, or null if the view is not filtered. */
+    private Predicate<Transaction> predicate;
+    /** Finds the positions in the list of the transactions that match the filter. */
+    private Supplier<BitSet> positions;
+    /** Transactions that match the filter, in the order of the list, or null if the view is not filtered. */
+    private List<Transaction> matches;
+    private List<Transaction> shownRecurrences = Collections.emptyList();
+
+    /**
+     * Creates a view that shows all of {@code source}. The view has to be registered as a listener of {@code source}
+     * by the caller.
+     */
+    public FilteredTransactionList(List<Transaction> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Shows all transactions in the list, and all recurrences.
+     */
+    public void showAll() {
+        List<Transaction> removed = copyIfObserved();
+        predicate = null;
+        positions = null;
+        matches = null;
+        shownRecurrences = recurrences;
+        fireReplacedAll(removed);
+    }
+
+    /**
+     * Shows the transactions in the list at the positions given by {@code positions}, which is asked again whenever
+     * the list changes, and the recurrences that satisfy {@code predicate}. {@code positions} must give the positions
+     * of the transactions in the list that satisfy {@code predicate}.
+     */
+    public void setFilter(Predicate<Transaction> predicate, Supplier<BitSet> positions) {
+        requireNonNull(predicate);
+        requireNonNull(positions);
+        List<Transaction> removed = copyIfObserved();
+        this.predicate = predicate;
+        this.positions = positions;
+        matches = lookUpMatches();
+        shownRecurrences = filterRecurrences();
+        fireReplacedAll(removed);
+    }
+
+    /**
+     * Shows the transactions in the list and the recurrences that satisfy {@code predicate}, which is tested against
+     * every transaction in the list whenever the list changes. Filters that can be answered from an index of the list
+     * should use {@link #setFilter(Predicate, Supplier)} instead.
+     */
+    public void setFilter(Predicate<Transaction> predicate) {
+        requireNonNull(predicate);
+        setFilter(predicate, () -> {
+            BitSet matching = new BitSet(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                if (predicate.test(source.get(i))) {
+                    matching.set(i);
+                }
+            }
+            return matching;
+        });
+    }
+
+    /**
+     * Replaces the recurrences shown after the transactions with those of {@code recurrences} that match the filter.
+     */
+    public void setRecurrences(List<Transaction> recurrences) {
+        requireNonNull(recurrences);
+        List<Transaction> removed = shownRecurrences;
+        this.recurrences = new ArrayList<>(recurrences);
+        shownRecurrences = filterRecurrences();
+
+        int from = getTransactionCount();
+        fireReplaced(from, removed, from + shownRecurrences.size());
+    }
+
+    /**
+     * Returns the recurrences in the period shown, including those that do not match the filter.
+     */
+    public List<Transaction> getRecurrences() {
+        return Collections.unmodifiableList(recurrences);
+    }
+
+    @Override
+    public Transaction get(int index) {
+        int transactionCount = getTransactionCount();
+        if (index < transactionCount) {
+            return matches == null ? source.get(index) : matches.get(index);
+        }
+        return shownRecurrences.get(index - transactionCount);
+    }
+
+    @Override
+    public int size() {
+        return getTransactionCount() + shownRecurrences.size();
+    }
+
+    private int getTransactionCount() {
+        return matches == null ? source.size() : matches.size();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        if (matches != null) {
+            updateMatches();
+            return;
+        }
+
+        // The transactions are at the same positions in this view as in the list.
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - from];
+                for (int i = from; i < change.getTo(); i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Finds the matching transactions again, and fires a single change for the transactions between those that are
+     * the same at the start and at the end of the matches.
+     */
+    private void updateMatches() {
+        List<Transaction> oldMatches = matches;
+        matches = lookUpMatches();
+
+        int start = 0;
+        while (start < oldMatches.size() && start < matches.size() && oldMatches.get(start) == matches.get(start)) {
+            start++;
+        }
+        int oldEnd = oldMatches.size();
+        int end = matches.size();
+        while (oldEnd > start && end > start && oldMatches.get(oldEnd - 1) == matches.get(end - 1)) {
+            oldEnd--;
+            end--;
+        }
+        fireReplaced(start, oldMatches.subList(start, oldEnd), end);
+    }
+
+    private List<Transaction> lookUpMatches() {
+        BitSet matching = positions.get();
+        List<Transaction> found = new ArrayList<>(matching.cardinality());
+        for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+            found.add(source.get(i));
+        }
+        return found;
+    }
+
+    private List<Transaction> filterRecurrences() {
+        if (predicate == null) {
+            return recurrences;
+        }
+        List<Transaction> found = new ArrayList<>();
+        for (Transaction recurrence : recurrences) {
+            if (predicate.test(recurrence)) {
+                found.add(recurrence);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns a copy of the contents of this view if anyone is notified of its changes, or an empty list otherwise,
+     * so that the contents are only copied when the change has to report them.
+     */
+    private List<Transaction> copyIfObserved() {
+        return hasListeners() ? new ArrayList<>(this) : Collections.emptyList();
+    }
+
+    private void fireReplacedAll(List<Transaction> removed) {
+        if (hasListeners()) {
+            fireReplaced(0, removed, size());
+        }
+    }
+
+    /**
+     * Fires a change that replaces {@code removed} at {@code from} with the contents of this view up to {@code to}.
+     */
+    private void fireReplaced(int from, List<Transaction> removed, int to) {
+        if (removed.isEmpty() && from == to) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        }
+        if (to > from) {
+            nextAdd(from, to);
+        }
+        endChange();
+    }
+
+}
@@ -0,0 +1,131 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import thrift.model.util.CurrencyUtil;
+
+/**
+ * Keeps running expense and income totals for each month of a list of {@code Transaction}.
+ * Totals are updated from the changes fired by the observed list, so retrieving the totals of a month does not
+ * require scanning the list.
+ *
+ * Totals are kept in cents to avoid accumulating rounding errors over many additions and removals.
+ * Only amounts in {@link Value#DEFAULT_CURRENCY} are added to and subtracted from the running totals, as they do not
+ * depend on the currency rates. Transactions in other currencies are kept by month instead, and their converted
+ * total is recomputed when the rates have changed, so that reloading the rates cannot make a total drift.
+ */
+public class MonthlyTotals implements ListChangeListener<Transaction> {
+
+    private static final int EXPENSE = 0;
+    private static final int INCOME = 1;
+
+    private final Map<YearMonth, Month> months = new HashMap<>();
+
+    /**
+     * Returns the total expense for {@code yearMonth} in {@link Value#DEFAULT_CURRENCY} denomination.
+     */
+    public double getExpense(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return getTotal(yearMonth, EXPENSE);
+    }
+
+    /**
+     * Returns the total income for {@code yearMonth} in {@link Value#DEFAULT_CURRENCY} denomination.
+     */
+    public double getIncome(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return getTotal(yearMonth, INCOME);
+    }
+
+    /**
+     * Returns the total expense for {@code yearMonth} in hundredths of {@link Value#DEFAULT_CURRENCY}.
+     */
+    public long getExpenseMinorUnits(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return getTotalMinorUnits(yearMonth, EXPENSE);
+    }
+
+    /**
+     * Returns the total income for {@code yearMonth} in hundredths of {@link Value#DEFAULT_CURRENCY}.
+     */
+    public long getIncomeMinorUnits(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return getTotalMinorUnits(yearMonth, INCOME);
+    }
+
+    private double getTotal(YearMonth yearMonth, int type) {
+        return getTotalMinorUnits(yearMonth, type) / 100.0;
+    }
+
+    private long getTotalMinorUnits(YearMonth yearMonth, int type) {
+        Month month = months.get(yearMonth);
+        return month == null ? 0 : month.getTotalMinorUnits(type);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Reordering does not affect the totals.
+                continue;
+            }
+            update(change.getRemoved(), -1);
+            update(change.getAddedSubList(), 1);
+        }
+    }
+
+    /**
+     * Adds ({@code sign} of 1) or subtracts ({@code sign} of -1) the values of {@code transactions} from the totals.
+     */
+    private void update(List<? extends Transaction> transactions, int sign) {
+        for (Transaction t : transactions) {
+            Month month = months.computeIfAbsent(t.getDate().getYearMonth(), unused -> new Month());
+            if (t.getValue().currency.equals(Value.DEFAULT_CURRENCY)) {
+                month.defaultCurrencyTotals[getType(t)] += sign * t.getValue().getMonetaryMinorUnits();
+            } else {
+                month.otherCurrencyCounts.merge(t, sign, (count, change) ->
+                        count + change == 0 ? null : count + change);
+                month.convertedRatesVersion = -1;
+            }
+        }
+    }
+
+    private static int getType(Transaction transaction) {
+        return transaction instanceof Expense ? EXPENSE : INCOME;
+    }
+
+    /**
+     * The totals of the transactions in a month.
+     */
+    private static class Month {
+        /** Exact totals of the transactions in {@link Value#DEFAULT_CURRENCY}. */
+        private final long[] defaultCurrencyTotals = new long[2];
+        /** The number of times each transaction in another currency is in the observed list. */
+        private final Map<Transaction, Integer> otherCurrencyCounts = new HashMap<>();
+        /** Totals of the transactions in other currencies, as converted at the rates of the version below. */
+        private final long[] convertedTotals = new long[2];
+        private long convertedRatesVersion = -1;
+
+        long getTotalMinorUnits(int type) {
+            if (otherCurrencyCounts.isEmpty()) {
+                return defaultCurrencyTotals[type];
+            }
+            long ratesVersion = CurrencyUtil.getRatesVersion();
+            if (convertedRatesVersion != ratesVersion) {
+                convertedTotals[EXPENSE] = 0;
+                convertedTotals[INCOME] = 0;
+                otherCurrencyCounts.forEach((t, count) -> convertedTotals[getType(t)] += count
+                        * t.getValue().getMonetaryMinorUnits(t.getDate().getLocalDate()));
+                convertedRatesVersion = ratesVersion;
+            }
+            return defaultCurrencyTotals[type] + convertedTotals[type];
+        }
+    }
+
+}
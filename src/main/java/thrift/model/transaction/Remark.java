@@ -2,12 +2,16 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
+import thrift.commons.util.WeakInterner;
+
 /**
  * Represents a Transaction's remark which is optional.
  * Guarantees: immutable.
  */
 public class Remark {
 
+    private static final WeakInterner<Remark> POOL = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -20,6 +24,14 @@ public class Remark {
         value = remark;
     }
 
+    /**
+     * Returns the shared {@code Remark} of {@code remark}, so that the transactions with the same remark do not
+     * each hold a copy of it.
+     */
+    public static Remark valueOf(String remark) {
+        return POOL.intern(new Remark(remark));
+    }
+
     @Override
     public String toString() {
         assert value != null;
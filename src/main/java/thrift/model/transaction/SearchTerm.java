@@ -0,0 +1,163 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a term that the words of a {@code Transaction} are searched for, ignoring case.
+ * Guarantees: immutable; text is lower-cased, not empty and has no whitespace.
+ */
+public class SearchTerm {
+
+    public static final String MESSAGE_CONSTRAINTS = "Search terms should be single words that are not empty";
+
+    /** The longest word that a fuzzy term is allowed one edit away from, instead of two. */
+    public static final int MAX_LENGTH_FOR_ONE_EDIT = 5;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
+    /**
+     * The ways in which a word can match a {@code SearchTerm}.
+     */
+    public enum Type {
+        /** The word is the text of the term. */
+        WORD,
+        /** The word starts with the text of the term. */
+        PREFIX,
+        /** The word contains the text of the term. */
+        SUBSTRING,
+        /** The word is a bounded number of insertions, deletions or substitutions away from the text of the term. */
+        FUZZY
+    }
+
+    private final Type type;
+    private final String text;
+
+    /**
+     * Constructs a {@code SearchTerm}.
+     *
+     * @param type How words match the term.
+     * @param text A single word, which is searched for ignoring case.
+     */
+    public SearchTerm(Type type, String text) {
+        requireNonNull(type);
+        requireNonNull(text);
+        checkArgument(!text.isEmpty() && !WHITESPACE.matcher(text).find(), MESSAGE_CONSTRAINTS);
+        this.type = type;
+        this.text = text.toLowerCase(Locale.ROOT);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the number of edits that a word matching this fuzzy term may be away from its text.
+     */
+    public int getMaxEdits() {
+        return text.length() <= MAX_LENGTH_FOR_ONE_EDIT ? 1 : 2;
+    }
+
+    /**
+     * Returns how far the lower-cased {@code word} is from this term, or -1 if it does not match.
+     * A word that is the text of the term is 0 away. Other words that start with or contain the text are as far as
+     * the number of characters they have beyond it, and fuzzy matches are as far as their number of edits.
+     */
+    public int getDistance(String word) {
+        requireNonNull(word);
+        switch (type) {
+        case WORD:
+            return word.equals(text) ? 0 : -1;
+        case PREFIX:
+            return word.startsWith(text) ? word.length() - text.length() : -1;
+        case SUBSTRING:
+            return word.contains(text) ? word.length() - text.length() : -1;
+        case FUZZY:
+            return getEditDistance(text, word, getMaxEdits());
+        default:
+            throw new AssertionError("Unknown search term type: " + type);
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, or -1 if it is more than
+     * {@code maxEdits}. Only the diagonal band of the distance matrix that can be within {@code maxEdits} is filled.
+     */
+    static int getEditDistance(String first, String second, int maxEdits) {
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return -1;
+        }
+
+        int outOfBand = maxEdits + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j <= maxEdits ? j : outOfBand;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(second.length(), i + maxEdits);
+            current[0] = i <= maxEdits ? i : outOfBand;
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(outOfBand, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxEdits) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int distance = previous[second.length()];
+        return distance <= maxEdits ? distance : -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchTerm // instanceof handles nulls
+                && type == ((SearchTerm) other).type
+                && text.equals(((SearchTerm) other).text)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, text);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case PREFIX:
+            return text + "*";
+        case SUBSTRING:
+            return "*" + text + "*";
+        case FUZZY:
+            return "~" + text;
+        default:
+            return text;
+        }
+    }
+
+}
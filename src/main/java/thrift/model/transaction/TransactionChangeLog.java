@@ -0,0 +1,104 @@
+package thrift.model.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A log of the latest changes fired by a list of {@code Transaction}, numbered from the first change of the list, so
+ * that the changes between two points in time can be replayed elsewhere, such as in a journal on the hard disk,
+ * without comparing copies of the whole list.
+ * Changes are only counted until {@link #retainChangesFrom(long)} is called by the reader of the log, which is called
+ * again to discard the changes that have been replayed. Changes that add more than {@link #MAX_LOGGED_ADDITIONS}
+ * transactions, such as replacing the whole list, are counted without being kept, as the reader is better off
+ * copying the whole list than replaying them. At most {@link #MAX_RETAINED_CHANGES} changes are kept. Changes are
+ * logged on the thread changing the list, and may be read from other threads.
+ */
+public class TransactionChangeLog implements ListChangeListener<Transaction> {
+
+    /** Number of changes after which the earliest changes are dropped, which then have to be found another way. */
+    public static final int MAX_RETAINED_CHANGES = 1000;
+    /** Number of transactions added by a change above which the change is counted without being kept. */
+    public static final int MAX_LOGGED_ADDITIONS = 100;
+
+    private final List<TransactionListChange> changes = new ArrayList<>();
+    /** Number of the earliest change in {@link #changes}. */
+    private long firstChangeNumber = 0;
+    private boolean isRetaining = false;
+
+    /**
+     * Returns the number of changes logged so far, including those that have been dropped.
+     */
+    public synchronized long getChangeCount() {
+        return firstChangeNumber + changes.size();
+    }
+
+    /**
+     * Returns the changes numbered from {@code from}, inclusive, to {@code to}, exclusive, in order, or an empty
+     * {@code Optional} if some of them have been dropped or not been logged yet.
+     */
+    public synchronized Optional<List<TransactionListChange>> getChangesBetween(long from, long to) {
+        if (from < firstChangeNumber || from > to || to > getChangeCount()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(changes.subList((int) (from - firstChangeNumber),
+                (int) (to - firstChangeNumber))));
+    }
+
+    /**
+     * Keeps the changes numbered from {@code from} onwards from now on, and discards the earlier ones.
+     */
+    public synchronized void retainChangesFrom(long from) {
+        isRetaining = true;
+        int discarded = (int) Math.min(Math.max(from - firstChangeNumber, 0), changes.size());
+        changes.subList(0, discarded).clear();
+        firstChangeNumber += discarded;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            int changedCount = change.getTo() - change.getFrom();
+            if (!isRetaining() || changedCount > MAX_LOGGED_ADDITIONS) {
+                skip();
+                continue;
+            }
+
+            TransactionListChange logged;
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Logged as replacing the affected positions with the transactions now at them.
+                logged = new TransactionListChange(change.getFrom(), changedCount,
+                        change.getList().subList(change.getFrom(), change.getTo()));
+            } else {
+                logged = new TransactionListChange(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList());
+            }
+            log(logged);
+        }
+    }
+
+    private synchronized boolean isRetaining() {
+        return isRetaining;
+    }
+
+    /**
+     * Counts a change without keeping it, which drops the changes before it, as they cannot be replayed without it.
+     */
+    private synchronized void skip() {
+        firstChangeNumber = getChangeCount() + 1;
+        changes.clear();
+    }
+
+    private synchronized void log(TransactionListChange logged) {
+        changes.add(logged);
+        if (changes.size() > MAX_RETAINED_CHANGES) {
+            // Drop half of the changes at once, so that the cost of dropping each change stays constant.
+            int dropped = changes.size() / 2;
+            changes.subList(0, dropped).clear();
+            firstChangeNumber += dropped;
+        }
+    }
+
+}
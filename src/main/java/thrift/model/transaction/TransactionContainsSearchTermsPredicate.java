@@ -0,0 +1,38 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a word in a {@code Transaction}'s {@code Description}, {@code Remark} or tag names matches any of the
+ * search terms given.
+ */
+public class TransactionContainsSearchTermsPredicate implements Predicate<Transaction> {
+    private final List<SearchTerm> searchTerms;
+
+    public TransactionContainsSearchTermsPredicate(List<SearchTerm> searchTerms) {
+        requireNonNull(searchTerms);
+        this.searchTerms = searchTerms;
+    }
+
+    public List<SearchTerm> getSearchTerms() {
+        return searchTerms;
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        requireNonNull(transaction);
+        return TransactionTrigramIndex.getWords(transaction).stream()
+                .anyMatch(word -> searchTerms.stream().anyMatch(searchTerm -> searchTerm.getDistance(word) != -1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionContainsSearchTermsPredicate // instanceof handles nulls
+                && searchTerms.equals(((TransactionContainsSearchTermsPredicate) other).searchTerms)); // state check
+    }
+
+}
@@ -3,38 +3,77 @@ package thrift.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
 
 
 /**
  * Represents the Date whereby the Transaction is created on.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
 public class TransactionDate {
 
     public static final String DATE_CONSTRAINTS =
             "Date should be specified in dd/MM/yyyy format";
+
+    /**
+     * Formatter for {@code Date} objects in the format of a {@code TransactionDate}.
+     * {@code SimpleDateFormat} is not thread-safe, so it is not used by this class itself.
+     */
     public static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("dd/MM/yyyy");
-    private Date date;
-    private String rawDate;
+
+    /** Larger values of a field are rejected, as they are beyond the years that a {@code LocalDate} can hold. */
+    private static final int MAX_FIELD_VALUE = 99_999_999;
+
+    private final LocalDate localDate;
+    /**
+     * The date as the user entered it, which is how it is displayed and saved, or null if it was not entered as a
+     * string, in which case it is displayed in dd/MM/yyyy format.
+     */
+    private final String rawDate;
 
     /**
      * Constructs a {@code TransactionDate}.
      *
-     * @param date Datestamp for the Transaction.
-     * @throws ParseException If invalid date String is supplied, but it will be handled in
-     * {@link #isValidDate(String)}.
+     * @param date Datestamp for the Transaction, in dd/MM/yyyy format.
      */
     public TransactionDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), DATE_CONSTRAINTS);
-        try {
-            this.date = DATE_FORMATTER.parse(date);
-            rawDate = date;
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
+        LocalDate parsedDate = parse(date);
+        checkArgument(parsedDate != null, DATE_CONSTRAINTS);
+        localDate = parsedDate;
+        rawDate = date;
+    }
+
+    private TransactionDate(LocalDate localDate, String rawDate) {
+        this.localDate = localDate;
+        this.rawDate = rawDate;
+    }
+
+    /**
+     * Returns a {@code TransactionDate} on the calendar day {@code localDate}, without going through the string
+     * form of the date.
+     *
+     * @param localDate Calendar day of the Transaction.
+     */
+    public static TransactionDate fromLocalDate(LocalDate localDate) {
+        requireNonNull(localDate);
+        return new TransactionDate(localDate, null);
+    }
+
+    /**
+     * Returns a {@code TransactionDate} of {@code date}, or an empty {@code Optional} if {@code date} is not a valid
+     * date in dd/MM/yyyy format. The date is parsed once, instead of once to validate it and again to construct it.
+     */
+    public static Optional<TransactionDate> tryParse(String date) {
+        requireNonNull(date);
+        LocalDate parsedDate = parse(date);
+        return parsedDate == null ? Optional.empty() : Optional.of(new TransactionDate(parsedDate, date));
     }
 
     /**
@@ -44,43 +83,126 @@ public class TransactionDate {
      * @return true if the supplied string is a valid Date.
      */
     public static boolean isValidDate(String date) {
+        requireNonNull(date);
+        return parse(date) != null;
+    }
+
+    /**
+     * Parses {@code date} in dd/MM/yyyy format, accepting the same strings as a strict {@code SimpleDateFormat} of
+     * that pattern did: each field may have any number of digits and be preceded by whitespace, and anything after the
+     * year is ignored. The string is validated and parsed in a single pass, without creating any intermediate objects.
+     *
+     * @return the calendar day of {@code date}, or null if it is not a valid date in that format.
+     */
+    private static LocalDate parse(String date) {
+        int position = 0;
+        int[] fields = new int[3];
+        for (int field = 0; field < fields.length; field++) {
+            if (field > 0) {
+                if (position >= date.length() || date.charAt(position) != '/') {
+                    return null;
+                }
+                position++;
+            }
+            while (position < date.length() && Character.isWhitespace(date.charAt(position))) {
+                position++;
+            }
+
+            int fieldStart = position;
+            int fieldValue = 0;
+            while (position < date.length() && date.charAt(position) >= '0' && date.charAt(position) <= '9') {
+                fieldValue = fieldValue * 10 + date.charAt(position) - '0';
+                if (fieldValue > MAX_FIELD_VALUE) {
+                    return null;
+                }
+                position++;
+            }
+            if (position == fieldStart) {
+                return null;
+            }
+            fields[field] = fieldValue;
+        }
+
+        int day = fields[0];
+        int month = fields[1];
+        int year = fields[2];
+        if (year == 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
         try {
-            DATE_FORMATTER.setLenient(false);
-            DATE_FORMATTER.parse(date);
-            return true;
-        } catch (ParseException ex) {
-            return false;
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
         }
     }
 
     /**
-     * Gets the Date object for the Transaction.
+     * Gets the Date object for the Transaction, at the start of its day in the system's time zone.
      *
      * @return Date object belonging to the Transaction.
      */
     public Date getDate() {
-        assert this.date != null;
+        return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 
-        return this.date;
+    /**
+     * Gets the calendar day of the Transaction.
+     *
+     * @return LocalDate of the Transaction.
+     */
+    public LocalDate getLocalDate() {
+        return localDate;
+    }
+
+    /**
+     * Gets the month and year that the Transaction falls in.
+     *
+     * @return YearMonth of the Transaction.
+     */
+    public YearMonth getYearMonth() {
+        return YearMonth.from(localDate);
     }
 
     @Override
     public String toString() {
-        assert rawDate != null;
+        return rawDate != null ? rawDate : format(localDate);
+    }
 
-        return rawDate;
+    /**
+     * Returns {@code localDate} in dd/MM/yyyy format.
+     */
+    private static String format(LocalDate localDate) {
+        int year = localDate.getYear();
+        int yearDigits = 4;
+        for (int rest = year / 10000; rest > 0; rest /= 10) {
+            yearDigits++;
+        }
+        char[] formatted = new char[6 + yearDigits];
+        writeDigits(formatted, 0, localDate.getDayOfMonth(), 2);
+        formatted[2] = '/';
+        writeDigits(formatted, 3, localDate.getMonthValue(), 2);
+        formatted[5] = '/';
+        writeDigits(formatted, 6, year, yearDigits);
+        return new String(formatted);
+    }
+
+    private static void writeDigits(char[] destination, int start, int value, int digits) {
+        for (int i = start + digits - 1; i >= start; i--) {
+            destination[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TransactionDate // instanceof handles nulls
-                && date.equals(((TransactionDate) other).date)); // state check
+                && localDate.equals(((TransactionDate) other).localDate)); // state check
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        return localDate.hashCode();
     }
 
 }
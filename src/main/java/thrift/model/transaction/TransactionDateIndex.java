@@ -0,0 +1,83 @@
+package thrift.model.transaction;
+
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A sorted index of the {@code Transaction} in a list, bucketed by the epoch day of their {@code TransactionDate}.
+ * The index is kept in sync with the changes fired by the observed list, so that the transactions within a date
+ * range can be retrieved without scanning the whole list.
+ */
+public class TransactionDateIndex implements ListChangeListener<Transaction> {
+
+    private final NavigableMap<Long, List<Transaction>> buckets = new TreeMap<>();
+
+    /**
+     * Returns the transactions that occur from {@code start} to {@code end}, both inclusive, ordered by date.
+     * Transactions occurring on the same day are ordered by the time they were added to the index.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        List<Transaction> transactionsInRange = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return transactionsInRange;
+        }
+
+        for (List<Transaction> bucket : buckets.subMap(start.toEpochDay(), true, end.toEpochDay(), true).values()) {
+            transactionsInRange.addAll(bucket);
+        }
+        return transactionsInRange;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Reordering does not affect the dates of the transactions.
+                continue;
+            }
+            for (Transaction removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Transaction added : change.getAddedSubList()) {
+                buckets.computeIfAbsent(getKey(added), unused -> new ArrayList<>()).add(added);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from its bucket. Transactions are matched by reference, as the list may contain
+     * equal transactions.
+     */
+    private void remove(Transaction toRemove) {
+        Long key = getKey(toRemove);
+        List<Transaction> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+
+        Iterator<Transaction> it = bucket.iterator();
+        while (it.hasNext()) {
+            if (it.next() == toRemove) {
+                it.remove();
+                break;
+            }
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    private static Long getKey(Transaction transaction) {
+        return transaction.getDate().getLocalDate().toEpochDay();
+    }
+
+}
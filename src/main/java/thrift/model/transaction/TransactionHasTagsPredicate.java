@@ -0,0 +1,90 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import thrift.model.tag.Tag;
+
+/**
+ * Tests that a {@code Transaction}'s tags satisfy any of the clauses given, where a clause is satisfied by the
+ * transactions that have all of its required tags and none of its excluded tags.
+ */
+public class TransactionHasTagsPredicate implements Predicate<Transaction> {
+
+    private final List<Clause> clauses;
+
+    public TransactionHasTagsPredicate(List<Clause> clauses) {
+        requireNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        requireNonNull(transaction);
+        Set<Tag> tags = transaction.getTags();
+        return clauses.stream().anyMatch(clause -> tags.containsAll(clause.required)
+                && Collections.disjoint(tags, clause.excluded));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionHasTagsPredicate // instanceof handles nulls
+                && clauses.equals(((TransactionHasTagsPredicate) other).clauses)); // state check
+    }
+
+    /**
+     * A conjunction of tags that a transaction must have and tags that it must not have.
+     * Guarantees: immutable; fields not null; has at least one tag.
+     */
+    public static class Clause {
+        private final Set<Tag> required;
+        private final Set<Tag> excluded;
+
+        /**
+         * Constructs a {@code Clause}.
+         *
+         * @param required The tags that a transaction must all have.
+         * @param excluded The tags that a transaction must not have any of.
+         */
+        public Clause(Set<Tag> required, Set<Tag> excluded) {
+            requireNonNull(required);
+            requireNonNull(excluded);
+            checkArgument(!required.isEmpty() || !excluded.isEmpty(), "A clause must have at least one tag");
+            this.required = Collections.unmodifiableSet(required);
+            this.excluded = Collections.unmodifiableSet(excluded);
+        }
+
+        public Set<Tag> getRequired() {
+            return required;
+        }
+
+        public Set<Tag> getExcluded() {
+            return excluded;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clause // instanceof handles nulls
+                    && required.equals(((Clause) other).required)
+                    && excluded.equals(((Clause) other).excluded)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(required, excluded);
+        }
+    }
+
+}
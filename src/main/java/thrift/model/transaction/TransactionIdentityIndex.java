@@ -0,0 +1,72 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A hash index over the identities of the {@code Transaction} in a list, where two transactions have the same
+ * identity if they have the same {@code Description} and {@code Value}, as in
+ * {@link Transaction#isSameTransaction(Transaction)}.
+ * The index is kept in sync with the changes fired by the observed list, so that checking if a transaction with the
+ * same identity exists does not require scanning the whole list.
+ */
+public class TransactionIdentityIndex implements ListChangeListener<Transaction> {
+
+    private final Map<Identity, Integer> counts = new HashMap<>();
+
+    /**
+     * Returns true if a transaction with the same identity as {@code toCheck} is in the observed list.
+     */
+    public boolean contains(Transaction toCheck) {
+        requireNonNull(toCheck);
+        return counts.containsKey(new Identity(toCheck));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Reordering does not affect the identities of the transactions.
+                continue;
+            }
+            for (Transaction removed : change.getRemoved()) {
+                counts.computeIfPresent(new Identity(removed), (unused, count) -> count == 1 ? null : count - 1);
+            }
+            for (Transaction added : change.getAddedSubList()) {
+                counts.merge(new Identity(added), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * The fields of a {@code Transaction} that make up its identity.
+     */
+    private static class Identity {
+        private final Description description;
+        private final Value value;
+
+        Identity(Transaction transaction) {
+            description = transaction.getDescription();
+            value = transaction.getValue();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && description.equals(((Identity) other).description)
+                    && value.equals(((Identity) other).value)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(description, value);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.YearMonth;
 import java.util.Calendar;
 import java.util.function.Predicate;
 
@@ -9,9 +10,13 @@ import java.util.function.Predicate;
  * Tests that a {@code Transaction}'s {@code monthYear} matches the given monthYear.
  */
 public class TransactionIsInMonthYearPredicate implements Predicate<Transaction> {
-    private final Calendar monthYear;
+    private final YearMonth monthYear;
 
     public TransactionIsInMonthYearPredicate(Calendar monthYear) {
+        this(YearMonth.of(monthYear.get(Calendar.YEAR), monthYear.get(Calendar.MONTH) + 1));
+    }
+
+    public TransactionIsInMonthYearPredicate(YearMonth monthYear) {
         this.monthYear = monthYear;
     }
 
@@ -20,20 +25,13 @@ public class TransactionIsInMonthYearPredicate implements Predicate<Transaction>
         requireNonNull(transaction);
         assert monthYear != null;
 
-        Calendar transactionMonthYear = Calendar.getInstance();
-        transactionMonthYear.setTime(transaction.getDate().getDate());
-
-        return monthYear.get(Calendar.MONTH) == transactionMonthYear.get(Calendar.MONTH)
-                && monthYear.get(Calendar.YEAR) == transactionMonthYear.get(Calendar.YEAR) ? true : false;
+        return monthYear.equals(transaction.getDate().getYearMonth());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof TransactionIsInMonthYearPredicate) // instanceof handles nulls
-                && (((TransactionIsInMonthYearPredicate) other).monthYear.get(Calendar.MONTH)
-                == monthYear.get(Calendar.MONTH)
-                && ((TransactionIsInMonthYearPredicate) other).monthYear.get(Calendar.YEAR)
-                == monthYear.get(Calendar.YEAR));
+                || (other instanceof TransactionIsInMonthYearPredicate // instanceof handles nulls
+                && monthYear.equals(((TransactionIsInMonthYearPredicate) other).monthYear));
     }
 }
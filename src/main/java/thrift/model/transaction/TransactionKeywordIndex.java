@@ -0,0 +1,142 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An inverted index from the lower-cased words in the {@code Description} and {@code Remark} of the
+ * {@code Transaction} in a list to the transactions that contain them, where words are separated by whitespace as in
+ * {@link thrift.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ * The index is kept in sync with the changes fired by the observed list, so that finding the transactions that
+ * contain any of some words takes time proportional to the number of transactions found, instead of splitting the
+ * description and remark of every transaction in the list. Transactions are compared by reference, so that indexing
+ * a transaction does not hash all of its fields once per word. The words in the index are also the vocabulary that
+ * {@link TransactionTrigramIndex} indexes by trigram, which is told by a {@link WordListener} when it changes.
+ */
+public class TransactionKeywordIndex implements ListChangeListener<Transaction> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** The number of times each transaction containing a word is in the observed list, by word, by reference. */
+    private final Map<String, Map<Transaction, Integer>> postings = new HashMap<>();
+    private WordListener wordListener;
+
+    /**
+     * Sets the listener that is told when the words in the index change. It must be set before the observed list is
+     * populated, as it is not told of the words already in the index.
+     */
+    void setWordListener(WordListener wordListener) {
+        requireNonNull(wordListener);
+        assert postings.isEmpty() : "The word listener must be set before the list is populated";
+        this.wordListener = wordListener;
+    }
+
+    /**
+     * Returns the distinct lower-cased words contained in the transactions of the observed list.
+     */
+    Set<String> getIndexedWords() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns the transactions in the observed list that contain {@code word}, which is an indexed word, by reference.
+     */
+    Set<Transaction> getTransactionsContaining(String word) {
+        Map<Transaction, Integer> posting = postings.get(word);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting.keySet());
+    }
+
+    /**
+     * Returns the transactions in the observed list whose description or remark contains any of {@code words},
+     * ignoring case, as a set of references. Blank words match nothing.
+     */
+    public Set<Transaction> getTransactionsContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Transaction> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            Map<Transaction, Integer> posting = postings.get(normalize(word.trim()));
+            if (posting != null) {
+                found.addAll(posting.keySet());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Reordering does not affect the words of the transactions.
+                continue;
+            }
+            for (Transaction removed : change.getRemoved()) {
+                for (String word : getWords(removed)) {
+                    Map<Transaction, Integer> posting = postings.get(word);
+                    posting.computeIfPresent(removed, (unused, count) -> count == 1 ? null : count - 1);
+                    if (posting.isEmpty()) {
+                        postings.remove(word);
+                        if (wordListener != null) {
+                            wordListener.wordRemoved(word);
+                        }
+                    }
+                }
+            }
+            for (Transaction added : change.getAddedSubList()) {
+                for (String word : getWords(added)) {
+                    Map<Transaction, Integer> posting = postings.get(word);
+                    if (posting == null) {
+                        posting = new IdentityHashMap<>();
+                        postings.put(word, posting);
+                        if (wordListener != null) {
+                            wordListener.wordAdded(word);
+                        }
+                    }
+                    posting.merge(added, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct lower-cased words in the description and remark of {@code transaction}.
+     */
+    static Set<String> getWords(Transaction transaction) {
+        Set<String> words = new HashSet<>();
+        addWords(transaction.getDescription().toString(), words);
+        addWords(transaction.getRemark().toString(), words);
+        return words;
+    }
+
+    private static void addWords(String sentence, Set<String> words) {
+        for (String word : WHITESPACE.split(sentence)) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Is told when a word starts or stops being contained in a transaction of the observed list.
+     */
+    interface WordListener {
+        void wordAdded(String word);
+
+        void wordRemoved(String word);
+    }
+
+}
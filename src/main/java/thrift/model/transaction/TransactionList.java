@@ -3,11 +3,21 @@ package thrift.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import thrift.commons.core.index.Index;
 import thrift.model.transaction.exceptions.TransactionNotFoundException;
@@ -16,21 +26,42 @@ import thrift.model.transaction.exceptions.TransactionNotFoundException;
  * A list of Transactions that does not allow nulls. However, the removal of a transaction
  * uses Transaction#equals(Object) so as to ensure that the transaction with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
- *
+ * Supports a minimal set of list operations. The batch operations {@link #addAll(List)},
+ * {@link #removeRange(int, int)} and {@link #replaceAll(UnaryOperator)} change many transactions with a single change
+ * notification to the listeners of the list.
  */
 public class TransactionList implements Iterable<Transaction> {
 
     private final ObservableList<Transaction> internalList = FXCollections.observableArrayList();
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final MonthlyTotals monthlyTotals = new MonthlyTotals();
+    private final TransactionDateIndex dateIndex = new TransactionDateIndex();
+    private final TransactionIdentityIndex identityIndex = new TransactionIdentityIndex();
+    private final TransactionPositionIndex positionIndex = new TransactionPositionIndex(internalList);
+    private final TransactionKeywordIndex keywordIndex = new TransactionKeywordIndex();
+    private final TransactionTagIndex tagIndex = new TransactionTagIndex(internalList);
+    private final TransactionTrigramIndex trigramIndex =
+            new TransactionTrigramIndex(internalList, keywordIndex, tagIndex);
+    private final TransactionChangeLog changeLog = new TransactionChangeLog();
+
+    public TransactionList() {
+        internalList.addListener(monthlyTotals);
+        internalList.addListener(dateIndex);
+        internalList.addListener(identityIndex);
+        internalList.addListener(positionIndex);
+        internalList.addListener(keywordIndex);
+        keywordIndex.setWordListener(trigramIndex);
+        internalList.addListener(tagIndex);
+        internalList.addListener(changeLog);
+    }
 
     /**
      * Returns true if the supplied Transaction object is inside this transaction list.
      */
     public boolean contains(Transaction toCheck) {
         requireAllNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTransaction);
+        return identityIndex.contains(toCheck);
     }
 
     /**
@@ -49,6 +80,14 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.add(index.getZeroBased(), toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order.
+     */
+    public void addAll(List<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the transaction {@code target} in the list with {@code updatedTransaction}.
      * {@code target} must exist in the list.
@@ -56,7 +95,10 @@ public class TransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction updatedTransaction) {
         requireAllNonNull(target, updatedTransaction);
 
-        int index = internalList.indexOf(target);
+        int index = positionIndex.indexOf(target);
+        if (index == -1) {
+            index = internalList.indexOf(target);
+        }
         if (index == -1) {
             throw new TransactionNotFoundException();
         }
@@ -85,7 +127,10 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void remove(Transaction toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionIndex.indexOf(toRemove);
+        if (index != -1) {
+            internalList.remove(index);
+        } else if (!internalList.remove(toRemove)) {
             throw new TransactionNotFoundException();
         }
     }
@@ -99,6 +144,23 @@ public class TransactionList implements Iterable<Transaction> {
         return internalList.remove(internalList.size() - 1);
     }
 
+    /**
+     * Removes the transactions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     *
+     * @return removed transactions, in the order they were in the list.
+     */
+    public List<Transaction> removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > internalList.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        List<Transaction> removed = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        if (!removed.isEmpty()) {
+            internalList.remove(fromIndex, toIndex);
+        }
+        return removed;
+    }
+
     /**
      * Remove the transaction from the list based on the index.
      */
@@ -119,6 +181,18 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.setAll(transactions);
     }
 
+    /**
+     * Replaces each transaction in the list with the result of applying {@code operator} to it.
+     */
+    public void replaceAll(UnaryOperator<Transaction> operator) {
+        requireNonNull(operator);
+        List<Transaction> replacements = new ArrayList<>(internalList.size());
+        for (Transaction transaction : internalList) {
+            replacements.add(requireNonNull(operator.apply(transaction)));
+        }
+        internalList.setAll(replacements);
+    }
+
     /**
      * Returns an Optional that contains the {@link Index} of the {@code transaction}.
      *
@@ -127,12 +201,123 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public Optional<Index> getIndex(Transaction transaction) {
         requireNonNull(transaction);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (transaction == internalList.get(i)) {
-                return Optional.of(Index.fromZeroBased(i));
-            }
+        int index = positionIndex.indexOf(transaction);
+        if (index == -1) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(index));
+    }
+
+    /**
+     * Returns the transactions that occur from {@code start} to {@code end}, both inclusive, ordered by date.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+        return dateIndex.getTransactionsBetween(start, end);
+    }
+
+    /**
+     * Returns the transactions that occur in {@code yearMonth}, ordered by date.
+     */
+    public List<Transaction> getTransactionsInMonth(YearMonth yearMonth) {
+        requireNonNull(yearMonth);
+        return dateIndex.getTransactionsBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Returns the positions in the list of the transactions that occur in {@code yearMonth}.
+     */
+    public BitSet getPositionsInMonth(YearMonth yearMonth) {
+        return getPositionsOf(getTransactionsInMonth(yearMonth));
+    }
+
+    /**
+     * Returns the positions in the list of {@code found}, which are transactions from the list found by an index.
+     */
+    private BitSet getPositionsOf(Collection<Transaction> found) {
+        BitSet positions = new BitSet(internalList.size());
+        for (Transaction transaction : found) {
+            positionIndex.markPositions(transaction, positions);
         }
-        return Optional.empty();
+        return positions;
+    }
+
+    /**
+     * Returns the transactions in the list whose description or remark contains any of {@code words}, ignoring case.
+     */
+    public Set<Transaction> getTransactionsContainingAnyWord(Collection<String> words) {
+        return keywordIndex.getTransactionsContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the positions in the list of the transactions whose description or remark contains any of
+     * {@code words}, ignoring case.
+     */
+    public BitSet getPositionsContainingAnyWord(Collection<String> words) {
+        return getPositionsOf(keywordIndex.getTransactionsContainingAnyWord(words));
+    }
+
+    /**
+     * Returns the transactions in the list with a word in their description, remark or tag names that matches any of
+     * {@code searchTerms}, closest matches first. Transactions that are as close are in the order of the list.
+     */
+    public List<Transaction> searchTransactions(Collection<SearchTerm> searchTerms) {
+        Map<Transaction, Integer> distances = trigramIndex.getClosestDistances(searchTerms);
+        List<Transaction> found = new ArrayList<>(distances.keySet());
+        found.sort(Comparator.<Transaction>comparingInt(distances::get).thenComparingInt(transaction -> {
+            int index = positionIndex.indexOf(transaction);
+            return index == -1 ? Integer.MAX_VALUE : index;
+        }));
+        return found;
+    }
+
+    /**
+     * Returns the positions in the list of the transactions with a word in their description, remark or tag names that
+     * matches any of {@code searchTerms}.
+     */
+    public BitSet getPositionsMatching(Collection<SearchTerm> searchTerms) {
+        return getPositionsOf(trigramIndex.getClosestDistances(searchTerms).keySet());
+    }
+
+    /**
+     * Returns the positions in the list of the transactions whose tags satisfy {@code predicate}.
+     */
+    public BitSet getPositionsWithTags(TransactionHasTagsPredicate predicate) {
+        return tagIndex.getPositionsMatching(predicate);
+    }
+
+    /**
+     * Returns the transactions in the list whose tags satisfy {@code predicate}, in the order of the list.
+     */
+    public List<Transaction> getTransactionsWithTags(TransactionHasTagsPredicate predicate) {
+        BitSet positions = tagIndex.getPositionsMatching(predicate);
+        List<Transaction> found = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            found.add(internalList.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the expense and income totals of each month, which are kept in sync with this list.
+     */
+    public MonthlyTotals getMonthlyTotals() {
+        return monthlyTotals;
+    }
+
+    /**
+     * Returns the log of the latest changes to this list, which is kept in sync with this list.
+     */
+    public TransactionChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Adds a listener that is notified of the changes to this list after the indexes of the list are up to date, so
+     * that it can look up the indexes, which listeners of {@link #asUnmodifiableObservableList()} may not.
+     */
+    public void addListener(ListChangeListener<? super Transaction> listener) {
+        requireNonNull(listener);
+        internalList.addListener(listener);
     }
 
     /**
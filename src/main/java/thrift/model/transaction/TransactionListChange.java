@@ -0,0 +1,68 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a single change to a list of {@code Transaction}, which replaces a number of the transactions starting
+ * at a position with other transactions.
+ * Guarantees: immutable; position and number of removed transactions are not negative.
+ */
+public class TransactionListChange {
+
+    private final int at;
+    private final int removedCount;
+    private final List<Transaction> added;
+
+    /**
+     * Constructs a {@code TransactionListChange}.
+     *
+     * @param at Position of the first transaction removed or added.
+     * @param removedCount Number of transactions removed from {@code at}.
+     * @param added Transactions added at {@code at} in place of those removed, which are copied.
+     */
+    public TransactionListChange(int at, int removedCount, List<? extends Transaction> added) {
+        requireNonNull(added);
+        checkArgument(at >= 0 && removedCount >= 0, "Position and number of removed transactions must not be negative");
+        this.at = at;
+        this.removedCount = removedCount;
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getAt() {
+        return at;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Transaction> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionListChange // instanceof handles nulls
+                && at == ((TransactionListChange) other).at
+                && removedCount == ((TransactionListChange) other).removedCount
+                && added.equals(((TransactionListChange) other).added)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(at, removedCount, added);
+    }
+
+    @Override
+    public String toString() {
+        return "At " + at + ", removed " + removedCount + ", added " + added;
+    }
+
+}
@@ -0,0 +1,143 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An index from each {@code Transaction} in a list, compared by reference, to its position in the list.
+ * Changes that shift the positions of transactions only mark the positions after the change as outdated, and
+ * outdated positions are renumbered in a single pass the next time they are looked up. Appending to and updating the
+ * list therefore keep every position up to date, while removals are paid for once per lookup rather than once per
+ * removal.
+ */
+public class TransactionPositionIndex implements ListChangeListener<Transaction> {
+
+    private final List<Transaction> list;
+    private final Map<Transaction, Entry> entries = new IdentityHashMap<>();
+
+    /** Positions of the transactions found before this index of the list are up to date. */
+    private int validUpTo = 0;
+
+    /**
+     * Creates an index over {@code list}. The index has to be registered as a listener of {@code list} by the caller.
+     */
+    public TransactionPositionIndex(List<Transaction> list) {
+        requireNonNull(list);
+        assert list.isEmpty() : "The index must be created before the list is populated";
+        this.list = list;
+    }
+
+    /**
+     * Returns the zero-based position of {@code transaction} in the list, or -1 if it is not in the list.
+     * If the same reference is in the list more than once, the position of one of them is returned.
+     */
+    public int indexOf(Transaction transaction) {
+        requireNonNull(transaction);
+        Entry entry = entries.get(transaction);
+        if (entry == null) {
+            return -1;
+        }
+        if (entry.position >= validUpTo) {
+            renumber();
+        }
+
+        assert list.get(entry.position) == transaction;
+        return entry.position;
+    }
+
+    /**
+     * Sets the positions in the list of {@code transaction} in {@code positions}, which are all the positions where
+     * the same reference is in the list.
+     */
+    public void markPositions(Transaction transaction, BitSet positions) {
+        requireNonNull(transaction);
+        requireNonNull(positions);
+        Entry entry = entries.get(transaction);
+        if (entry == null) {
+            return;
+        }
+        if (entry.count == 1) {
+            positions.set(indexOf(transaction));
+            return;
+        }
+
+        // Only one position of each reference is kept, so the others are found by scanning the list.
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == transaction) {
+                positions.set(i);
+            }
+        }
+    }
+
+    /**
+     * Brings the positions of all transactions from {@link #validUpTo} onwards up to date.
+     */
+    private void renumber() {
+        int from = validUpTo;
+        for (int i = from; i < list.size(); i++) {
+            Transaction transaction = list.get(i);
+            Entry entry = entries.get(transaction);
+            boolean isFoundEarlier = entry.position < i && list.get(entry.position) == transaction;
+            if (!isFoundEarlier) {
+                entry.position = i;
+            }
+        }
+        validUpTo = list.size();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.getRemovedSize() != change.getAddedSize()) {
+                validUpTo = Math.min(validUpTo, from);
+            }
+
+            List<? extends Transaction> removed = change.getRemoved();
+            for (int i = 0; i < removed.size(); i++) {
+                Entry entry = entries.get(removed.get(i));
+                entry.count--;
+                if (entry.count == 0) {
+                    entries.remove(removed.get(i));
+                } else if (entry.position == from + i) {
+                    // Another copy of the same reference is in the list, but its position is unknown.
+                    validUpTo = 0;
+                }
+            }
+
+            List<? extends Transaction> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                Entry entry = entries.get(added.get(i));
+                if (entry == null) {
+                    entries.put(added.get(i), new Entry(from + i));
+                } else {
+                    entry.count++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The last known position of a transaction, and the number of times it is in the list.
+     */
+    private static class Entry {
+        private int position;
+        private int count;
+
+        Entry(int position) {
+            this.position = position;
+            this.count = 1;
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import thrift.model.tag.Tag;
+
+/**
+ * An index from each {@code Tag} to a bitmap of the positions of the {@code Transaction} in a list that carry it, so
+ * that the transactions with a combination of tags are found by intersecting and uniting bitmaps instead of looking
+ * up the tags of every transaction.
+ * Changes that keep the positions of the other transactions, which are updates of a transaction and additions to
+ * or removals from the end of the list, are applied to the bitmaps directly. Other changes mark the bitmaps as
+ * outdated, and they are rebuilt in a single pass over the list the next time they are looked up.
+ */
+public class TransactionTagIndex implements ListChangeListener<Transaction> {
+
+    private static final BitSet NO_POSITIONS = new BitSet();
+
+    private final List<Transaction> list;
+    private final Map<Tag, BitSet> positionsByTag = new HashMap<>();
+    private boolean isOutdated = false;
+
+    /**
+     * Creates an index over {@code list}. The index has to be registered as a listener of {@code list} by the caller.
+     */
+    public TransactionTagIndex(List<Transaction> list) {
+        requireNonNull(list);
+        assert list.isEmpty() : "The index must be created before the list is populated";
+        this.list = list;
+    }
+
+    /**
+     * Returns the positions in the list of the transactions that satisfy {@code predicate}.
+     */
+    public BitSet getPositionsMatching(TransactionHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        if (isOutdated) {
+            rebuild();
+        }
+
+        BitSet matching = new BitSet(list.size());
+        for (TransactionHasTagsPredicate.Clause clause : predicate.getClauses()) {
+            BitSet clauseMatching = new BitSet(list.size());
+            clauseMatching.set(0, list.size());
+            for (Tag tag : clause.getRequired()) {
+                clauseMatching.and(positionsByTag.getOrDefault(tag, NO_POSITIONS));
+            }
+            for (Tag tag : clause.getExcluded()) {
+                clauseMatching.andNot(positionsByTag.getOrDefault(tag, NO_POSITIONS));
+            }
+            matching.or(clauseMatching);
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the tags carried by the transactions in the list, mapped to the positions of those transactions.
+     */
+    Map<Tag, BitSet> getPositionsByTag() {
+        if (isOutdated) {
+            rebuild();
+        }
+        return Collections.unmodifiableMap(positionsByTag);
+    }
+
+    private void rebuild() {
+        positionsByTag.clear();
+        for (int i = 0; i < list.size(); i++) {
+            setPosition(list.get(i), i);
+        }
+        isOutdated = false;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasUpdated() || isOutdated) {
+                continue;
+            }
+
+            int from = change.getFrom();
+            boolean isAtEnd = from + change.getAddedSize() == list.size();
+            if (change.wasPermutated() || (change.getRemovedSize() != change.getAddedSize() && !isAtEnd)) {
+                isOutdated = true;
+                continue;
+            }
+
+            List<? extends Transaction> removed = change.getRemoved();
+            for (int i = 0; i < removed.size(); i++) {
+                clearPosition(removed.get(i), from + i);
+            }
+            List<? extends Transaction> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                setPosition(added.get(i), from + i);
+            }
+        }
+    }
+
+    private void setPosition(Transaction transaction, int position) {
+        for (Tag tag : transaction.getTags()) {
+            positionsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(position);
+        }
+    }
+
+    private void clearPosition(Transaction transaction, int position) {
+        for (Tag tag : transaction.getTags()) {
+            BitSet positions = positionsByTag.get(tag);
+            positions.clear(position);
+            if (positions.isEmpty()) {
+                positionsByTag.remove(tag);
+            }
+        }
+    }
+
+}
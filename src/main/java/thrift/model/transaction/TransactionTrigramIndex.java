@@ -0,0 +1,205 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import thrift.model.tag.Tag;
+
+/**
+ * An index of the words of the {@code Transaction} in a list by their trigrams, for finding the transactions with a
+ * word in their {@code Description}, {@code Remark} or tag names that matches {@code SearchTerm}.
+ * The words of the descriptions and remarks are those in a {@link TransactionKeywordIndex} of the list, which tells
+ * this index when they change, and the transactions that contain them are looked up there, so that each transaction
+ * is indexed only once. Each distinct word is indexed by the trigrams of the word padded with two characters on each
+ * side, so that prefix, substring and fuzzy terms only verify the few words that share enough trigrams with them,
+ * instead of every word of every transaction. Tag names, which are few, are verified directly against the terms, and
+ * the transactions that carry them are looked up in a {@link TransactionTagIndex} of the list.
+ */
+public class TransactionTrigramIndex implements TransactionKeywordIndex.WordListener {
+
+    private static final int GRAM_LENGTH = 3;
+    /** Marks the start and end of a word, and never appears in one. */
+    private static final String PADDING = "\0\0";
+
+    private final List<Transaction> list;
+    private final TransactionKeywordIndex keywordIndex;
+    private final TransactionTagIndex tagIndex;
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Creates an index over the words in {@code keywordIndex} and the tags in {@code tagIndex}, which are indexes of
+     * {@code list}. The index has to be set as the word listener of {@code keywordIndex} by the caller.
+     */
+    public TransactionTrigramIndex(List<Transaction> list, TransactionKeywordIndex keywordIndex,
+            TransactionTagIndex tagIndex) {
+        requireAllNonNull(list, keywordIndex, tagIndex);
+        this.list = list;
+        this.keywordIndex = keywordIndex;
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Returns the transactions in the list with a word that matches any of {@code terms}, mapped to the smallest
+     * {@link SearchTerm#getDistance(String)} of their matching words. Transactions are compared by reference.
+     */
+    public Map<Transaction, Integer> getClosestDistances(Collection<SearchTerm> terms) {
+        requireNonNull(terms);
+        Map<Transaction, Integer> distances = new IdentityHashMap<>();
+        for (SearchTerm term : terms) {
+            for (String word : getCandidateWords(term)) {
+                int distance = term.getDistance(word);
+                if (distance == -1) {
+                    continue;
+                }
+                for (Transaction transaction : keywordIndex.getTransactionsContaining(word)) {
+                    distances.merge(transaction, distance, Math::min);
+                }
+            }
+            tagIndex.getPositionsByTag().forEach((tag, positions) -> {
+                int distance = term.getDistance(tag.tagName.toLowerCase(Locale.ROOT));
+                if (distance == -1) {
+                    return;
+                }
+                for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+                    distances.merge(list.get(i), distance, Math::min);
+                }
+            });
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the indexed words that may match {@code term}, which are then verified against the term.
+     */
+    private Collection<String> getCandidateWords(SearchTerm term) {
+        String text = term.getText();
+        switch (term.getType()) {
+        case WORD:
+            return keywordIndex.getIndexedWords().contains(text)
+                    ? Collections.singletonList(text)
+                    : Collections.emptyList();
+        case PREFIX:
+            return getWordsWithAllGrams(getGrams(PADDING + text));
+        case SUBSTRING:
+            return text.length() >= GRAM_LENGTH
+                    ? getWordsWithAllGrams(getGrams(text))
+                    : getWordsWithGramContaining(text);
+        case FUZZY:
+            return getWordsSharingGrams(getGrams(PADDING + text + PADDING), term.getMaxEdits());
+        default:
+            throw new AssertionError("Unknown search term type: " + term.getType());
+        }
+    }
+
+    private Collection<String> getWordsWithAllGrams(Set<String> grams) {
+        List<Set<String>> wordSets = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<String> words = wordsByGram.get(gram);
+            if (words == null) {
+                return Collections.emptyList();
+            }
+            wordSets.add(words);
+        }
+
+        Set<String> smallest = Collections.min(wordSets, (first, second) -> first.size() - second.size());
+        List<String> found = new ArrayList<>();
+        for (String word : smallest) {
+            if (wordSets.stream().allMatch(words -> words.contains(word))) {
+                found.add(word);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the words with a trigram containing {@code text}, which is shorter than a trigram.
+     * Only the distinct trigrams are scanned, which are far fewer than the words once the list is large.
+     */
+    private Collection<String> getWordsWithGramContaining(String text) {
+        Set<String> found = new HashSet<>();
+        wordsByGram.forEach((gram, words) -> {
+            if (gram.contains(text)) {
+                found.addAll(words);
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Returns the words that share enough of {@code grams} to be within {@code maxEdits} of the padded word they are
+     * the trigrams of, as each edit changes at most {@value #GRAM_LENGTH} of its trigrams.
+     */
+    private Collection<String> getWordsSharingGrams(Set<String> grams, int maxEdits) {
+        int minimumShared = grams.size() - GRAM_LENGTH * maxEdits;
+        if (minimumShared <= 0) {
+            // Too short for its trigrams to narrow down the words.
+            return keywordIndex.getIndexedWords();
+        }
+
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String gram : grams) {
+            for (String word : wordsByGram.getOrDefault(gram, Collections.emptySet())) {
+                sharedCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        List<String> found = new ArrayList<>();
+        sharedCounts.forEach((word, count) -> {
+            if (count >= minimumShared) {
+                found.add(word);
+            }
+        });
+        return found;
+    }
+
+    @Override
+    public void wordAdded(String word) {
+        for (String gram : getGrams(PADDING + word + PADDING)) {
+            wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    @Override
+    public void wordRemoved(String word) {
+        for (String gram : getGrams(PADDING + word + PADDING)) {
+            Set<String> words = wordsByGram.get(gram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct lower-cased words in the description, remark and tag names of {@code transaction}.
+     */
+    static Set<String> getWords(Transaction transaction) {
+        Set<String> words = TransactionKeywordIndex.getWords(transaction);
+        for (Tag tag : transaction.getTags()) {
+            words.add(tag.tagName.toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+
+}
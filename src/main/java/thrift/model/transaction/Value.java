@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 
 import java.text.DecimalFormat;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.Optional;
 
 import thrift.model.util.CurrencyUtil;
 
@@ -23,9 +25,17 @@ public class Value {
     public static final String DEFAULT_CURRENCY = "SGD";
     public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
 
-    public final Double amount;
+    /** Exclusive upper bound of the amount in minor units, which is 1 billion. */
+    private static final long MAX_MINOR_UNITS = 100_000_000_000L;
+    private static final int MAX_INTEGER_DIGITS = 9;
+
     public final String currency;
 
+    /** Id of {@link #currency} in {@link CurrencyUtil}, used to look up its rate without allocation. */
+    private final int currencyId;
+
+    /** Amount in hundredths of {@link #currency}, which is exact unlike a floating-point amount. */
+    private final long minorUnits;
 
     /**
      * Constructs a {@code Value} with the default currency {@link #DEFAULT_CURRENCY}.
@@ -34,9 +44,11 @@ public class Value {
      */
     public Value(String value) {
         requireNonNull(value);
-        checkArgument(isValidValue(value), VALUE_CONSTRAINTS);
-        this.amount = Double.parseDouble(value);
+        long minorUnits = scanMinorUnits(value);
+        checkArgument(minorUnits > 0, VALUE_CONSTRAINTS);
+        this.minorUnits = minorUnits;
         this.currency = DEFAULT_CURRENCY;
+        this.currencyId = CurrencyUtil.getCurrencyId(DEFAULT_CURRENCY);
     }
 
     /**
@@ -48,10 +60,40 @@ public class Value {
     public Value(String amount, String currency) {
         requireNonNull(amount);
         requireNonNull(currency);
-        checkArgument(isValidValue(amount), VALUE_CONSTRAINTS);
+        long minorUnits = scanMinorUnits(amount);
+        checkArgument(minorUnits > 0, VALUE_CONSTRAINTS);
         checkArgument(isValidCurrency(currency), CURRENCY_CONSTRAINTS);
-        this.amount = Double.parseDouble(amount);
-        this.currency = currency;
+        this.minorUnits = minorUnits;
+        this.currency = currency.intern();
+        this.currencyId = CurrencyUtil.getCurrencyId(this.currency);
+    }
+
+    private Value(long minorUnits) {
+        this.minorUnits = minorUnits;
+        this.currency = DEFAULT_CURRENCY;
+        this.currencyId = CurrencyUtil.getCurrencyId(DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Returns a {@code Value} of {@code minorUnits} hundredths of the default currency {@link #DEFAULT_CURRENCY},
+     * without going through the string form of the amount.
+     *
+     * @param minorUnits Monetary cost describing the value, in hundredths.
+     */
+    public static Value fromMinorUnits(long minorUnits) {
+        checkArgument(minorUnits > 0 && minorUnits < MAX_MINOR_UNITS, VALUE_CONSTRAINTS);
+        return new Value(minorUnits);
+    }
+
+    /**
+     * Returns a {@code Value} of {@code amount} in the default currency {@link #DEFAULT_CURRENCY}, or an empty
+     * {@code Optional} if {@code amount} is not a valid monetary value. The amount is validated and parsed in a single
+     * pass, instead of once by {@link #isValidValue(String)} and again by the constructor.
+     */
+    public static Optional<Value> tryParse(String amount) {
+        requireNonNull(amount);
+        long minorUnits = scanMinorUnits(amount);
+        return minorUnits > 0 ? Optional.of(new Value(minorUnits)) : Optional.empty();
     }
 
     /**
@@ -71,7 +113,7 @@ public class Value {
      * @return true if amount is a valid double.
      */
     public static boolean isValidValue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return scanMinorUnits(test) > 0;
     }
 
     /**
@@ -81,8 +123,42 @@ public class Value {
      * @return Value in {@link #DEFAULT_CURRENCY} denomination.
      */
     public double getMonetaryValue() {
-        Map<String, Double> currencyMappings = CurrencyUtil.getCurrencyMap();
-        return CurrencyUtil.convertFromDefaultCurrency(currencyMappings, amount, currency);
+        if (currency.equals(DEFAULT_CURRENCY)) {
+            return minorUnits / 100.0;
+        }
+        return CurrencyUtil.convertFromDefaultCurrency(minorUnits / 100.0, currencyId);
+    }
+
+    /**
+     * Similar to {@link #getMonetaryValue()}, but converted at the rate in effect on {@code date}, such as the date
+     * of the transaction the value belongs to.
+     */
+    public double getMonetaryValue(LocalDate date) {
+        requireNonNull(date);
+        if (currency.equals(DEFAULT_CURRENCY)) {
+            return minorUnits / 100.0;
+        }
+        return CurrencyUtil.convertFromDefaultCurrency(minorUnits / 100.0, currencyId, date);
+    }
+
+    /**
+     * Returns the value from {@link #getMonetaryValue()} in hundredths, which can be summed without rounding errors.
+     */
+    public long getMonetaryMinorUnits() {
+        if (currency.equals(DEFAULT_CURRENCY)) {
+            return minorUnits;
+        }
+        return Math.round(getMonetaryValue() * 100);
+    }
+
+    /**
+     * Returns the value from {@link #getMonetaryValue(LocalDate)} in hundredths.
+     */
+    public long getMonetaryMinorUnits(LocalDate date) {
+        if (currency.equals(DEFAULT_CURRENCY)) {
+            return minorUnits;
+        }
+        return Math.round(getMonetaryValue(date) * 100);
     }
 
     /**
@@ -90,7 +166,69 @@ public class Value {
      * storing.
      */
     public String getUnformattedString() {
-        return String.format("%.2f", getMonetaryValue());
+        return formatMinorUnits(getMonetaryMinorUnits());
+    }
+
+    /**
+     * Returns the value from {@link #getMonetaryValue(LocalDate)} in String type, for storing the value of a
+     * transaction on {@code date}.
+     */
+    public String getUnformattedString(LocalDate date) {
+        return formatMinorUnits(getMonetaryMinorUnits(date));
+    }
+
+    /**
+     * Returns the value from {@link #getMonetaryValue(LocalDate)} formatted for display, such as {@code 1,234.50}.
+     */
+    public String getFormattedString(LocalDate date) {
+        return DECIMAL_FORMATTER.format(getMonetaryValue(date));
+    }
+
+    /**
+     * Returns the amount in hundredths given by {@code amount}, or -1 if it is not 1 to 9 digits optionally followed
+     * by a decimal point and up to 2 decimal digits. This accepts the same amounts as {@link #VALIDATION_REGEX} except
+     * for requiring a non-zero digit, without running a regex.
+     */
+    static long scanMinorUnits(String amount) {
+        int length = amount.length();
+        long units = 0;
+        int position = 0;
+        for (; position < length && isDigit(amount.charAt(position)); position++) {
+            units = units * 10 + amount.charAt(position) - '0';
+        }
+        if (position == 0 || position > MAX_INTEGER_DIGITS) {
+            return -1;
+        }
+
+        long hundredths = 0;
+        int decimalDigits = 0;
+        if (position < length) {
+            if (amount.charAt(position) != '.') {
+                return -1;
+            }
+            for (position++; position < length && isDigit(amount.charAt(position)); position++, decimalDigits++) {
+                hundredths = hundredths * 10 + amount.charAt(position) - '0';
+            }
+            if (position < length || decimalDigits > 2) {
+                return -1;
+            }
+        }
+        for (; decimalDigits < 2; decimalDigits++) {
+            hundredths *= 10;
+        }
+        return units * 100 + hundredths;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns {@code minorUnits} hundredths as a plain amount with 2 decimal places, such as {@code 1234.50}.
+     */
+    static String formatMinorUnits(long minorUnits) {
+        long hundredths = minorUnits % 100;
+        return (minorUnits / 100) + (hundredths < 10 ? ".0" : ".") + hundredths;
     }
 
     @Override
@@ -102,13 +240,13 @@ public class Value {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Value // instanceof handles nulls
-                && amount.equals(((Value) other).amount)
+                && minorUnits == ((Value) other).minorUnits
                 && currency.equals(((Value) other).currency)); // state check
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(minorUnits);
     }
 
 }
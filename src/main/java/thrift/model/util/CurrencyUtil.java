@@ -2,8 +2,13 @@ package thrift.model.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import thrift.commons.core.LogsCenter;
@@ -16,23 +21,38 @@ public class CurrencyUtil {
 
     private static final Logger logger = LogsCenter.getLogger(CurrencyUtil.class);
 
+    /** Id of the currencies that are not in any mapping, which are left unconverted. */
+    public static final int UNKNOWN_CURRENCY_ID = -1;
+
+    /**
+     * Ids of the upper-case currency codes in any mapping or historical rates, which index the rates of a
+     * {@code RateTable}. Only codes with rates are added, so that looking up other input does not grow the map.
+     */
+    private static final Map<String, Integer> codeIds = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    /** Changed whenever the current currency mappings or the historical rates are replaced. */
+    private static final AtomicLong ratesVersion = new AtomicLong();
+
     private static Map<String, Double> defaultMappings;
-    private static Map<String, Double> currencyMappings;
 
+    /** Rates of the current currency mappings, replaced as a whole whenever the mappings change. */
+    private static volatile RateTable rateTable;
 
-    public static Map<String, Double> getCurrencyMap() {
-        if (currencyMappings == null) {
-            currencyMappings = getDefaultMap();
-        }
+    private static volatile HistoricalRates historicalRates = HistoricalRates.EMPTY;
 
-        return currencyMappings;
+
+    public static Map<String, Double> getCurrencyMap() {
+        return getRateTable().mappings;
     }
 
     public static void setCurrencyMap(Map<String, Double> newCurrencyMappings) {
         assert newCurrencyMappings != null; //assumption: currencyMappings is not null
 
         if (newCurrencyMappings != null && newCurrencyMappings.size() > 0) {
-            currencyMappings = newCurrencyMappings;
+            rateTable = new RateTable(newCurrencyMappings);
+            ratesVersion.incrementAndGet();
             logger.info("Currency mapping has been successfully modified.");
         } else {
             logger.info("Currency mapping has not been modified.");
@@ -41,6 +61,64 @@ public class CurrencyUtil {
 
     }
 
+    /**
+     * Sets the rates used to convert amounts on a given date, which fall back to the current currency mappings for
+     * dates before the earliest rate of a currency.
+     */
+    public static void setHistoricalRates(HistoricalRates newHistoricalRates) {
+        requireNonNull(newHistoricalRates);
+        historicalRates = newHistoricalRates;
+        ratesVersion.incrementAndGet();
+        logger.info("Historical currency rates have been successfully modified.");
+    }
+
+    /**
+     * Returns a number that changes whenever the rates that amounts are converted at change, so that amounts
+     * converted earlier can be told apart from those converted at the current rates.
+     */
+    public static long getRatesVersion() {
+        return ratesVersion.get();
+    }
+
+    private static RateTable getRateTable() {
+        RateTable table = rateTable;
+        if (table == null) {
+            table = new RateTable(getDefaultMap());
+            rateTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the id of {@code currency}, ignoring its case, for use with the conversion methods that take an id, or
+     * {@link #UNKNOWN_CURRENCY_ID} if it has never had a rate. Ids stay the same when the currency mappings change.
+     */
+    public static int getCurrencyId(String currency) {
+        requireNonNull(currency);
+        // Codes are usually given in upper case already, which can be looked up without copying them.
+        Integer id = codeIds.get(currency);
+        if (id == null) {
+            getRateTable();
+            id = codeIds.get(currency.toUpperCase());
+        }
+        return id == null ? UNKNOWN_CURRENCY_ID : id;
+    }
+
+    /**
+     * Returns the id of {@code currency}, ignoring its case, assigning it a new id if it has none, for a currency
+     * that is about to be given rates.
+     */
+    static int registerCurrency(String currency) {
+        return codeIds.computeIfAbsent(currency.toUpperCase(), unused -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns true if {@code currency}, ignoring its case, is in the current or the default currency mappings.
+     */
+    public static boolean isKnownCurrency(String currency) {
+        return getRateTable().isKnown(getCurrencyId(currency));
+    }
+
     /**
      * Converts input currency amount from {@link Value#DEFAULT_CURRENCY} denomination
      * to the currency specified in the input.
@@ -59,7 +137,9 @@ public class CurrencyUtil {
         requireNonNull(currencyMappings);
         requireNonNull(value);
         requireNonNull(currency);
-        if (currencyMappings.containsKey(currency.toUpperCase())) {
+        if (currencyMappings == getCurrencyMap()) {
+            return convertFromDefaultCurrency(value, getCurrencyId(currency));
+        } else if (currencyMappings.containsKey(currency.toUpperCase())) {
             return (value * currencyMappings.get(currency.toUpperCase()));
         } else if (getDefaultMap().containsKey(currency.toUpperCase())) {
             return (value * getDefaultMap().get(currency.toUpperCase()));
@@ -68,6 +148,26 @@ public class CurrencyUtil {
         }
     }
 
+    /**
+     * Converts input currency amount from {@link Value#DEFAULT_CURRENCY} denomination to the currency with id
+     * {@code currencyId}, which is left unconverted if it is not in any currency mappings.
+     */
+    public static double convertFromDefaultCurrency(double value, int currencyId) {
+        return value * getRateTable().getRate(currencyId);
+    }
+
+    /**
+     * Similar to {@link #convertFromDefaultCurrency(double, int)}, but at the rate in effect on {@code date}.
+     * The current rate is used if the currency has no historical rate on or before {@code date}.
+     */
+    public static double convertFromDefaultCurrency(double value, int currencyId, LocalDate date) {
+        double rate = historicalRates.getRate(currencyId, date);
+        if (Double.isNaN(rate)) {
+            return convertFromDefaultCurrency(value, currencyId);
+        }
+        return value * rate;
+    }
+
     /**
      * Converts input currency amount to {@link Value#DEFAULT_CURRENCY} denomination
      * from the currency specified in the input.
@@ -85,7 +185,9 @@ public class CurrencyUtil {
         requireNonNull(currencyMappings);
         requireNonNull(value);
         requireNonNull(currency);
-        if (currencyMappings.containsKey(currency.toUpperCase())) {
+        if (currencyMappings == getCurrencyMap()) {
+            return convertToDefaultCurrency(value, getCurrencyId(currency));
+        } else if (currencyMappings.containsKey(currency.toUpperCase())) {
             return (value / currencyMappings.get(currency.toUpperCase()));
         } else if (getDefaultMap().containsKey(currency.toUpperCase())) {
             return (value / getDefaultMap().get(currency.toUpperCase()));
@@ -94,6 +196,14 @@ public class CurrencyUtil {
         }
     }
 
+    /**
+     * Converts input currency amount to {@link Value#DEFAULT_CURRENCY} denomination from the currency with id
+     * {@code currencyId}, which is left unconverted if it is not in any currency mappings.
+     */
+    public static double convertToDefaultCurrency(double value, int currencyId) {
+        return value / getRateTable().getRate(currencyId);
+    }
+
     /**
      * Converts input currency amount from {@code currencyFrom} to {@code currencyTo} via {@link Value#DEFAULT_CURRENCY}
      *
@@ -121,6 +231,44 @@ public class CurrencyUtil {
         return convertFromDefaultCurrency(currencyMappings, valueInDefaultCurrency, currencyTo);
     }
 
+    /**
+     * Converts input currency amount from the currency with id {@code currencyFromId} to the currency with id
+     * {@code currencyToId} via {@link Value#DEFAULT_CURRENCY}.
+     */
+    public static double convert(double value, int currencyFromId, int currencyToId) {
+        RateTable table = getRateTable();
+        return value / table.getRate(currencyFromId) * table.getRate(currencyToId);
+    }
+
+    /**
+     * Converts each of {@code values} from the currency with id {@code currencyFromId} to each of the currencies with
+     * ids {@code currencyToIds}, with the rates read only once for the whole batch.
+     *
+     * @return the converted values, where row {@code i} holds {@code values} in the currency of
+     *     {@code currencyToIds[i]}, in the same order as {@code values}.
+     */
+    public static double[][] convert(double[] values, int currencyFromId, int[] currencyToIds) {
+        requireNonNull(values);
+        requireNonNull(currencyToIds);
+        RateTable table = getRateTable();
+
+        double fromRate = table.getRate(currencyFromId);
+        double[] valuesInDefaultCurrency = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            valuesInDefaultCurrency[i] = values[i] / fromRate;
+        }
+
+        double[][] convertedValues = new double[currencyToIds.length][values.length];
+        for (int target = 0; target < currencyToIds.length; target++) {
+            double toRate = table.getRate(currencyToIds[target]);
+            double[] row = convertedValues[target];
+            for (int i = 0; i < values.length; i++) {
+                row[i] = valuesInDefaultCurrency[i] * toRate;
+            }
+        }
+        return convertedValues;
+    }
+
     /**
      * Returns a default mapping of currency mappings
      * @return default mapping of currency mappings
@@ -168,4 +316,46 @@ public class CurrencyUtil {
         defaultMappings = currencyMappings;
         return defaultMappings;
     }
+
+    /**
+     * Rates of a set of currency mappings, indexed by currency id. Codes missing from the mappings take their rate
+     * from the default mappings, and codes missing from both keep a rate of 1.
+     */
+    private static class RateTable {
+
+        private final Map<String, Double> mappings;
+        private final double[] rates;
+        private final boolean[] isKnown;
+
+        RateTable(Map<String, Double> mappings) {
+            this.mappings = mappings;
+            Map<String, Double> defaults = getDefaultMap();
+            defaults.keySet().forEach(CurrencyUtil::registerCurrency);
+            mappings.keySet().forEach(CurrencyUtil::registerCurrency);
+
+            rates = new double[nextId.get()];
+            isKnown = new boolean[rates.length];
+            Arrays.fill(rates, 1.0);
+            setRates(defaults);
+            setRates(mappings);
+        }
+
+        private void setRates(Map<String, Double> ratesByCode) {
+            for (Map.Entry<String, Double> entry : ratesByCode.entrySet()) {
+                if (entry.getValue() != null) {
+                    int id = codeIds.get(entry.getKey().toUpperCase());
+                    rates[id] = entry.getValue();
+                    isKnown[id] = true;
+                }
+            }
+        }
+
+        double getRate(int currencyId) {
+            return currencyId >= 0 && currencyId < rates.length ? rates[currencyId] : 1.0;
+        }
+
+        boolean isKnown(int currencyId) {
+            return currencyId >= 0 && currencyId < isKnown.length && isKnown[currencyId];
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package thrift.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import thrift.model.transaction.Value;
+
+/**
+ * Exchange rates of currencies on the dates they took effect, scaling from {@link Value#DEFAULT_CURRENCY}.
+ * The rate of a currency on a date is the latest of its rates that took effect on or before that date.
+ *
+ * Rates are kept in a sorted array of epoch days for each currency, which is binary searched for a date. The rates
+ * of all currencies on a day are cached once they have been looked up, so converting the many transactions of a
+ * month only searches the arrays once for each day.
+ */
+public class HistoricalRates {
+
+    public static final HistoricalRates EMPTY = new HistoricalRates(Map.of());
+
+    /** Epoch days on which the rates of each currency took effect, in ascending order, indexed by currency id. */
+    private final long[][] effectiveDays;
+    /** Rates of each currency, in the same order as {@link #effectiveDays}. */
+    private final double[][] rates;
+
+    private final long firstDay;
+    private final long lastDay;
+    /** Rates of all currencies on each day from {@link #firstDay} to {@link #lastDay}, filled in when looked up. */
+    private final AtomicReferenceArray<double[]> ratesOfDay;
+
+    /**
+     * Creates the rates given by {@code ratesByCurrency}, which maps each currency code to its rates by the date
+     * they took effect. Currency codes are matched regardless of case.
+     */
+    public HistoricalRates(Map<String, ? extends Map<LocalDate, Double>> ratesByCurrency) {
+        requireNonNull(ratesByCurrency);
+        int currencyCount = 0;
+        for (String currency : ratesByCurrency.keySet()) {
+            currencyCount = Math.max(currencyCount, CurrencyUtil.registerCurrency(currency) + 1);
+        }
+
+        effectiveDays = new long[currencyCount][];
+        rates = new double[currencyCount][];
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Map.Entry<String, ? extends Map<LocalDate, Double>> entry : ratesByCurrency.entrySet()) {
+            TreeMap<LocalDate, Double> sortedRates = new TreeMap<>(entry.getValue());
+            long[] days = new long[sortedRates.size()];
+            double[] currencyRates = new double[sortedRates.size()];
+            int i = 0;
+            for (Map.Entry<LocalDate, Double> rate : sortedRates.entrySet()) {
+                days[i] = rate.getKey().toEpochDay();
+                currencyRates[i] = rate.getValue();
+                i++;
+            }
+
+            int id = CurrencyUtil.registerCurrency(entry.getKey());
+            effectiveDays[id] = days;
+            rates[id] = currencyRates;
+            if (days.length > 0) {
+                first = Math.min(first, days[0]);
+                last = Math.max(last, days[days.length - 1]);
+            }
+        }
+
+        firstDay = first;
+        lastDay = last;
+        ratesOfDay = new AtomicReferenceArray<>(first <= last ? Math.toIntExact(last - first + 1) : 0);
+    }
+
+    /**
+     * Returns the rate of the currency with id {@code currencyId} on {@code date}, or {@code Double.NaN} if the
+     * currency has no rate that took effect by then.
+     */
+    public double getRate(int currencyId, LocalDate date) {
+        requireNonNull(date);
+        long day = date.toEpochDay();
+        if (day < firstDay || currencyId < 0 || currencyId >= rates.length) {
+            return Double.NaN;
+        }
+
+        // Every rate has taken effect by the last day, so later days have the same rates as the last day.
+        int dayIndex = (int) (Math.min(day, lastDay) - firstDay);
+        double[] dayRates = ratesOfDay.get(dayIndex);
+        if (dayRates == null) {
+            dayRates = lookUpRates(firstDay + dayIndex);
+            ratesOfDay.set(dayIndex, dayRates);
+        }
+        return dayRates[currencyId];
+    }
+
+    private double[] lookUpRates(long day) {
+        double[] dayRates = new double[rates.length];
+        Arrays.fill(dayRates, Double.NaN);
+        for (int id = 0; id < rates.length; id++) {
+            if (effectiveDays[id] == null) {
+                continue;
+            }
+            int position = Arrays.binarySearch(effectiveDays[id], day);
+            if (position < 0) {
+                // Not an exact match, so take the latest day before it
+                position = -position - 2;
+            }
+            if (position >= 0) {
+                dayRates[id] = rates[id][position];
+            }
+        }
+        return dayRates;
+    }
+
+}
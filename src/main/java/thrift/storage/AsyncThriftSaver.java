@@ -0,0 +1,117 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.util.StringUtil;
+import thrift.model.ReadOnlyThrift;
+
+/**
+ * Saves THRIFT to a {@code ThriftStorage} on a single background thread, so that callers never wait for the disk.
+ * Saves requested while an earlier one is being written are coalesced, and only the latest of them is written once
+ * the earlier save is done.
+ */
+public class AsyncThriftSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncThriftSaver.class);
+
+    private final ThriftStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "THRIFT saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private ReadOnlyThrift pending;
+    private boolean isWriteScheduled = false;
+    private Future<?> lastWrite;
+    private IOException lastFailure;
+    private Consumer<IOException> failureHandler = ioe -> {};
+
+    public AsyncThriftSaver(ThriftStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler to be given the error of each save that fails. The handler is called on the saving thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        synchronized (lock) {
+            this.failureHandler = failureHandler;
+        }
+    }
+
+    /**
+     * Requests {@code snapshot} to be saved, replacing any snapshot whose save has not started yet.
+     * {@code snapshot} must not be changed afterwards.
+     */
+    public void save(ReadOnlyThrift snapshot) {
+        requireNonNull(snapshot);
+        synchronized (lock) {
+            pending = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                lastWrite = writer.submit(this::writePending);
+            }
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyThrift snapshot;
+        Consumer<IOException> handler;
+        synchronized (lock) {
+            snapshot = pending;
+            pending = null;
+            isWriteScheduled = false;
+            handler = failureHandler;
+        }
+
+        try {
+            storage.saveThrift(snapshot);
+            lastFailure = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save THRIFT: " + StringUtil.getDetails(ioe));
+            lastFailure = ioe;
+            handler.accept(ioe);
+        }
+    }
+
+    /**
+     * Waits for all requested saves to be written.
+     *
+     * @throws IOException if the last save failed.
+     */
+    public void flush() throws IOException {
+        Future<?> write;
+        synchronized (lock) {
+            write = lastWrite;
+        }
+        if (write == null) {
+            return;
+        }
+
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for THRIFT to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetValue;
+import thrift.model.transaction.Description;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Income;
+import thrift.model.transaction.Remark;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+import thrift.model.transaction.Value;
+
+/**
+ * A class to access THRIFT data stored in a compact binary file on the hard disk.
+ * The file starts with a magic number and a format version, followed by a table of the distinct descriptions, remarks
+ * and tag names, which the transactions refer to by their position in the table. Amounts are stored as whole cents,
+ * dates as epoch days and budget months as months since year 0, so no text has to be parsed when loading.
+ * The file is read into memory in one go and decoded from there, and each distinct amount, date, description,
+ * remark and tag is only decoded once, however many transactions share it.
+ * Since version 2, the budgets are followed by the recurring transactions, each stored as its transaction and the
+ * rule it recurs by. Files of version 1 can still be read, and have no recurring transactions.
+ */
+public class BinaryThriftStorage implements ThriftStorage {
+
+    public static final int MAGIC_NUMBER = 0x54485246; // "THRF"
+    public static final short FORMAT_VERSION = 2;
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_THRIFT = "File is not a binary THRIFT file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary THRIFT format version: %d";
+    public static final String MESSAGE_INVALID_TYPE = "Transaction's type must be expense or income";
+
+    private static final byte TYPE_EXPENSE = 0;
+    private static final byte TYPE_INCOME = 1;
+    private static final short FIRST_VERSION_WITH_RECURRING_TRANSACTIONS = 2;
+    private static final String[] FREQUENCIES = {"daily", "weekly", "monthly", "yearly"};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryThriftStorage.class);
+
+    private final Path filePath;
+
+    public BinaryThriftStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getThriftFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}, which has the same
+     * name with the extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyThrift> readThrift() throws DataConversionException, IOException {
+        return readThrift(filePath);
+    }
+
+    /**
+     * Similar to {@link #readThrift()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (BufferUnderflowException | IllegalValueException | IllegalArgumentException
+                | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Thrift read(ByteBuffer in) throws IllegalValueException {
+        if (in.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_THRIFT);
+        }
+        short version = in.getShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.getInt();
+            strings[i] = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+
+        Decoder decoder = new Decoder(strings);
+        int transactionCount = in.getInt();
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(decoder.readTransaction(in));
+        }
+
+        Thrift thrift = new Thrift();
+        thrift.setTransactions(transactions);
+        int budgetCount = in.getInt();
+        for (int i = 0; i < budgetCount; i++) {
+            Calendar period = Budget.toMonthYear(in.getInt());
+            thrift.setBudget(new Budget(period, BudgetValue.fromMinorUnits(in.getLong())));
+        }
+
+        if (version >= FIRST_VERSION_WITH_RECURRING_TRANSACTIONS) {
+            int recurringTransactionCount = in.getInt();
+            List<RecurringTransaction> recurringTransactions = new ArrayList<>(recurringTransactionCount);
+            for (int i = 0; i < recurringTransactionCount; i++) {
+                Transaction transaction = decoder.readTransaction(in);
+                String frequency = FREQUENCIES[in.get()];
+                int numOccurrences = in.getInt();
+                int interval = in.getInt();
+                LocalDate endDate = in.get() == 0 ? null : LocalDate.ofEpochDay(in.getInt());
+                recurringTransactions.add(new RecurringTransaction(transaction,
+                        new Occurrence(frequency, numOccurrences, interval, endDate)));
+            }
+            thrift.setRecurringTransactions(recurringTransactions);
+        }
+        return thrift;
+    }
+
+    @Override
+    public void saveThrift(ReadOnlyThrift thrift) throws IOException {
+        saveThrift(thrift, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveThrift(ReadOnlyThrift)}.
+     * The existing file is only replaced once the new one has been written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+        requireNonNull(thrift);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryFilePath)))) {
+            write(thrift, out);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void write(ReadOnlyThrift thrift, DataOutputStream out) throws IOException {
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> stringIds = new HashMap<>();
+        for (Transaction transaction : thrift.getTransactionList()) {
+            intern(transaction, strings, stringIds);
+        }
+        for (RecurringTransaction recurringTransaction : thrift.getRecurringTransactionList()) {
+            intern(recurringTransaction.getTransaction(), strings, stringIds);
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(thrift.getTransactionList().size());
+        for (Transaction transaction : thrift.getTransactionList()) {
+            writeTransaction(transaction, stringIds, out);
+        }
+
+        List<Budget> budgets = new ArrayList<>();
+        thrift.getBudgetList().forEach(budgets::add);
+        out.writeInt(budgets.size());
+        for (Budget budget : budgets) {
+            out.writeInt(budget.getMonthYearKey());
+            out.writeLong(budget.getBudgetValue().getMonetaryMinorUnits());
+        }
+
+        out.writeInt(thrift.getRecurringTransactionList().size());
+        for (RecurringTransaction recurringTransaction : thrift.getRecurringTransactionList()) {
+            Occurrence occurrence = recurringTransaction.getOccurrence();
+            writeTransaction(recurringTransaction.getTransaction(), stringIds, out);
+            out.writeByte(Arrays.asList(FREQUENCIES).indexOf(occurrence.getFrequency()));
+            out.writeInt(occurrence.getNumOccurrences());
+            out.writeInt(occurrence.getInterval());
+            out.writeBoolean(occurrence.getEndDate().isPresent());
+            if (occurrence.getEndDate().isPresent()) {
+                out.writeInt((int) occurrence.getEndDate().get().toEpochDay());
+            }
+        }
+    }
+
+    private static void writeTransaction(Transaction transaction, Map<String, Integer> stringIds,
+            DataOutputStream out) throws IOException {
+        out.writeByte(transaction instanceof Expense ? TYPE_EXPENSE : TYPE_INCOME);
+        out.writeInt(stringIds.get(transaction.getDescription().toString()));
+        out.writeInt(stringIds.get(transaction.getRemark().toString()));
+        out.writeLong(transaction.getValue().getMonetaryMinorUnits(transaction.getDate().getLocalDate()));
+        out.writeInt((int) transaction.getDate().getLocalDate().toEpochDay());
+        out.writeShort(transaction.getTags().size());
+        for (Tag tag : transaction.getTags()) {
+            out.writeInt(stringIds.get(tag.tagName));
+        }
+    }
+
+    private static void intern(Transaction transaction, List<String> strings, Map<String, Integer> stringIds) {
+        intern(transaction.getDescription().toString(), strings, stringIds);
+        intern(transaction.getRemark().toString(), strings, stringIds);
+        for (Tag tag : transaction.getTags()) {
+            intern(tag.tagName, strings, stringIds);
+        }
+    }
+
+    private static void intern(String string, List<String> strings, Map<String, Integer> stringIds) {
+        if (!stringIds.containsKey(string)) {
+            stringIds.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    /**
+     * Decodes the transactions of a file, sharing the same description, remark, tag, amount or date between all the
+     * transactions that refer to it.
+     */
+    private static class Decoder {
+        private final String[] strings;
+        private final Description[] descriptions;
+        private final Remark[] remarks;
+        private final Tag[] tags;
+        private final Map<Long, Value> values = new HashMap<>();
+        private final Map<Integer, TransactionDate> dates = new HashMap<>();
+
+        Decoder(String[] strings) {
+            this.strings = strings;
+            descriptions = new Description[strings.length];
+            remarks = new Remark[strings.length];
+            tags = new Tag[strings.length];
+        }
+
+        Transaction readTransaction(ByteBuffer in) throws IllegalValueException {
+            byte type = in.get();
+            int descriptionId = in.getInt();
+            if (descriptions[descriptionId] == null) {
+                descriptions[descriptionId] = Description.valueOf(strings[descriptionId]);
+            }
+            int remarkId = in.getInt();
+            if (remarks[remarkId] == null) {
+                remarks[remarkId] = Remark.valueOf(strings[remarkId]);
+            }
+            Value value = values.computeIfAbsent(in.getLong(), Value::fromMinorUnits);
+            TransactionDate date = dates.computeIfAbsent(in.getInt(), epochDay ->
+                    TransactionDate.fromLocalDate(LocalDate.ofEpochDay(epochDay)));
+            int tagCount = in.getShort();
+            Set<Tag> transactionTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                int tagId = in.getInt();
+                if (tags[tagId] == null) {
+                    tags[tagId] = Tag.valueOf(strings[tagId]);
+                }
+                transactionTags.add(tags[tagId]);
+            }
+
+            if (type == TYPE_EXPENSE) {
+                return new Expense(descriptions[descriptionId], value, remarks[remarkId], date, transactionTags);
+            } else if (type == TYPE_INCOME) {
+                return new Income(descriptions[descriptionId], value, remarks[remarkId], date, transactionTags);
+            } else {
+                throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+            }
+        }
+    }
+
+}
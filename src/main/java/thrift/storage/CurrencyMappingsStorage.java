@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import thrift.commons.exceptions.DataConversionException;
+import thrift.model.util.HistoricalRates;
 
 /**
  * Represents a storage for a HashMapof currency mappings.
@@ -33,4 +34,18 @@ public interface CurrencyMappingsStorage {
      * @throws IOException if there was any problem writing to the file.
      */
     void saveCurrencyMappings(Map<String, Double> currencyMappings) throws IOException;
+
+    /**
+     * Returns the file path of the historical exchange rates data file.
+     */
+    Path getHistoricalRatesFilePath();
+
+    /**
+     * Returns historical exchange rates data from storage.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<HistoricalRates> readHistoricalRates() throws DataConversionException, IOException;
 }
@@ -0,0 +1,503 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.ThriftSnapshot;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionChangeLog;
+import thrift.model.transaction.TransactionListChange;
+
+/**
+ * A class to access THRIFT data stored as a json snapshot on the hard disk, together with a journal of the changes
+ * made since the snapshot was taken.
+ * Saving appends compact records of what changed since the last save to the journal, so the cost of a save depends
+ * on the size of the change rather than on the size of THRIFT. Once the journal grows long enough, it is folded into
+ * a new snapshot in the background. The snapshot is in the same format as the file of {@link JsonThriftStorage}.
+ */
+public class JournalThriftStorage implements ThriftStorage {
+
+    /** Number of records in the journal after which the journal is folded into a new snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalThriftStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "THRIFT journal compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guards the journal file and the fields used by both the saving and the compacting threads. */
+    private final Object journalLock = new Object();
+
+    /**
+     * Change log and change counts of the THRIFT as of the last save, from which the next save finds what changed.
+     * The journal cannot be appended to while {@link #isSaved} is false.
+     */
+    private boolean isSaved = false;
+    private TransactionChangeLog savedChangeLog;
+    private long savedTransactionChangeCount;
+    private long savedRecurringTransactionChangeCount;
+    private BudgetList savedBudgets;
+
+    /**
+     * Transactions and recurring transactions as read from the journal, which the first save after the read is
+     * compared against, as the THRIFT saved then does not share the change log of the THRIFT read.
+     */
+    private List<Transaction> readTransactions;
+    private List<RecurringTransaction> readRecurringTransactions;
+
+    /** Sequence number of the last record written to the journal. */
+    private long sequence = 0;
+    private int journalSize = 0;
+    private List<String> linesSinceCompaction;
+    private Future<?> compaction;
+
+    public JournalThriftStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that folds the journal into a new snapshot once it has
+     * {@code compactionThreshold} records.
+     */
+    public JournalThriftStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getThriftFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyThrift> readThrift() throws DataConversionException, IOException {
+        return readThrift(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journal kept alongside it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<JsonSerializableThrift> jsonThrift = JsonUtil.readJsonFile(filePath, JsonSerializableThrift.class);
+        if (!jsonThrift.isPresent() && !FileUtil.isFileExists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Thrift thrift;
+        long lastSequence = 0;
+        try {
+            if (jsonThrift.isPresent()) {
+                thrift = jsonThrift.get().toModelType();
+                lastSequence = jsonThrift.get().getJournalSequence();
+            } else {
+                thrift = new Thrift();
+            }
+            if (FileUtil.isFileExists(journalFilePath)) {
+                lastSequence = Math.max(lastSequence, replayJournal(journalFilePath, lastSequence, thrift));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath) && isEndOfRecord(journalFilePath)) {
+            // Later saves only need to append what changed since this THRIFT was read.
+            isSaved = true;
+            savedChangeLog = null;
+            savedBudgets = copyOf(thrift.getBudgetList());
+            readTransactions = new ArrayList<>(thrift.getTransactionList());
+            readRecurringTransactions = new ArrayList<>(thrift.getRecurringTransactionList());
+            sequence = Math.max(sequence, lastSequence);
+        }
+        return Optional.of(thrift);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} that come after {@code snapshotSequence} to
+     * {@code thrift}. A last record that was only partially written, as when the application is stopped while
+     * saving, is ignored.
+     *
+     * @return the highest sequence number of the records read.
+     */
+    private long replayJournal(Path journalFilePath, long snapshotSequence, Thrift thrift)
+            throws IllegalValueException, DataConversionException, IOException {
+        long lastSequence = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                } catch (IOException ioe) {
+                    if (nextLine != null) {
+                        throw new DataConversionException(ioe);
+                    }
+                    logger.warning("Ignoring partially written record at the end of " + journalFilePath);
+                    break;
+                }
+                if (record.getSeq() > snapshotSequence) {
+                    record.applyTo(thrift);
+                }
+                lastSequence = Math.max(lastSequence, record.getSeq());
+                line = nextLine;
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} is missing or ends with a complete record, so that new
+     * records can be appended to it.
+     */
+    private static boolean isEndOfRecord(Path journalFilePath) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return true;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFilePath)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Returns the highest sequence number of the records in the journal at {@code journalFilePath}, or 0 if there
+     * are none.
+     */
+    private static long readLastSequence(Path journalFilePath) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+        long lastSequence = 0;
+        for (String line : Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)) {
+            try {
+                lastSequence = Math.max(lastSequence, JsonUtil.fromJsonString(line, JsonJournalRecord.class).getSeq());
+            } catch (IOException ioe) {
+                logger.warning("Skipping unreadable record in " + journalFilePath + ": " + ioe.getMessage());
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Saves {@code thrift}, which must not be changed until this returns.
+     * Only the changes since the last save or read are appended to the journal. The changes to the transactions are
+     * taken from the change log of {@code thrift}, so that saving does not go through the whole transaction list.
+     * The change log only keeps changes once a save has asked it to, and discards them once they are saved.
+     * The first save after a read compares the transactions by reference instead, and a save of a THRIFT that was
+     * not read or saved through this storage, or whose changes are not all logged, such as after the whole
+     * transaction list was replaced, writes a new snapshot.
+     */
+    @Override
+    public void saveThrift(ReadOnlyThrift thrift) throws IOException {
+        requireNonNull(thrift);
+        BudgetList budgets = copyOf(thrift.getBudgetList());
+
+        Optional<List<TransactionListChange>> transactionChanges = Optional.empty();
+        if (isSaved && savedChangeLog != null && thrift.getTransactionChangeLog().orElse(null) == savedChangeLog) {
+            transactionChanges = savedChangeLog.getChangesBetween(savedTransactionChangeCount,
+                    thrift.getTransactionChangeCount());
+        }
+
+        if (transactionChanges.isPresent()) {
+            boolean isRecurringTransactionChanged =
+                    thrift.getRecurringTransactionChangeCount() != savedRecurringTransactionChangeCount;
+            appendChanges(transactionChanges.get(), budgets,
+                    isRecurringTransactionChanged ? thrift.getRecurringTransactionList() : null);
+            compactIfJournalIsLong(thrift);
+        } else if (isSaved && readTransactions != null) {
+            appendChanges(findChanges(readTransactions, thrift.getTransactionList()), budgets,
+                    readRecurringTransactions.equals(thrift.getRecurringTransactionList())
+                            ? null
+                            : thrift.getRecurringTransactionList());
+            compactIfJournalIsLong(thrift);
+        } else {
+            // The new snapshot has to include every record left in the journal by earlier sessions.
+            sequence = Math.max(sequence, readLastSequence(getJournalFilePath(filePath)));
+            writeSnapshotAndWait(thrift);
+        }
+
+        isSaved = true;
+        savedChangeLog = thrift.getTransactionChangeLog().orElse(null);
+        savedTransactionChangeCount = thrift.getTransactionChangeCount();
+        savedRecurringTransactionChangeCount = thrift.getRecurringTransactionChangeCount();
+        if (savedChangeLog != null) {
+            // Only the changes after this save are needed by the next one.
+            savedChangeLog.retainChangesFrom(savedTransactionChangeCount);
+        }
+        savedBudgets = budgets;
+        readTransactions = null;
+        readRecurringTransactions = null;
+    }
+
+    /**
+     * Saves {@code thrift} as a snapshot at {@code filePath}, with an empty journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+        requireNonNull(thrift);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveThrift(thrift);
+            return;
+        }
+        writeSnapshot(thrift, 0, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Folds the journal into a new snapshot of {@code thrift} in the background if it has reached the compaction
+     * threshold and is not being folded already.
+     */
+    private void compactIfJournalIsLong(ReadOnlyThrift thrift) {
+        synchronized (journalLock) {
+            if (journalSize >= compactionThreshold && linesSinceCompaction == null) {
+                startCompaction(new ThriftSnapshot(thrift));
+            }
+        }
+    }
+
+    /**
+     * Returns the single change that turns {@code savedTransactions} into {@code transactions}, or no change if they
+     * are the same. The transactions that differ are found by skipping those that are the same at the start and at
+     * the end of both lists, where transactions are compared by reference.
+     */
+    private static List<TransactionListChange> findChanges(List<Transaction> savedTransactions,
+            List<Transaction> transactions) {
+        int start = 0;
+        while (start < savedTransactions.size() && start < transactions.size()
+                && savedTransactions.get(start) == transactions.get(start)) {
+            start++;
+        }
+        int savedEnd = savedTransactions.size();
+        int end = transactions.size();
+        while (savedEnd > start && end > start && savedTransactions.get(savedEnd - 1) == transactions.get(end - 1)) {
+            savedEnd--;
+            end--;
+        }
+        if (savedEnd == start && end == start) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(
+                new TransactionListChange(start, savedEnd - start, transactions.subList(start, end)));
+    }
+
+    /**
+     * Appends a record for each of {@code transactionChanges}, and records that set the budgets to {@code budgets}
+     * if they changed since the last save and the recurring transactions to {@code recurringTransactions} if it is
+     * not null, to the journal.
+     */
+    private void appendChanges(List<TransactionListChange> transactionChanges, BudgetList budgets,
+            List<RecurringTransaction> recurringTransactions) throws IOException {
+        boolean isBudgetChanged = !savedBudgets.equals(budgets);
+        if (transactionChanges.isEmpty() && !isBudgetChanged && recurringTransactions == null) {
+            return;
+        }
+
+        synchronized (journalLock) {
+            List<String> lines = new ArrayList<>();
+            for (TransactionListChange change : transactionChanges) {
+                lines.add(toLine(generator -> JsonJournalRecord.writeTransactionChange(++sequence, change.getAt(),
+                        change.getRemovedCount(), change.getAdded(), generator)));
+            }
+            if (isBudgetChanged) {
+                lines.add(toLine(generator -> JsonJournalRecord.writeBudgetChange(++sequence, budgets, generator)));
+            }
+            if (recurringTransactions != null) {
+                lines.add(toLine(generator -> JsonJournalRecord.writeRecurringTransactionChange(++sequence,
+                        recurringTransactions, generator)));
+            }
+            StringBuilder records = new StringBuilder();
+            for (String line : lines) {
+                records.append(line).append('\n');
+            }
+
+            FileUtil.createParentDirsOfFile(filePath);
+            try (Writer writer = Files.newBufferedWriter(getJournalFilePath(filePath), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(records.toString());
+            } catch (IOException ioe) {
+                // The journal may end with a partially written record, so it cannot be appended to any more.
+                isSaved = false;
+                throw ioe;
+            }
+            journalSize += lines.size();
+            if (linesSinceCompaction != null) {
+                linesSinceCompaction.addAll(lines);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code thrift} as a new snapshot and empties the journal, waiting for it to be done.
+     */
+    private void writeSnapshotAndWait(ReadOnlyThrift thrift) throws IOException {
+        awaitCompaction();
+        Future<?> snapshot;
+        synchronized (journalLock) {
+            snapshot = startCompaction(thrift);
+        }
+        try {
+            snapshot.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving " + filePath, e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot of {@code thrift} in the background. {@code thrift} must not be changed
+     * after this is called, and must include the changes of all records in the journal.
+     */
+    private Future<?> startCompaction(ReadOnlyThrift thrift) {
+        assert Thread.holdsLock(journalLock);
+        long snapshotSequence = sequence;
+        linesSinceCompaction = new ArrayList<>();
+        compaction = compactionExecutor.submit(() -> {
+            try {
+                compact(thrift, snapshotSequence);
+            } finally {
+                synchronized (journalLock) {
+                    linesSinceCompaction = null;
+                }
+            }
+            return null;
+        });
+        return compaction;
+    }
+
+    private void compact(ReadOnlyThrift thrift, long snapshotSequence) throws IOException {
+        try {
+            writeSnapshot(thrift, snapshotSequence, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to fold the journal into " + filePath + ": " + ioe.getMessage());
+            throw ioe;
+        }
+
+        synchronized (journalLock) {
+            // Only the records appended while the snapshot was being written are not in the snapshot.
+            Path journalFilePath = getJournalFilePath(filePath);
+            Path temporaryFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+            Files.write(temporaryFilePath, linesSinceCompaction, StandardCharsets.UTF_8);
+            Files.move(temporaryFilePath, journalFilePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            journalSize = linesSinceCompaction.size();
+        }
+    }
+
+    /**
+     * Writes {@code thrift} as a snapshot including the journal records up to {@code snapshotSequence} to
+     * {@code filePath}, replacing the previous snapshot only once the new one is complete.
+     */
+    private static void writeSnapshot(ReadOnlyThrift thrift, long snapshotSequence, Path filePath)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (JsonGenerator generator = JsonUtil.createJsonFileGenerator(temporaryFilePath)) {
+            JsonSerializableThrift.write(thrift, snapshotSequence, generator);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to be done. A failed compaction leaves the journal as it was, so
+     * its failure is only logged.
+     */
+    public void awaitCompaction() {
+        Future<?> inProgress;
+        synchronized (journalLock) {
+            inProgress = compaction;
+        }
+        if (inProgress == null) {
+            return;
+        }
+        try {
+            inProgress.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    private static String toLine(RecordWriter recordWriter) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(line)) {
+            recordWriter.write(generator);
+        }
+        return line.toString();
+    }
+
+    private static BudgetList copyOf(BudgetList budgets) {
+        BudgetList copy = new BudgetList();
+        copy.setBudgets(budgets);
+        return copy;
+    }
+
+    /**
+     * Writes a single journal record to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+}
@@ -1,11 +1,13 @@
 package thrift.storage;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.model.transaction.Budget;
@@ -38,6 +40,17 @@ public class JsonAdaptedBudget {
         value = source.getBudgetValue().getUnformattedString();
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a serialized {@code JsonAdaptedBudget},
+     * without creating the intermediate adapted budget.
+     */
+    public static void write(Budget source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("period", source.getBudgetDateString());
+        generator.writeStringField("value", source.getBudgetValue().getUnformattedString());
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted budget object into the model's {@code Budget} object.
      *
@@ -62,10 +75,8 @@ public class JsonAdaptedBudget {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     BudgetValue.class.getSimpleName()));
         }
-        if (!BudgetValue.isValidValue(value)) {
-            throw new IllegalValueException(BudgetValue.VALUE_CONSTRAINTS);
-        }
-        modelValue = new BudgetValue(value);
+        modelValue = BudgetValue.tryParse(value)
+                .orElseThrow(() -> new IllegalValueException(BudgetValue.VALUE_CONSTRAINTS));
 
         return new Budget(modelPeriod, modelValue);
     }
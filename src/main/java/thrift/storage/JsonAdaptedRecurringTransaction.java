@@ -0,0 +1,105 @@
+package thrift.storage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+
+/**
+ * Jackson-friendly version of {@link RecurringTransaction}.
+ */
+class JsonAdaptedRecurringTransaction {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurring transaction's %s field is missing!";
+
+    private final JsonAdaptedTransaction transaction;
+    private final String frequency;
+    private final int occurrences;
+    private final int interval;
+    private final String endDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurringTransaction} with the given recurring transaction details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurringTransaction(@JsonProperty("transaction") JsonAdaptedTransaction transaction,
+            @JsonProperty("frequency") String frequency, @JsonProperty("occurrences") int occurrences,
+            @JsonProperty("interval") int interval, @JsonProperty("endDate") String endDate) {
+        this.transaction = transaction;
+        this.frequency = frequency;
+        this.occurrences = occurrences;
+        this.interval = interval;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Converts a given {@code RecurringTransaction} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurringTransaction(RecurringTransaction source) {
+        Occurrence occurrence = source.getOccurrence();
+        transaction = new JsonAdaptedTransaction(source.getTransaction());
+        frequency = occurrence.getFrequency();
+        occurrences = occurrence.getNumOccurrences();
+        interval = occurrence.getInterval();
+        endDate = occurrence.getEndDate().map(date -> TransactionDate.fromLocalDate(date).toString()).orElse(null);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a serialized
+     * {@code JsonAdaptedRecurringTransaction}, without creating the intermediate adapted recurring transaction.
+     */
+    public static void write(RecurringTransaction source, JsonGenerator generator) throws IOException {
+        Occurrence occurrence = source.getOccurrence();
+        generator.writeStartObject();
+        generator.writeFieldName("transaction");
+        JsonAdaptedTransaction.write(source.getTransaction(), generator);
+        generator.writeStringField("frequency", occurrence.getFrequency());
+        generator.writeNumberField("occurrences", occurrence.getNumOccurrences());
+        generator.writeNumberField("interval", occurrence.getInterval());
+        if (occurrence.getEndDate().isPresent()) {
+            generator.writeStringField("endDate", TransactionDate.fromLocalDate(occurrence.getEndDate().get())
+                    .toString());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurring transaction object into the model's
+     * {@code RecurringTransaction} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring transaction.
+     */
+    public RecurringTransaction toModelType() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Transaction.class.getSimpleName()));
+        }
+        final Transaction modelTransaction = transaction.toModelType();
+
+        if (frequency == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "frequency"));
+        }
+        if (!Occurrence.isValidFrequency(frequency) || occurrences < 1 || occurrences > Occurrence.MAX_OCCURRENCES
+                || interval < 1 || interval > Occurrence.MAX_INTERVAL) {
+            throw new IllegalValueException(Occurrence.OCCURRENCE_CONSTRAINTS);
+        }
+
+        LocalDate modelEndDate = null;
+        if (endDate != null) {
+            modelEndDate = TransactionDate.tryParse(endDate)
+                    .orElseThrow(() -> new IllegalValueException(TransactionDate.DATE_CONSTRAINTS)).getLocalDate();
+        }
+
+        return new RecurringTransaction(modelTransaction,
+                new Occurrence(frequency, occurrences, interval, modelEndDate));
+    }
+
+}
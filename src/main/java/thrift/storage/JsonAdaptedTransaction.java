@@ -1,5 +1,6 @@
 package thrift.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.model.tag.Tag;
@@ -60,7 +62,7 @@ class JsonAdaptedTransaction {
             type = "income";
         }
         description = source.getDescription().toString();
-        value = source.getValue().getUnformattedString();
+        value = source.getValue().getUnformattedString(source.getDate().getLocalDate());
         remark = source.getRemark().toString();
         date = source.getDate().toString();
         tagged.addAll(source.getTags().stream()
@@ -68,15 +70,34 @@ class JsonAdaptedTransaction {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a serialized {@code JsonAdaptedTransaction},
+     * without creating the intermediate adapted transaction.
+     */
+    public static void write(Transaction source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", source instanceof Expense ? "expense" : "income");
+        generator.writeStringField("description", source.getDescription().toString());
+        generator.writeStringField("value", source.getValue().getUnformattedString(source.getDate().getLocalDate()));
+        generator.writeStringField("remark", source.getRemark().toString());
+        generator.writeStringField("date", source.getDate().toString());
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted transaction object into the model's {@code Transaction} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted transaction.
      */
     public Transaction toModelType() throws IllegalValueException {
-        final List<Tag> transactionTags = new ArrayList<>();
+        final Set<Tag> modelTags = new HashSet<>();
         for (JsonAdaptedTag tag : tagged) {
-            transactionTags.add(tag.toModelType());
+            modelTags.add(tag.toModelType());
         }
 
         if (type == null) {
@@ -89,33 +110,27 @@ class JsonAdaptedTransaction {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Description.class.getSimpleName()));
         }
-        final Description modelDescription = new Description(description);
+        final Description modelDescription = Description.valueOf(description);
 
         if (value == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Value.class.getSimpleName()));
         }
-        if (!Value.isValidValue(value)) {
-            throw new IllegalValueException(Value.VALUE_CONSTRAINTS);
-        }
-        final Value modelValue = new Value(value);
+        final Value modelValue = Value.tryParse(value)
+                .orElseThrow(() -> new IllegalValueException(Value.VALUE_CONSTRAINTS));
 
         if (remark == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Remark.class.getSimpleName()));
         }
-        final Remark modelRemark = new Remark(remark);
+        final Remark modelRemark = Remark.valueOf(remark);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     TransactionDate.class.getSimpleName()));
         }
-        if (!TransactionDate.isValidDate(date)) {
-            throw new IllegalValueException(TransactionDate.DATE_CONSTRAINTS);
-        }
-        final TransactionDate modelDate = new TransactionDate(date);
-
-        final Set<Tag> modelTags = new HashSet<>(transactionTags);
+        final TransactionDate modelDate = TransactionDate.tryParse(date)
+                .orElseThrow(() -> new IllegalValueException(TransactionDate.DATE_CONSTRAINTS));
 
         if (modelType.equals("expense")) {
             return new Expense(modelDescription, modelValue, modelRemark, modelDate, modelTags);
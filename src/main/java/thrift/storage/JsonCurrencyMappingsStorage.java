@@ -8,13 +8,17 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
 import thrift.commons.util.JsonUtil;
+import thrift.model.util.HistoricalRates;
 
 /**
  * A class to access Currency Mappings stored in the hard disk as a json file
  */
 public class JsonCurrencyMappingsStorage implements CurrencyMappingsStorage {
 
+    private static final String HISTORY_SUFFIX = "_history";
+
     private Path filePath;
 
     public JsonCurrencyMappingsStorage(Path filePath) {
@@ -50,6 +54,34 @@ public class JsonCurrencyMappingsStorage implements CurrencyMappingsStorage {
         JsonUtil.saveJsonFile(currencyMappings, filePath);
     }
 
+    /**
+     * Returns the path of the historical exchange rates file kept next to the currency mappings file, which is
+     * named after it with a {@code _history} suffix, such as {@code currency_history.json}.
+     */
+    @Override
+    public Path getHistoricalRatesFilePath() {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart <= 0) {
+            return filePath.resolveSibling(fileName + HISTORY_SUFFIX);
+        }
+        return filePath.resolveSibling(fileName.substring(0, extensionStart) + HISTORY_SUFFIX
+                + fileName.substring(extensionStart));
+    }
+
+    @Override
+    public Optional<HistoricalRates> readHistoricalRates() throws DataConversionException {
+        Optional<JsonSerializableHistoricalRates> jsonRates = JsonUtil.readJsonFile(getHistoricalRatesFilePath(),
+                JsonSerializableHistoricalRates.class);
+        if (!jsonRates.isPresent()) {
+            return Optional.empty();
+        }
 
+        try {
+            return Optional.of(jsonRates.get().toModelType());
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
 
 }
@@ -0,0 +1,148 @@
+package thrift.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.Thrift;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly version of a single change to a {@link Thrift}, as recorded in the journal of
+ * {@link JournalThriftStorage}.
+ * A record either replaces {@code removed} transactions starting at position {@code at} of the transaction list with
+ * the {@code added} transactions, replaces the whole budget list with {@code budgets}, or replaces the whole
+ * recurring transaction list with {@code recurringTransactions}.
+ */
+class JsonJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_POSITION_MESSAGE = "Journal record does not match the transaction list!";
+
+    private final long seq;
+    private final int at;
+    private final int removed;
+    private final List<JsonAdaptedTransaction> added;
+    private final List<JsonAdaptedBudget> budgets;
+    private final List<JsonAdaptedRecurringTransaction> recurringTransactions;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("seq") long seq, @JsonProperty("at") int at,
+            @JsonProperty("removed") int removed, @JsonProperty("added") List<JsonAdaptedTransaction> added,
+            @JsonProperty("budgets") List<JsonAdaptedBudget> budgets,
+            @JsonProperty("recurringTransactions") List<JsonAdaptedRecurringTransaction> recurringTransactions) {
+        this.seq = seq;
+        this.at = at;
+        this.removed = removed;
+        this.added = added;
+        this.budgets = budgets;
+        this.recurringTransactions = recurringTransactions;
+    }
+
+    /**
+     * Writes a record replacing {@code removed} transactions starting at position {@code at} with {@code added}.
+     */
+    public static void writeTransactionChange(long seq, int at, int removed, List<? extends Transaction> added,
+            JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("seq", seq);
+        generator.writeNumberField("at", at);
+        generator.writeNumberField("removed", removed);
+        generator.writeArrayFieldStart("added");
+        for (Transaction transaction : added) {
+            JsonAdaptedTransaction.write(transaction, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a record replacing the whole budget list with {@code budgets}.
+     */
+    public static void writeBudgetChange(long seq, BudgetList budgets, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("seq", seq);
+        generator.writeArrayFieldStart("budgets");
+        for (Budget budget : budgets) {
+            JsonAdaptedBudget.write(budget, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a record replacing the whole recurring transaction list with {@code recurringTransactions}.
+     */
+    public static void writeRecurringTransactionChange(long seq, List<RecurringTransaction> recurringTransactions,
+            JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("seq", seq);
+        generator.writeArrayFieldStart("recurringTransactions");
+        for (RecurringTransaction recurringTransaction : recurringTransactions) {
+            JsonAdaptedRecurringTransaction.write(recurringTransaction, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Applies the change in this record to {@code thrift}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record, or if the record does
+     *     not fit the transaction list of {@code thrift}.
+     */
+    public void applyTo(Thrift thrift) throws IllegalValueException {
+        if (budgets != null) {
+            BudgetList modelBudgets = new BudgetList();
+            for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
+                modelBudgets.setBudget(jsonAdaptedBudget.toModelType());
+            }
+            thrift.setBudgets(modelBudgets);
+            return;
+        }
+        if (recurringTransactions != null) {
+            List<RecurringTransaction> modelRecurringTransactions = new ArrayList<>();
+            for (JsonAdaptedRecurringTransaction jsonAdaptedRecurringTransaction : recurringTransactions) {
+                modelRecurringTransactions.add(jsonAdaptedRecurringTransaction.toModelType());
+            }
+            thrift.setRecurringTransactions(modelRecurringTransactions);
+            return;
+        }
+
+        if (added == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "added"));
+        }
+        List<Transaction> modelAdded = new ArrayList<>();
+        for (JsonAdaptedTransaction jsonAdaptedTransaction : added) {
+            modelAdded.add(jsonAdaptedTransaction.toModelType());
+        }
+        int size = thrift.getTransactionList().size();
+        if (at < 0 || removed < 0 || at + removed > size) {
+            throw new IllegalValueException(INVALID_POSITION_MESSAGE);
+        }
+
+        for (int i = 0; i < removed; i++) {
+            thrift.removeTransactionByIndex(Index.fromZeroBased(at));
+        }
+        for (int i = 0; i < modelAdded.size(); i++) {
+            thrift.addTransaction(modelAdded.get(i), Index.fromZeroBased(at + i));
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package thrift.storage;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.TransactionDate;
+import thrift.model.util.HistoricalRates;
+
+/**
+ * Jackson-friendly version of {@link HistoricalRates}.
+ * Maps each currency code to its rates by the date, in dd/MM/yyyy format, that they took effect.
+ */
+class JsonSerializableHistoricalRates {
+
+    public static final String MESSAGE_INVALID_RATE = "Exchange rate of %s on %s must be a positive number";
+
+    private final Map<String, Map<String, Double>> rates;
+
+    /**
+     * Constructs a {@code JsonSerializableHistoricalRates} with the given rates.
+     */
+    @JsonCreator
+    public JsonSerializableHistoricalRates(Map<String, Map<String, Double>> rates) {
+        this.rates = rates;
+    }
+
+    @JsonValue
+    public Map<String, Map<String, Double>> getRates() {
+        return rates;
+    }
+
+    /**
+     * Converts these rates into the model's {@code HistoricalRates} object.
+     *
+     * @throws IllegalValueException if there were any invalid dates or rates.
+     */
+    public HistoricalRates toModelType() throws IllegalValueException {
+        Map<String, Map<LocalDate, Double>> modelRates = new HashMap<>();
+        for (Map.Entry<String, Map<String, Double>> currencyRates : rates.entrySet()) {
+            Map<LocalDate, Double> ratesByDate = new HashMap<>();
+            for (Map.Entry<String, Double> rate : currencyRates.getValue().entrySet()) {
+                LocalDate date = TransactionDate.tryParse(rate.getKey())
+                        .orElseThrow(() -> new IllegalValueException(TransactionDate.DATE_CONSTRAINTS)).getLocalDate();
+                if (rate.getValue() == null || !(rate.getValue() > 0)) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RATE, currencyRates.getKey(),
+                            rate.getKey()));
+                }
+                ratesByDate.put(date, rate.getValue());
+            }
+            modelRates.put(currencyRates.getKey(), ratesByDate);
+        }
+        return new HistoricalRates(modelRates);
+    }
+
+}
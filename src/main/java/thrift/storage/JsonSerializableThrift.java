@@ -1,17 +1,22 @@
 package thrift.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.commons.util.StreamUtils;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.Thrift;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.Budget;
 import thrift.model.transaction.Transaction;
 
@@ -21,17 +26,30 @@ import thrift.model.transaction.Transaction;
 @JsonRootName(value = "thrift")
 class JsonSerializableThrift {
 
+    /** Number of transactions below which converting them on several threads is not worth the overhead. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 1000;
+
     private final List<JsonAdaptedTransaction> transactions = new ArrayList<>();
     private final List<JsonAdaptedBudget> budgets = new ArrayList<>();
+    private final List<JsonAdaptedRecurringTransaction> recurringTransactions = new ArrayList<>();
+
+    /** Sequence number of the last journal record included in this THRIFT, if it is a journal snapshot. */
+    private long journalSequence = 0;
 
     /**
-     * Constructs a {@code JsonSerializableThrift} with the given transactions and budgets.
+     * Constructs a {@code JsonSerializableThrift} with the given transactions, budgets and recurring transactions.
+     * Files saved before recurring transactions were kept have none.
      */
     @JsonCreator
     public JsonSerializableThrift(@JsonProperty("transactions") List<JsonAdaptedTransaction> transactions,
-                                  @JsonProperty("budgets") List<JsonAdaptedBudget> budgets) {
+                                  @JsonProperty("budgets") List<JsonAdaptedBudget> budgets,
+                                  @JsonProperty("recurringTransactions")
+                                          List<JsonAdaptedRecurringTransaction> recurringTransactions) {
         this.transactions.addAll(transactions);
         this.budgets.addAll(budgets);
+        if (recurringTransactions != null) {
+            this.recurringTransactions.addAll(recurringTransactions);
+        }
     }
 
     /**
@@ -44,6 +62,56 @@ class JsonSerializableThrift {
                 .collect(Collectors.toList()));
         budgets.addAll(StreamUtils.asStream(source.getBudgetList().iterator()).map(JsonAdaptedBudget::new)
                 .collect(Collectors.toList()));
+        recurringTransactions.addAll(source.getRecurringTransactionList().stream()
+                .map(JsonAdaptedRecurringTransaction::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a serialized {@code JsonSerializableThrift},
+     * one transaction and budget at a time, so that no copy of the whole THRIFT is held in memory while saving.
+     */
+    public static void write(ReadOnlyThrift source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeFields(source, generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyThrift, JsonGenerator)}, but also records that {@code source} includes the
+     * changes of all journal records up to {@code journalSequence}.
+     */
+    public static void write(ReadOnlyThrift source, long journalSequence, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("journalSequence", journalSequence);
+        writeFields(source, generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeFields(ReadOnlyThrift source, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart("transactions");
+        for (Transaction transaction : source.getTransactionList()) {
+            JsonAdaptedTransaction.write(transaction, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("budgets");
+        for (Budget budget : source.getBudgetList()) {
+            JsonAdaptedBudget.write(budget, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("recurringTransactions");
+        for (RecurringTransaction recurringTransaction : source.getRecurringTransactionList()) {
+            JsonAdaptedRecurringTransaction.write(recurringTransaction, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this THRIFT, or 0 if it is not a journal
+     * snapshot.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -53,15 +121,46 @@ class JsonSerializableThrift {
      */
     public Thrift toModelType() throws IllegalValueException {
         Thrift thrift = new Thrift();
-        for (JsonAdaptedTransaction jsonAdaptedTransaction : transactions) {
-            Transaction transaction = jsonAdaptedTransaction.toModelType();
-            thrift.addTransaction(transaction);
-        }
+        thrift.setTransactions(toModelTransactions());
         for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
             Budget budget = jsonAdaptedBudget.toModelType();
             thrift.setBudget(budget);
         }
+        List<RecurringTransaction> modelRecurringTransactions = new ArrayList<>();
+        for (JsonAdaptedRecurringTransaction jsonAdaptedRecurringTransaction : recurringTransactions) {
+            modelRecurringTransactions.add(jsonAdaptedRecurringTransaction.toModelType());
+        }
+        thrift.setRecurringTransactions(modelRecurringTransactions);
         return thrift;
     }
 
+    /**
+     * Converts the adapted transactions into the model's {@code Transaction} objects, in their original order.
+     * Large lists are converted in parallel on the common fork-join pool.
+     *
+     * @throws IllegalValueException of the first adapted transaction that violates any data constraints.
+     */
+    private List<Transaction> toModelTransactions() throws IllegalValueException {
+        Transaction[] modelTransactions = new Transaction[transactions.size()];
+        IllegalValueException[] failures = new IllegalValueException[transactions.size()];
+        IntStream indices = IntStream.range(0, transactions.size());
+        if (transactions.size() >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                modelTransactions[i] = transactions.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(modelTransactions);
+    }
+
 }
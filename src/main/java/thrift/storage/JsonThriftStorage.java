@@ -3,10 +3,14 @@ package thrift.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import thrift.commons.core.LogsCenter;
 import thrift.commons.exceptions.DataConversionException;
 import thrift.commons.exceptions.IllegalValueException;
@@ -66,6 +70,8 @@ public class JsonThriftStorage implements ThriftStorage {
 
     /**
      * Similar to {@link #saveThrift(ReadOnlyThrift)}.
+     * The data is streamed to a temporary file that then replaces the file at {@code filePath}, so that a save that
+     * fails midway leaves the previous data intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +79,12 @@ public class JsonThriftStorage implements ThriftStorage {
         requireNonNull(thrift);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableThrift(thrift), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (JsonGenerator generator = JsonUtil.createJsonFileGenerator(temporaryFilePath)) {
+            JsonSerializableThrift.write(thrift, generator);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
 }
@@ -12,6 +12,7 @@ import thrift.commons.exceptions.DataConversionException;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.ReadOnlyUserPrefs;
 import thrift.model.UserPrefs;
+import thrift.model.util.HistoricalRates;
 
 /**
  * Manages storage of Thrift data in local storage.
@@ -95,4 +96,14 @@ public class StorageManager implements Storage {
     public void saveCurrencyMappings(Map<String, Double> currencyMappings) throws IOException {
         currencyMappingsStorage.saveCurrencyMappings(currencyMappings);
     }
+
+    @Override
+    public Path getHistoricalRatesFilePath() {
+        return currencyMappingsStorage.getHistoricalRatesFilePath();
+    }
+
+    @Override
+    public Optional<HistoricalRates> readHistoricalRates() throws DataConversionException, IOException {
+        return currencyMappingsStorage.readHistoricalRates();
+    }
 }
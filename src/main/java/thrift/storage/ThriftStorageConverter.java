@@ -0,0 +1,86 @@
+package thrift.storage;
+
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.ReadOnlyThrift;
+
+/**
+ * Converts THRIFT data from the format of one {@code ThriftStorage} to that of another, such as from
+ * {@link JsonThriftStorage} to {@link BinaryThriftStorage} and back.
+ */
+public class ThriftStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(ThriftStorageConverter.class);
+
+    private ThriftStorageConverter() {} // prevents instantiation
+
+    /**
+     * Saves the THRIFT data read from {@code source} to {@code target}.
+     *
+     * @return true if {@code source} had data to convert.
+     * @throws DataConversionException if the data of {@code source} is not in the expected format.
+     */
+    public static boolean convert(ThriftStorage source, ThriftStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyThrift> thrift = source.readThrift();
+        if (!thrift.isPresent()) {
+            return false;
+        }
+        logger.info("Converting " + source.getThriftFilePath() + " to " + target.getThriftFilePath());
+        target.saveThrift(thrift.get());
+        return true;
+    }
+
+    /**
+     * Converts the data of {@code source} to {@code target} if it was saved more recently than the data of
+     * {@code target}, as when the storage format has just been changed back to that of {@code target}.
+     *
+     * @return true if the data was converted.
+     * @throws DataConversionException if the data of {@code source} is not in the expected format.
+     */
+    public static boolean convertIfNewer(ThriftStorage source, ThriftStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<FileTime> sourceTime = getLastModifiedTime(source);
+        Optional<FileTime> targetTime = getLastModifiedTime(target);
+        if (!sourceTime.isPresent()
+                || (targetTime.isPresent() && sourceTime.get().compareTo(targetTime.get()) <= 0)) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+    /**
+     * Returns the time at which the data of {@code storage} was last saved, which for a
+     * {@code JournalThriftStorage} includes its journal.
+     */
+    private static Optional<FileTime> getLastModifiedTime(ThriftStorage storage) throws IOException {
+        Optional<FileTime> lastModifiedTime = getLastModifiedTime(storage.getThriftFilePath());
+        if (storage instanceof JournalThriftStorage) {
+            Optional<FileTime> journalTime = getLastModifiedTime(
+                    JournalThriftStorage.getJournalFilePath(storage.getThriftFilePath()));
+            if (!lastModifiedTime.isPresent()
+                    || (journalTime.isPresent() && journalTime.get().compareTo(lastModifiedTime.get()) > 0)) {
+                lastModifiedTime = journalTime;
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        return Files.exists(filePath) ? Optional.of(Files.getLastModifiedTime(filePath)) : Optional.empty();
+    }
+
+}
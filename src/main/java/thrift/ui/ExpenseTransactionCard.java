@@ -57,7 +57,7 @@ public class ExpenseTransactionCard extends UiPart<Region> {
         this.transaction = transaction;
         id.setText(displayedIndex + ". ");
         expenseDescription.setText(transaction.getDescription().toString());
-        expenseValue.setText("-$" + transaction.getValue().toString());
+        expenseValue.setText("-$" + transaction.getValue().getFormattedString(transaction.getDate().getLocalDate()));
         expenseDate.setText(transaction.getDate().toString());
         expenseRemark.setText("Remarks: " + transaction.getRemark().toString());
         transaction.getTags().stream()
@@ -49,7 +49,7 @@ public class IncomeTransactionCard extends UiPart<Region> {
         id.setText(displayedIndex + ". ");
 
         incomeDescription.setText(transaction.getDescription().toString());
-        incomeValue.setText("$" + transaction.getValue().toString());
+        incomeValue.setText("$" + transaction.getValue().getFormattedString(transaction.getDate().getLocalDate()));
         incomeDate.setText(transaction.getDate().toString());
         incomeRemark.setText("Remarks: " + transaction.getRemark().toString());
         transaction.getTags().stream()
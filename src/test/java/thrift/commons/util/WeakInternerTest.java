@@ -0,0 +1,48 @@
+package thrift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("lunch");
+        String second = new String("lunch");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        String transport = interner.intern(new String("transport"));
+        assertEquals("transport", transport);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_inParallel_returnsOneInstancePerValue() {
+        List<String> interned = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> interner.intern(String.valueOf(i % 10)))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < interned.size(); i++) {
+            assertSame(interned.get(i % 10), interned.get(i));
+        }
+        assertEquals(10, interner.size());
+    }
+
+}
@@ -9,6 +9,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.Model;
 import thrift.model.ModelManager;
 import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
 import thrift.model.UserPrefs;
 import thrift.storage.JsonCurrencyMappingsStorage;
 import thrift.storage.JsonThriftStorage;
@@ -84,11 +88,56 @@ public class LogicManagerTest {
         assertCommandSuccess(addExpenseCommand, expectedMessage, model);
     }
 
+    @Test
+    public void execute_storageThrowsIoException_failureReported() throws Exception {
+        useIoExceptionThrowingStorage();
+        List<String> failures = new ArrayList<>();
+        logic.setSaveFailureHandler(failures::add);
+        String addExpenseCommand = AddExpenseCommand.COMMAND_WORD + CommandTestUtil.DESC_LAKSA
+                + CommandTestUtil.VALUE_LAKSA;
+        logic.execute(addExpenseCommand, null, null, null);
+
+        assertThrows(IOException.class, () -> logic.flushPendingSaves());
+        assertEquals(Arrays.asList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void execute_thriftUnchanged_saveSkipped() throws Exception {
+        useIoExceptionThrowingStorage();
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        logic.flushPendingSaves();
+    }
+
+    @Test
+    public void execute_validScrollingCommand_thriftSaved() throws Exception {
+        String addExpenseCommand = AddExpenseCommand.COMMAND_WORD + CommandTestUtil.DESC_LAKSA
+                + CommandTestUtil.VALUE_LAKSA;
+        logic.execute(addExpenseCommand, null, null, null);
+        logic.flushPendingSaves();
+
+        assertEquals(model.getThrift(), new Thrift(new JsonThriftStorage(temporaryFolder.resolve("thrift.json"))
+                .readThrift().get()));
+    }
+
     @Test
     public void getFilteredTransactionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTransactionList().remove(0));
     }
 
+    /**
+     * Replaces {@code logic} with one whose THRIFT storage throws an {@code IOException} whenever it saves.
+     */
+    private void useIoExceptionThrowingStorage() {
+        JsonThriftStorage thriftStorage =
+                new JsonThriftIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionThrift.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        JsonCurrencyMappingsStorage currencyMappingsStorage =
+                new JsonCurrencyMappingsStorage(temporaryFolder.resolve("ioExceptionCurrency.json"));
+        StorageManager storage = new StorageManager(thriftStorage, userPrefsStorage, currencyMappingsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
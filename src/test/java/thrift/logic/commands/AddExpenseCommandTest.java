@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Stack;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,10 +29,14 @@ import thrift.model.Model;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.ReadOnlyUserPrefs;
 import thrift.model.Thrift;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 import thrift.testutil.ExpenseBuilder;
 
 public class AddExpenseCommandTest {
@@ -177,6 +184,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getThriftModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTransaction(Transaction transaction) {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +209,31 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Transaction> deleteLastTransactions(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTransactions(List<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteRecurringTransaction(RecurringTransaction recurringTransaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceAllTransactions(UnaryOperator<Transaction> operator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Transaction deleteLastTransaction() {
             throw new AssertionError("This method should not be called.");
@@ -237,6 +274,16 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Transaction> getTransactionsInMonth(YearMonth yearMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Transaction> getFilteredTransactionList() {
             throw new AssertionError("This method should not be called.");
@@ -252,6 +299,22 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTransactionListToKeywords(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Transaction> updateFilteredTransactionListToSearchTerms(
+                TransactionContainsSearchTermsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredTransactionListToTags(TransactionHasTagsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateBalanceForCurrentMonth() {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package thrift.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -10,6 +11,8 @@ import static thrift.logic.commands.CommandTestUtil.showTransactionAtIndex;
 import static thrift.model.transaction.TransactionDate.DATE_FORMATTER;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -206,6 +209,45 @@ public class CloneCommandTest {
         assertCommandFailure(cloneCommand, model, Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_endDateBeforeFirstClone_throwsCommandException() {
+        Transaction transactionToClone = model.getFilteredTransactionList()
+                .get(TypicalIndexes.INDEX_FIRST_TRANSACTION.getZeroBased());
+        LocalDate endDate = transactionToClone.getDate().getLocalDate();
+        CloneCommand cloneCommand = new CloneCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                new Occurrence("daily", Occurrence.MAX_OCCURRENCES, 1, endDate));
+
+        assertCommandFailure(cloneCommand, model, CloneCommand.MESSAGE_NO_CLONES);
+    }
+
+    @Test
+    public void undoAndRedo_cloneCommandUntilEndDate_success() throws CommandException {
+        Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs());
+        Transaction transactionToClone = model.getFilteredTransactionList()
+                .get(TypicalIndexes.INDEX_FIRST_TRANSACTION.getZeroBased());
+        LocalDate originalDate = transactionToClone.getDate().getLocalDate();
+        LocalDate endDate = originalDate.plusYears(10);
+        CloneCommand cloneCommand = new CloneCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                new Occurrence("daily", Occurrence.MAX_OCCURRENCES, 1, endDate));
+        cloneCommand.execute(model, null);
+
+        int numClones = (int) ChronoUnit.DAYS.between(originalDate, endDate);
+        assertEquals(expectedModel.getThrift().getTransactionList().size() + numClones,
+                model.getThrift().getTransactionList().size());
+        Transaction lastClone = model.getThrift().getTransactionList()
+                .get(model.getThrift().getTransactionList().size() - 1);
+        assertEquals(endDate, lastClone.getDate().getLocalDate());
+        assertEquals(transactionToClone.getDescription(), lastClone.getDescription());
+
+        //undo
+        assertUndoCommandSuccess(cloneCommand, model, expectedModel);
+
+        //redo
+        cloneCommand.redo(model);
+        assertEquals(lastClone, model.getThrift().getTransactionList()
+                .get(model.getThrift().getTransactionList().size() - 1));
+    }
+
     @Test
     public void undoAndRedo_cloneCommandOnExpenseWithNoOccurrence_success() {
         Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs());
@@ -1,5 +1,6 @@
 package thrift.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -28,6 +29,16 @@ class ConvertCommandTest {
         assertCommandSuccess(convertCommand, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    void generateConvertResult_manyAmounts_eachAmountConverted() {
+        List<String> currencies = List.of("SGD", "MYR", "USD");
+        String firstResult = ConvertCommand.generateConvertResult(100.00, currencies);
+        String secondResult = ConvertCommand.generateConvertResult(2.50, currencies);
+
+        String expectedResult = firstResult.replace(ConvertCommand.MESSAGE_CREDITS, "") + secondResult;
+        assertEquals(expectedResult, ConvertCommand.generateConvertResult(new double[] {100.00, 2.50}, currencies));
+    }
+
     @Test
     void testEquals() {
         double amountOne = 100.00;
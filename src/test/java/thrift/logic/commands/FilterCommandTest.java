@@ -0,0 +1,82 @@
+package thrift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.commons.core.Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW;
+import static thrift.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.model.Model;
+import thrift.model.ModelManager;
+import thrift.model.UserPrefs;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.TransactionHasTagsPredicate;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterLunchCommand = new FilterCommand(preparePredicate("Lunch"));
+        FilterCommand filterAwardCommand = new FilterCommand(preparePredicate("Award"));
+
+        // same object -> returns true
+        assertTrue(filterLunchCommand.equals(filterLunchCommand));
+
+        // same values -> returns true
+        assertTrue(filterLunchCommand.equals(new FilterCommand(preparePredicate("Lunch"))));
+
+        // different types -> returns false
+        assertFalse(filterLunchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterLunchCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(filterLunchCommand.equals(filterAwardCommand));
+    }
+
+    @Test
+    public void execute_tagsCombined_transactionsFound() {
+        TransactionHasTagsPredicate predicate = preparePredicate("Lunch", "Award");
+        String expectedMessage = String.format(MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredTransactionList(predicate);
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY),
+                model.getFilteredTransactionList());
+    }
+
+    @Test
+    public void execute_transactionRetagged_filterUpdated() {
+        new FilterCommand(preparePredicate("Brunch")).execute(model);
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA), model.getFilteredTransactionList());
+
+        Expense retagged = new ExpenseBuilder(TypicalTransactions.LAKSA).withTags("Brunch").build();
+        model.setTransaction(TypicalTransactions.LAKSA, retagged);
+        assertEquals(Arrays.asList(retagged, TypicalTransactions.PENANG_LAKSA), model.getFilteredTransactionList());
+    }
+
+    /**
+     * Returns a predicate for the transactions with any of {@code tagNames}.
+     */
+    private TransactionHasTagsPredicate preparePredicate(String... tagNames) {
+        TransactionHasTagsPredicate.Clause[] clauses = new TransactionHasTagsPredicate.Clause[tagNames.length];
+        for (int i = 0; i < tagNames.length; i++) {
+            clauses[i] = new TransactionHasTagsPredicate.Clause(Collections.singleton(new Tag(tagNames[i])),
+                    Collections.emptySet());
+        }
+        return new TransactionHasTagsPredicate(Arrays.asList(clauses));
+    }
+}
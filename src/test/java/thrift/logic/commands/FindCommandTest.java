@@ -14,7 +14,13 @@ import org.junit.jupiter.api.Test;
 import thrift.model.Model;
 import thrift.model.ModelManager;
 import thrift.model.UserPrefs;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.SearchTerm;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
+import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.TypicalTransactions;
 
 /**
@@ -82,6 +88,40 @@ public class FindCommandTest {
                 model.getFilteredTransactionList());
     }
 
+    @Test
+    public void execute_transactionsChangedAfterFind_filterUpdated() {
+        new FindCommand(preparePredicate("Laksa1 Mee")).execute(model);
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA), model.getFilteredTransactionList());
+
+        Expense mee = new ExpenseBuilder().withDescription("Mee Goreng").withRemark("Spicy").build();
+        model.addExpense(mee);
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA, mee), model.getFilteredTransactionList());
+    }
+
+    @Test
+    public void execute_keywordInRecurrence_recurrenceFound() {
+        Occurrence monthly = new Occurrence("monthly", Occurrence.MAX_OCCURRENCES);
+        model.addRecurringTransaction(new RecurringTransaction(TypicalTransactions.BURSARY, monthly));
+
+        new FindCommand(preparePredicate("bursary")).execute(model);
+        assertEquals(2, model.getFilteredTransactionList().size());
+        assertEquals(TypicalTransactions.BURSARY, model.getFilteredTransactionList().get(0));
+    }
+
+    @Test
+    public void execute_searchTerms_closestMatchReported() {
+        TransactionContainsSearchTermsPredicate predicate = new TransactionContainsSearchTermsPredicate(Arrays.asList(
+                new SearchTerm(SearchTerm.Type.FUZZY, "laksa"), new SearchTerm(SearchTerm.Type.PREFIX, "awa")));
+        String expectedMessage = String.format(MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, 3) + "\n"
+                + String.format(FindCommand.MESSAGE_CLOSEST_MATCH, TypicalTransactions.LAKSA);
+        expectedModel.updateFilteredTransactionList(predicate);
+        assertCommandSuccess(new FindCommand(predicate), model, expectedMessage, expectedModel);
+
+        new FindCommand(new TransactionContainsSearchTermsPredicate(Collections.singletonList(
+                new SearchTerm(SearchTerm.Type.SUBSTRING, "xyz")))).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredTransactionList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code DescriptionOrRemarkContainsKeywordsPredicate}.
      */
@@ -0,0 +1,150 @@
+package thrift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.logic.commands.CommandTestUtil.assertCommandFailure;
+import static thrift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static thrift.logic.commands.CommandTestUtil.assertRedoCommandSuccess;
+import static thrift.logic.commands.CommandTestUtil.assertUndoCommandSuccess;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.Messages;
+import thrift.commons.core.index.Index;
+import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.Model;
+import thrift.model.ModelManager;
+import thrift.model.UserPrefs;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Transaction;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalIndexes;
+import thrift.testutil.TypicalOccurrences;
+import thrift.testutil.TypicalTransactions;
+
+public class RecurCommandTest {
+
+    private static final Occurrence MONTHLY_FOREVER = new Occurrence("monthly", Occurrence.MAX_OCCURRENCES);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+        model.setCurrentMonthYear(octoberOf2019());
+    }
+
+    @Test
+    public void constructor_nullReceivedFields_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurCommand(null, MONTHLY_FOREVER));
+        assertThrows(NullPointerException.class, () -> new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                null));
+    }
+
+    @Test
+    public void execute_validIndex_recurrenceInCurrentMonthShown() {
+        Transaction transactionToRecur = model.getFilteredTransactionList()
+                .get(TypicalIndexes.INDEX_FIRST_TRANSACTION.getZeroBased());
+        RecurringTransaction recurringTransaction = new RecurringTransaction(transactionToRecur, MONTHLY_FOREVER);
+        RecurCommand recurCommand = new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION, MONTHLY_FOREVER);
+
+        Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs());
+        expectedModel.setCurrentMonthYear(octoberOf2019());
+        expectedModel.addRecurringTransaction(recurringTransaction);
+        assertCommandSuccess(recurCommand, model,
+                String.format(RecurCommand.MESSAGE_RECUR_TRANSACTION_SUCCESS, recurringTransaction), expectedModel);
+
+        // only the recurrence in the current month is shown, and it is not added to the transaction list
+        int transactionCount = model.getThrift().getTransactionList().size();
+        assertEquals(transactionCount + 1, model.getFilteredTransactionList().size());
+        Transaction recurrence = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("13/10/2019").build();
+        assertEquals(recurrence, model.getFilteredTransactionList().get(transactionCount));
+
+        model.updateExpenseForCurrentMonth();
+        assertEquals(3.5, model.getExpense());
+
+        model.setCurrentMonthYear(Calendar.getInstance());
+        model.getFilteredTransactionList().forEach(transaction -> assertFalse(transaction.getDate().getLocalDate()
+                .getYear() == 2019 && transaction.getDate().getLocalDate().getMonthValue() == 10));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTransactionList().size() + 1);
+        assertCommandFailure(new RecurCommand(outOfBoundIndex, MONTHLY_FOREVER), model,
+                Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noOccurrences_throwsCommandException() {
+        assertCommandFailure(new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                TypicalOccurrences.NO_OCCURRENCE), model, RecurringTransaction.MESSAGE_NO_RECURRENCE);
+    }
+
+    @Test
+    public void execute_recurrenceIndex_throwsCommandException() throws CommandException {
+        new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION, MONTHLY_FOREVER).execute(model);
+        Index recurrenceIndex = Index.fromOneBased(model.getFilteredTransactionList().size());
+
+        assertCommandFailure(new RecurCommand(recurrenceIndex, MONTHLY_FOREVER), model,
+                Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX);
+        assertCommandFailure(new DeleteCommand(recurrenceIndex), model, Messages.MESSAGE_RECURRENCE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void undoAndRedo_recurCommand_success() throws CommandException {
+        Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs());
+        expectedModel.setCurrentMonthYear(octoberOf2019());
+        RecurCommand recurCommand = new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION, MONTHLY_FOREVER);
+        recurCommand.execute(model);
+
+        //undo
+        assertUndoCommandSuccess(recurCommand, model, expectedModel);
+        assertEquals(model.getThrift().getTransactionList().size(), model.getFilteredTransactionList().size());
+
+        //redo
+        Transaction transactionToRecur = model.getFilteredTransactionList()
+                .get(TypicalIndexes.INDEX_FIRST_TRANSACTION.getZeroBased());
+        expectedModel.addRecurringTransaction(new RecurringTransaction(transactionToRecur, MONTHLY_FOREVER));
+        assertRedoCommandSuccess(recurCommand, model, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        RecurCommand recurFirstCommand = new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION, MONTHLY_FOREVER);
+        RecurCommand recurSecondCommand = new RecurCommand(TypicalIndexes.INDEX_SECOND_TRANSACTION, MONTHLY_FOREVER);
+
+        // same object -> returns true
+        assertTrue(recurFirstCommand.equals(recurFirstCommand));
+
+        // same values -> returns true
+        assertTrue(recurFirstCommand.equals(new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                new Occurrence("monthly", Occurrence.MAX_OCCURRENCES))));
+
+        // different types -> returns false
+        assertFalse(recurFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(recurFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(recurFirstCommand.equals(recurSecondCommand));
+
+        // different occurrence -> returns false
+        assertFalse(recurFirstCommand.equals(new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                TypicalOccurrences.MONTHLY_OCCURRENCE)));
+    }
+
+    private static Calendar octoberOf2019() {
+        Calendar october = Calendar.getInstance();
+        october.set(2019, Calendar.OCTOBER, 1);
+        return october;
+    }
+
+}
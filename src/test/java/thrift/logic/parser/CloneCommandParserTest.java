@@ -4,6 +4,8 @@ import static thrift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static thrift.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static thrift.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import thrift.logic.commands.CloneCommand;
@@ -49,6 +51,17 @@ public class CloneCommandParserTest {
         assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "3" + CommandTestUtil.OCCURRENCE_TOKEN
                 + "monthly:12", new CloneCommand(TypicalIndexes.INDEX_THIRD_TRANSACTION,
                 new Occurrence("monthly", 12)));
+        assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "3" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "monthly:10000", new CloneCommand(TypicalIndexes.INDEX_THIRD_TRANSACTION,
+                new Occurrence("monthly", 10000)));
+
+        // Clone with interval and end date
+        assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "3" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "weekly*2:52", new CloneCommand(TypicalIndexes.INDEX_THIRD_TRANSACTION,
+                new Occurrence("weekly", 52, 2, null)));
+        assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "3" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "monthly:31/12/2025", new CloneCommand(TypicalIndexes.INDEX_THIRD_TRANSACTION,
+                new Occurrence("monthly", Occurrence.MAX_OCCURRENCES, 1, LocalDate.of(2025, 12, 31))));
     }
 
     @Test
@@ -92,13 +105,23 @@ public class CloneCommandParserTest {
 
         // number of occurrences beyond allowable limit
         assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
-                + "daily:13", MESSAGE_INVALID_FORMAT);
+                + "daily:10001", MESSAGE_INVALID_FORMAT);
         assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
-                + "weekly:13", MESSAGE_INVALID_FORMAT);
+                + "yearly:10001", MESSAGE_INVALID_FORMAT);
+
+        // invalid interval
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "weekly*0:3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "weekly*101:3", MESSAGE_INVALID_FORMAT);
         assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
-                + "monthly:13", MESSAGE_INVALID_FORMAT);
+                + "weekly*:3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "weekly*2*2:3", MESSAGE_INVALID_FORMAT);
+
+        // invalid end date
         assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
-                + "yearly:6", MESSAGE_INVALID_FORMAT);
+                + "monthly:31/02/2025", MESSAGE_INVALID_FORMAT);
 
         // No number of occurrence input
         assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "2" + CommandTestUtil.OCCURRENCE_TOKEN
@@ -45,6 +45,16 @@ class ConvertCommandParserTest {
         assertParseSuccess(parser, input, expectedCommand);
     }
 
+    @Test
+    void parse_withManyValues() {
+        String input = "convert v/10 v/2.50 c/USD c/SGD";
+
+        ConvertCommand expectedCommand = new ConvertCommand(new double[] {10.00, 2.50},
+                (List<String>) List.of("USD", "SGD"));
+
+        assertParseSuccess(parser, input, expectedCommand);
+    }
+
     @Test
     void parse_withNoValue_andRecommendedInput() {
         String input = "convert c/SGD c/USD";
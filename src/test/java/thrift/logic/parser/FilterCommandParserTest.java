@@ -0,0 +1,62 @@
+package thrift.logic.parser;
+
+import static thrift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static thrift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static thrift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.logic.commands.FilterCommand;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.TransactionHasTagsPredicate;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidCombination_throwsParseException() {
+        assertParseFailure(parser, "Lunch Dinner", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Lunch and", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "or Lunch", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Lunch not Dinner", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "not not Lunch", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Lunch and Din*ner", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        Tag lunch = new Tag("Lunch");
+        Tag dinner = new Tag("Dinner");
+        Tag work = new Tag("Work");
+
+        assertParseSuccess(parser, " Lunch ", new FilterCommand(new TransactionHasTagsPredicate(
+                Collections.singletonList(new TransactionHasTagsPredicate.Clause(Collections.singleton(lunch),
+                        Collections.emptySet())))));
+
+        // "and" is applied before "or", and operators are case-insensitive
+        assertParseSuccess(parser, "Lunch AND not Work or \n Dinner", new FilterCommand(
+                new TransactionHasTagsPredicate(Arrays.asList(
+                        new TransactionHasTagsPredicate.Clause(Collections.singleton(lunch),
+                                Collections.singleton(work)),
+                        new TransactionHasTagsPredicate.Clause(Collections.singleton(dinner),
+                                Collections.emptySet())))));
+
+        assertParseSuccess(parser, "not Work and Lunch and Dinner", new FilterCommand(new TransactionHasTagsPredicate(
+                Collections.singletonList(new TransactionHasTagsPredicate.Clause(
+                        new HashSet<>(Arrays.asList(lunch, dinner)), Collections.singleton(work))))));
+    }
+
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 
 import thrift.logic.commands.FindCommand;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.SearchTerm;
+import thrift.model.transaction.TransactionContainsSearchTermsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +33,19 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_searchPatterns_returnsFindCommandWithSearchTerms() {
+        FindCommand expectedFindCommand = new FindCommand(new TransactionContainsSearchTermsPredicate(Arrays.asList(
+                new SearchTerm(SearchTerm.Type.PREFIX, "lak"), new SearchTerm(SearchTerm.Type.SUBSTRING, "ang"),
+                new SearchTerm(SearchTerm.Type.FUZZY, "chiken"), new SearchTerm(SearchTerm.Type.WORD, "Bob"))));
+        assertParseSuccess(parser, "lak* *ang* ~chiken Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_emptySearchPattern_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "*", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "**", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
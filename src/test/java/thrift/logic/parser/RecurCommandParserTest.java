@@ -0,0 +1,47 @@
+package thrift.logic.parser;
+
+import static thrift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static thrift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static thrift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.logic.commands.CommandTestUtil;
+import thrift.logic.commands.RecurCommand;
+import thrift.model.clone.Occurrence;
+import thrift.testutil.TypicalIndexes;
+
+public class RecurCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecurCommand.MESSAGE_USAGE);
+
+    private RecurCommandParser parser = new RecurCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no index specified
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + CommandTestUtil.OCCURRENCE_TOKEN + "monthly:12",
+                MESSAGE_INVALID_FORMAT);
+
+        // no occurrence specified
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1", MESSAGE_INVALID_FORMAT);
+
+        // no occurrence specified with "o/" prefix
+        assertParseFailure(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN,
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsRecurCommand() {
+        assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "1" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "monthly:12", new RecurCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                new Occurrence("monthly", 12)));
+        assertParseSuccess(parser, CommandTestUtil.INDEX_TOKEN + "3" + CommandTestUtil.OCCURRENCE_TOKEN
+                + "weekly*2:31/12/2025", new RecurCommand(TypicalIndexes.INDEX_THIRD_TRANSACTION,
+                new Occurrence("weekly", Occurrence.MAX_OCCURRENCES, 2, LocalDate.of(2025, 12, 31))));
+    }
+
+}
@@ -9,6 +9,7 @@ import static thrift.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static thrift.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,7 @@ import thrift.logic.commands.CommandTestUtil;
 import thrift.logic.commands.ConvertCommand;
 import thrift.logic.commands.DeleteCommand;
 import thrift.logic.commands.ExitCommand;
+import thrift.logic.commands.FilterCommand;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.commands.HelpCommand;
 import thrift.logic.commands.ListCommand;
@@ -33,8 +35,10 @@ import thrift.logic.commands.UpdateCommand;
 import thrift.logic.commands.UpdateCommand.UpdateTransactionDescriptor;
 import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.clone.Occurrence;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
 import thrift.model.transaction.Expense;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.IncomeBuilder;
 import thrift.testutil.TransactionUtil;
@@ -98,6 +102,15 @@ public class ThriftParserTest {
         assertEquals(new FindCommand(new DescriptionOrRemarkContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " Lunch or Dinner");
+        assertEquals(new FilterCommand(new TransactionHasTagsPredicate(Arrays.asList(
+                new TransactionHasTagsPredicate.Clause(Collections.singleton(new Tag("Lunch")), Collections.emptySet()),
+                new TransactionHasTagsPredicate.Clause(Collections.singleton(new Tag("Dinner")),
+                        Collections.emptySet())))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
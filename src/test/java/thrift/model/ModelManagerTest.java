@@ -10,22 +10,27 @@ import static thrift.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
 import thrift.commons.core.GuiSettings;
+import thrift.commons.core.index.Index;
 import thrift.logic.commands.AddExpenseCommand;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.Description;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Remark;
 import thrift.model.transaction.TransactionDate;
+import thrift.model.transaction.TransactionHasTagsPredicate;
 import thrift.model.transaction.Value;
 import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.ThriftBuilder;
@@ -120,6 +125,59 @@ public class ModelManagerTest {
         assertEquals(500.00, income);
     }
 
+    @Test
+    public void getTransactionsInMonth_typicalThrift_returnsTransactionsInMonth() {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY), model.getTransactionsInMonth(YearMonth.of(2011, 11)));
+        assertTrue(model.getTransactionsInMonth(YearMonth.of(2011, 12)).isEmpty());
+    }
+
+    @Test
+    public void updateFilteredTransactionListToCurrentMonth_transactionsAdded_showsOnlyCurrentMonth() {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+        Calendar november = Calendar.getInstance();
+        november.set(2011, Calendar.NOVEMBER, 1);
+        model.setCurrentMonthYear(november);
+        model.updateFilteredTransactionListToCurrentMonth();
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY), model.getFilteredTransactionList());
+
+        Expense inMonth = new ExpenseBuilder().withDescription("Laksa").withDate("15/11/2011").build();
+        Expense outOfMonth = new ExpenseBuilder().withDescription("Laksa").withDate("15/12/2011").build();
+        model.addExpense(inMonth);
+        model.addExpense(outOfMonth);
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, inMonth), model.getFilteredTransactionList());
+
+        model.deleteTransaction(TypicalTransactions.BURSARY);
+        assertEquals(Arrays.asList(inMonth), model.getFilteredTransactionList());
+    }
+
+    @Test
+    public void updateFilteredTransactionListToKeywords_transactionsChanged_showsOnlyMatches() {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+        model.updateFilteredTransactionListToKeywords(new DescriptionOrRemarkContainsKeywordsPredicate(
+                Arrays.asList("bursary")));
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY), model.getFilteredTransactionList());
+
+        Expense match = new ExpenseBuilder().withDescription("Bursary refund").build();
+        model.addExpense(match, Index.fromZeroBased(0));
+        model.addExpense(new ExpenseBuilder().withDescription("Laksa").build());
+        assertEquals(Arrays.asList(match, TypicalTransactions.BURSARY), model.getFilteredTransactionList());
+    }
+
+    @Test
+    public void updateFilteredTransactionListToTags_transactionsChanged_showsOnlyMatches() {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs());
+        model.updateFilteredTransactionListToTags(new TransactionHasTagsPredicate(Arrays.asList(
+                new TransactionHasTagsPredicate.Clause(Collections.singleton(new Tag("Award")),
+                        Collections.emptySet()))));
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY), model.getFilteredTransactionList());
+
+        Expense match = new ExpenseBuilder().withDescription("Trophy").withTags("Award").build();
+        model.addExpense(match, Index.fromZeroBased(0));
+        model.deleteTransaction(TypicalTransactions.BURSARY);
+        assertEquals(Arrays.asList(match), model.getFilteredTransactionList());
+    }
+
     @Test
     public void setGetCurrentMonthYear() {
         Calendar calendar = Calendar.getInstance();
@@ -2,6 +2,7 @@ package thrift.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -88,7 +89,74 @@ public class PastUndoCommandsTest {
         assertTrue(pastUndoableCommands.hasUndoCommand());
     }
 
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PastUndoableCommands(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PastUndoableCommands(1, 0));
+    }
+
+    @Test
+    public void addPastCommand_tooManyCommands_oldestEvicted() throws CommandException {
+        pastUndoableCommands = new PastUndoableCommands(3, 100);
+        CommandStub[] commandStubs = new CommandStub[5];
+        for (int i = 0; i < commandStubs.length; i++) {
+            commandStubs[i] = new CommandStub();
+            pastUndoableCommands.addPastCommand(commandStubs[i]);
+        }
+
+        assertSame(commandStubs[4], pastUndoableCommands.getCommandToUndo());
+        assertSame(commandStubs[3], pastUndoableCommands.getCommandToUndo());
+        assertSame(commandStubs[3], pastUndoableCommands.getCommandToRedo());
+
+        // Replaces the undone command, with the buffer wrapping around
+        CommandStub newCommandStub = new CommandStub();
+        pastUndoableCommands.addPastCommand(newCommandStub);
+        assertFalse(pastUndoableCommands.hasRedoCommand());
+        assertSame(newCommandStub, pastUndoableCommands.getCommandToUndo());
+        assertSame(commandStubs[3], pastUndoableCommands.getCommandToUndo());
+        assertSame(commandStubs[2], pastUndoableCommands.getCommandToUndo());
+        assertFalse(pastUndoableCommands.hasUndoCommand());
+        assertEquals(3, pastUndoableCommands.getRetainedTransactionCount());
+    }
+
+    @Test
+    public void addPastCommand_tooManyRetainedTransactions_oldestEvicted() throws CommandException {
+        pastUndoableCommands = new PastUndoableCommands(10, 3);
+        CommandStub first = new CommandStub(1);
+        CommandStub second = new CommandStub(2);
+        pastUndoableCommands.addPastCommand(first);
+        pastUndoableCommands.addPastCommand(second);
+        assertEquals(3, pastUndoableCommands.getRetainedTransactionCount());
+
+        CommandStub third = new CommandStub(2);
+        pastUndoableCommands.addPastCommand(third);
+        assertEquals(2, pastUndoableCommands.getRetainedTransactionCount());
+        assertSame(third, pastUndoableCommands.getCommandToUndo());
+        assertFalse(pastUndoableCommands.hasUndoCommand());
+
+        // The latest command is kept even if it is over the limit on its own
+        CommandStub large = new CommandStub(5);
+        pastUndoableCommands.addPastCommand(large);
+        assertEquals(5, pastUndoableCommands.getRetainedTransactionCount());
+        assertSame(large, pastUndoableCommands.getCommandToUndo());
+    }
+
     private class CommandStub implements Undoable {
+        private final int retainedTransactionCount;
+
+        CommandStub() {
+            this(1);
+        }
+
+        CommandStub(int retainedTransactionCount) {
+            this.retainedTransactionCount = retainedTransactionCount;
+        }
+
+        @Override
+        public int getRetainedTransactionCount() {
+            return retainedTransactionCount;
+        }
+
         @Override
         public String undo(Model model) {
             return null;
@@ -0,0 +1,35 @@
+package thrift.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.testutil.TypicalTransactions;
+
+public class ThriftSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ThriftSnapshot(null));
+    }
+
+    @Test
+    public void constructor_sourceChangedAfterwards_snapshotUnchanged() {
+        Thrift source = TypicalTransactions.getTypicalThrift();
+        Thrift expected = new Thrift(source);
+        ThriftSnapshot snapshot = new ThriftSnapshot(source);
+
+        source.addTransaction(TypicalTransactions.LAKSA);
+        source.removeBudget(TypicalTransactions.OCT_BUDGET);
+        snapshot.getBudgetList().removeBudget(TypicalTransactions.OCT_BUDGET);
+
+        assertEquals(expected, new Thrift(snapshot));
+    }
+
+    @Test
+    public void getTransactionList_modifyList_throwsUnsupportedOperationException() {
+        ThriftSnapshot snapshot = new ThriftSnapshot(TypicalTransactions.getTypicalThrift());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getTransactionList().remove(0));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import thrift.model.clone.RecurringTransaction;
 import thrift.model.transaction.BudgetList;
 import thrift.model.transaction.Transaction;
 import thrift.testutil.TypicalTransactions;
@@ -53,6 +54,20 @@ public class ThriftTest {
         assertTrue(thrift.hasTransaction(TypicalTransactions.LAKSA));
     }
 
+    @Test
+    public void getModificationCount_afterChanges_countIncreases() {
+        long count = thrift.getModificationCount();
+        thrift.hasTransaction(TypicalTransactions.LAKSA);
+        assertEquals(count, thrift.getModificationCount());
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        assertTrue(thrift.getModificationCount() > count);
+
+        count = thrift.getModificationCount();
+        thrift.setBudget(TypicalTransactions.OCT_BUDGET);
+        assertTrue(thrift.getModificationCount() > count);
+    }
+
     @Test
     public void getTransactionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> thrift.getTransactionList().remove(0));
@@ -79,6 +94,11 @@ public class ThriftTest {
         public BudgetList getBudgetList() {
             return budgets;
         }
+
+        @Override
+        public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+            return FXCollections.observableArrayList();
+        }
     }
 
 }
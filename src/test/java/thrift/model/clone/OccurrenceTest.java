@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +67,83 @@ public class OccurrenceTest {
         }
     }
 
+    @Test
+    public void getCloneDates_noOccurrences_singleCloneToday() throws CommandException {
+        LocalDate today = LocalDate.of(2019, 11, 2);
+        assertEquals(List.of(today), new Occurrence("monthly", 0).getCloneDates(LocalDate.of(2019, 1, 1), today));
+    }
+
+    @Test
+    public void getCloneDates_invalidFrequency_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new Occurrence("once every month", 3)
+                .getCloneDates(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 1, 1)));
+    }
+
+    @Test
+    public void getCloneDates_numOccurrences_datesFromOriginalDate() throws CommandException {
+        LocalDate originalDate = LocalDate.of(2019, 1, 31);
+        LocalDate today = LocalDate.of(2019, 11, 2);
+        assertEquals(List.of(LocalDate.of(2019, 2, 28), LocalDate.of(2019, 3, 31), LocalDate.of(2019, 4, 30)),
+                new Occurrence("monthly", 3).getCloneDates(originalDate, today));
+        assertEquals(List.of(LocalDate.of(2019, 2, 14), LocalDate.of(2019, 2, 28)),
+                new Occurrence("weekly", 2, 2, null).getCloneDates(originalDate, today));
+
+        List<LocalDate> dailyDates = new Occurrence("daily", Occurrence.MAX_OCCURRENCES)
+                .getCloneDates(originalDate, today);
+        assertEquals(Occurrence.MAX_OCCURRENCES, dailyDates.size());
+        assertEquals(originalDate.plusDays(Occurrence.MAX_OCCURRENCES), dailyDates.get(dailyDates.size() - 1));
+    }
+
+    @Test
+    public void getCloneDates_endDate_datesUpToEndDate() throws CommandException {
+        LocalDate originalDate = LocalDate.of(2019, 1, 31);
+        LocalDate today = LocalDate.of(2019, 11, 2);
+        assertEquals(List.of(LocalDate.of(2019, 2, 28)), new Occurrence("monthly", Occurrence.MAX_OCCURRENCES, 1,
+                LocalDate.of(2019, 2, 28)).getCloneDates(originalDate, today));
+        assertEquals(List.of(LocalDate.of(2019, 3, 31), LocalDate.of(2019, 5, 31)), new Occurrence("monthly",
+                Occurrence.MAX_OCCURRENCES, 2, LocalDate.of(2019, 7, 30)).getCloneDates(originalDate, today));
+        assertEquals(12 * 10, new Occurrence("monthly", Occurrence.MAX_OCCURRENCES, 1,
+                LocalDate.of(2029, 1, 31)).getCloneDates(originalDate, today).size());
+
+        // end date before the first clone
+        assertTrue(new Occurrence("yearly", Occurrence.MAX_OCCURRENCES, 1, LocalDate.of(2019, 12, 31))
+                .getCloneDates(originalDate, today).isEmpty());
+
+        // number of occurrences reached before end date
+        assertEquals(2, new Occurrence("daily", 2, 1, LocalDate.of(2019, 12, 31))
+                .getCloneDates(originalDate, today).size());
+
+        // clones are not dated after year 9999
+        List<LocalDate> yearlyDates = new Occurrence("yearly", Occurrence.MAX_OCCURRENCES)
+                .getCloneDates(LocalDate.of(9990, 6, 1), today);
+        assertEquals(LocalDate.of(9999, 6, 1), yearlyDates.get(yearlyDates.size() - 1));
+    }
+
+    @Test
+    public void getCloneDatesBetween_sameAsCloneDatesInPeriod() throws CommandException {
+        LocalDate originalDate = LocalDate.of(2019, 1, 31);
+        LocalDate today = LocalDate.of(2019, 11, 2);
+        List<Occurrence> occurrences = List.of(new Occurrence("daily", 400), new Occurrence("weekly", 30, 3, null),
+                new Occurrence("monthly", 50), new Occurrence("yearly", 3),
+                new Occurrence("monthly", Occurrence.MAX_OCCURRENCES, 2, LocalDate.of(2020, 7, 30)));
+        for (Occurrence occurrence : occurrences) {
+            List<LocalDate> cloneDates = occurrence.getCloneDates(originalDate, today);
+            for (LocalDate start = LocalDate.of(2018, 12, 1); start.isBefore(LocalDate.of(2023, 1, 1));
+                    start = start.plusDays(17)) {
+                LocalDate end = start.plusMonths(1).minusDays(1);
+                LocalDate from = start;
+                assertEquals(cloneDates.stream().filter(date -> !date.isBefore(from) && !date.isAfter(end))
+                        .collect(Collectors.toList()), occurrence.getCloneDatesBetween(originalDate, start, end));
+            }
+        }
+    }
+
+    @Test
+    public void getCloneDatesBetween_noOccurrences_noDates() throws CommandException {
+        assertTrue(new Occurrence("daily", 0).getCloneDatesBetween(LocalDate.of(2019, 1, 1),
+                LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31)).isEmpty());
+    }
+
     @Test
     public void equals() {
         Occurrence occurrence = new Occurrence("weekly", 5);
@@ -83,6 +163,14 @@ public class OccurrenceTest {
         Occurrence occurrenceDiffNumOccurrences = new Occurrence("weekly", 6);
         assertFalse(occurrence.equals(occurrenceDiffNumOccurrences));
 
+        // different interval -> returns false
+        assertFalse(occurrence.equals(new Occurrence("weekly", 5, 2, null)));
+
+        // different end date -> returns false
+        assertFalse(occurrence.equals(new Occurrence("weekly", 5, 1, LocalDate.of(2019, 12, 31))));
+        assertTrue(new Occurrence("weekly", 5, 1, LocalDate.of(2019, 12, 31))
+                .equals(new Occurrence("weekly", 5, 1, LocalDate.of(2019, 12, 31))));
+
         // all fields different -> returns false
         Occurrence occurrenceAllDiffFields = new Occurrence("monthly", 4);
         assertFalse(occurrence.equals(occurrenceAllDiffFields));
@@ -0,0 +1,80 @@
+package thrift.model.clone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.model.transaction.Transaction;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class RecurringTransactionTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurringTransaction(null, new Occurrence("daily", 1)));
+        assertThrows(NullPointerException.class, () -> new RecurringTransaction(TypicalTransactions.LAKSA, null));
+    }
+
+    @Test
+    public void constructor_invalidOccurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Occurrence.OCCURRENCE_CONSTRAINTS, () ->
+                new RecurringTransaction(TypicalTransactions.LAKSA, new Occurrence("fortnightly", 1)));
+        assertThrows(IllegalArgumentException.class, RecurringTransaction.MESSAGE_NO_RECURRENCE, () ->
+                new RecurringTransaction(TypicalTransactions.LAKSA, new Occurrence("daily", 0)));
+    }
+
+    @Test
+    public void getTransactionsInMonth_onlyRecurrencesInMonth() {
+        RecurringTransaction weeklyLaksa = new RecurringTransaction(TypicalTransactions.LAKSA,
+                new Occurrence("weekly", Occurrence.MAX_OCCURRENCES));
+        List<Transaction> recurrences = weeklyLaksa.getTransactionsInMonth(YearMonth.of(1937, 4));
+        assertEquals(List.of(new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("03/04/1937").build(),
+                new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("10/04/1937").build(),
+                new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("17/04/1937").build(),
+                new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("24/04/1937").build()), recurrences);
+
+        // the transaction itself is not a recurrence
+        assertTrue(weeklyLaksa.getTransactionsInMonth(YearMonth.of(1937, 2)).isEmpty());
+        assertEquals(2, weeklyLaksa.getTransactionsInMonth(YearMonth.of(1937, 3)).size());
+
+        // recurrences stop after the number of occurrences
+        RecurringTransaction yearlyBursary = new RecurringTransaction(TypicalTransactions.BURSARY,
+                new Occurrence("yearly", 2));
+        assertEquals(List.of(new IncomeBuilder(TypicalTransactions.BURSARY).withDate("13/11/2013").build()),
+                yearlyBursary.getTransactionsBetween(LocalDate.of(2013, 1, 1), LocalDate.of(2020, 1, 1)));
+    }
+
+    @Test
+    public void equals() {
+        RecurringTransaction recurringTransaction = new RecurringTransaction(TypicalTransactions.LAKSA,
+                new Occurrence("weekly", 5));
+
+        // same values -> returns true
+        assertTrue(recurringTransaction.equals(new RecurringTransaction(TypicalTransactions.LAKSA,
+                new Occurrence("weekly", 5))));
+
+        // same object -> returns true
+        assertTrue(recurringTransaction.equals(recurringTransaction));
+
+        // null -> returns false
+        assertFalse(recurringTransaction.equals(null));
+
+        // different transaction -> returns false
+        assertFalse(recurringTransaction.equals(new RecurringTransaction(TypicalTransactions.BURSARY,
+                new Occurrence("weekly", 5))));
+
+        // different occurrence -> returns false
+        assertFalse(recurringTransaction.equals(new RecurringTransaction(TypicalTransactions.LAKSA,
+                new Occurrence("weekly", 6))));
+    }
+
+}
@@ -0,0 +1,60 @@
+package thrift.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag LUNCH = new Tag("Lunch");
+    private static final Tag WORK = new Tag("Work");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void of_equalTags_returnsSharedSet() {
+        TagSet tagSet = TagSet.of(Arrays.asList(LUNCH, WORK, LUNCH));
+
+        assertSame(tagSet, TagSet.of(new HashSet<>(Arrays.asList(new Tag("Work"), new Tag("Lunch")))));
+        assertSame(tagSet, TagSet.of(tagSet));
+        assertSame(TagSet.of(Collections.emptySet()), TagSet.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void setOperations_sameAsHashSet() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(LUNCH, WORK));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        assertEquals(2, tagSet.size());
+        assertTrue(tagSet.contains(new Tag("Lunch")));
+        assertFalse(tagSet.contains(new Tag("Dinner")));
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(hashSet.toString(), tagSet.toString());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Collections.singleton(LUNCH));
+
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(WORK));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(WORK));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+}
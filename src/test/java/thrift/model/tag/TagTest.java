@@ -1,5 +1,9 @@
 package thrift.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,10 +21,26 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void valueOf_sameName_returnsSharedTag() {
+        assertSame(Tag.valueOf("Lunch"), Tag.valueOf(new String("Lunch")));
+        assertNotSame(Tag.valueOf("Lunch"), Tag.valueOf("lunch"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.valueOf("Lunch Time"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("hawker centre")); // contains whitespace
+        assertFalse(Tag.isValidTagName("food!")); // contains non-alphanumeric characters
+        assertFalse(Tag.isValidTagName("caf\u00e9")); // contains non-ASCII letters
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("Food2019"));
     }
 
 }
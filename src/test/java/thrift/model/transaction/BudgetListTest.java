@@ -2,10 +2,14 @@ package thrift.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +46,41 @@ public class BudgetListTest {
         assertTrue(budgetList.getBudgetForMonthYear(now).isPresent());
     }
 
+    @Test
+    public void setBudget_sameMonth_replacesInPlace() {
+        Budget october = new Budget(monthOf(2019, Calendar.OCTOBER), new BudgetValue("100"));
+        Budget november = new Budget(monthOf(2019, Calendar.NOVEMBER), new BudgetValue("200"));
+        Budget newOctober = new Budget(monthOf(2019, Calendar.OCTOBER), new BudgetValue("300"));
+
+        assertFalse(budgetList.setBudget(october).isPresent());
+        assertFalse(budgetList.setBudget(november).isPresent());
+        assertEquals(october, budgetList.setBudget(newOctober).get());
+
+        List<Budget> budgets = new ArrayList<>();
+        budgetList.forEach(budgets::add);
+        assertEquals(Arrays.asList(newOctober, november), budgets);
+    }
+
+    @Test
+    public void getBudgetForMonthYear_manyYears_findsEachMonth() {
+        for (int year = 1990; year < 2030; year++) {
+            budgetList.setBudget(new Budget(monthOf(year, Calendar.JANUARY), new BudgetValue(String.valueOf(year))));
+        }
+
+        assertEquals(new BudgetValue("2019"),
+                budgetList.getBudgetForMonthYear(monthOf(2019, Calendar.JANUARY)).get().getBudgetValue());
+        assertFalse(budgetList.getBudgetForMonthYear(monthOf(2019, Calendar.FEBRUARY)).isPresent());
+        assertFalse(budgetList.getBudgetForMonthYear(monthOf(2030, Calendar.JANUARY)).isPresent());
+    }
+
+    @Test
+    public void removeBudget_differentBudgetForMonth_notRemoved() {
+        Budget budget = new Budget(monthOf(2019, Calendar.OCTOBER), new BudgetValue("100"));
+        budgetList.setBudget(budget);
+        budgetList.removeBudget(new Budget(monthOf(2019, Calendar.OCTOBER), new BudgetValue("200")));
+        assertEquals(budget, budgetList.getBudgetForMonthYear(monthOf(2019, Calendar.OCTOBER)).get());
+    }
+
     @Test
     public void removeBudget_success() {
         BudgetList expectedList = new BudgetList();
@@ -51,4 +90,11 @@ public class BudgetListTest {
         budgetList.removeBudget(budget);
         assertEquals(budgetList, expectedList);
     }
+
+    private static Calendar monthOf(int year, int month) {
+        Calendar monthYear = Calendar.getInstance();
+        monthYear.clear();
+        monthYear.set(year, month, 1);
+        return monthYear;
+    }
 }
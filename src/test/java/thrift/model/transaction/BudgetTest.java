@@ -33,6 +33,28 @@ public class BudgetTest {
         assertEquals(b1, b1);
     }
 
+    @Test
+    public void changeCalendar_budgetUnchanged() {
+        Calendar period = Calendar.getInstance();
+        period.set(2019, Calendar.OCTOBER, 1);
+        Budget budget = new Budget(period, new BudgetValue("123"));
+
+        period.set(Calendar.MONTH, Calendar.NOVEMBER);
+        budget.getBudgetDate().set(Calendar.MONTH, Calendar.DECEMBER);
+        assertEquals(Calendar.OCTOBER, budget.getBudgetDate().get(Calendar.MONTH));
+        assertEquals(2019 * 12 + Calendar.OCTOBER, budget.getMonthYearKey());
+    }
+
+    @Test
+    public void toMonthYear_sameAsParsedMonth() throws Exception {
+        Calendar parsed = Calendar.getInstance();
+        parsed.setTime(Budget.BUDGET_DATE_FORMAT.parse("10/2019"));
+        assertEquals(parsed, Budget.toMonthYear(Budget.toMonthYearKey(parsed)));
+
+        assertThrows(IllegalArgumentException.class, () -> Budget.toMonthYear(11));
+        assertThrows(IllegalArgumentException.class, () -> Budget.toMonthYear(10000 * 12));
+    }
+
     @Test
     public void equalsOnDifferent_returnsFalse() {
         Calendar now = Calendar.getInstance();
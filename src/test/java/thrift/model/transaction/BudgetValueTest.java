@@ -1,5 +1,6 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
@@ -38,4 +39,24 @@ public class BudgetValueTest {
         assertTrue(BudgetValue.isValidValue("100.10")); // 2 decimal points
         assertTrue(BudgetValue.isValidValue("0")); // 0 is valid for budget
     }
+
+    @Test
+    public void fromMinorUnits() {
+        assertThrows(IllegalArgumentException.class, () -> BudgetValue.fromMinorUnits(-1));
+        assertThrows(IllegalArgumentException.class, () -> BudgetValue.fromMinorUnits(100000000000L));
+
+        assertEquals(new BudgetValue("0"), BudgetValue.fromMinorUnits(0));
+        assertEquals(new BudgetValue("1234.5"), BudgetValue.fromMinorUnits(123450));
+    }
+
+    @Test
+    public void tryParse() {
+        assertThrows(NullPointerException.class, () -> BudgetValue.tryParse(null));
+
+        assertFalse(BudgetValue.tryParse("").isPresent());
+        assertFalse(BudgetValue.tryParse("1000000000").isPresent());
+
+        assertEquals(new BudgetValue("0"), BudgetValue.tryParse("0").get());
+        assertEquals(new BudgetValue("100.10"), BudgetValue.tryParse("100.1").get());
+    }
 }
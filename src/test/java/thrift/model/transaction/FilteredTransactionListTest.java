@@ -0,0 +1,74 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class FilteredTransactionListTest {
+
+    private final TransactionList transactionList = new TransactionList();
+    private final FilteredTransactionList filteredList =
+            new FilteredTransactionList(transactionList.asUnmodifiableObservableList());
+
+    {
+        transactionList.addListener(filteredList);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredList.add(TypicalTransactions.LAKSA));
+    }
+
+    @Test
+    public void showAll_listChanged_readsThroughWithRecurrencesLast() {
+        Expense recurrence = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("13/10/2019").build();
+        filteredList.setRecurrences(Collections.singletonList(recurrence));
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY, Index.fromZeroBased(0));
+
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA, recurrence),
+                filteredList);
+
+        transactionList.remove(TypicalTransactions.BURSARY);
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, recurrence), filteredList);
+    }
+
+    @Test
+    public void setFilter_listChanged_positionsLookedUpAgain() {
+        transactionList.setTransactions(TypicalTransactions.getTypicalTransaction());
+        Expense recurrence = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("13/10/2019").build();
+        filteredList.setRecurrences(Arrays.asList(recurrence, TypicalTransactions.BURSARY));
+        filteredList.setFilter(transaction -> transaction instanceof Income, () -> positionsOf(Income.class));
+
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.BURSARY), filteredList);
+
+        Income renamed = new IncomeBuilder(TypicalTransactions.BURSARY).withDescription("Scholarship").build();
+        transactionList.add(renamed, Index.fromZeroBased(0));
+        assertEquals(Arrays.asList(renamed, TypicalTransactions.BURSARY, TypicalTransactions.BURSARY),
+                filteredList);
+
+        filteredList.showAll();
+        assertEquals(transactionList.asUnmodifiableObservableList().size() + 2, filteredList.size());
+    }
+
+    private BitSet positionsOf(Class<? extends Transaction> type) {
+        BitSet positions = new BitSet();
+        for (int i = 0; i < transactionList.asUnmodifiableObservableList().size(); i++) {
+            if (type.isInstance(transactionList.asUnmodifiableObservableList().get(i))) {
+                positions.set(i);
+            }
+        }
+        return positions;
+    }
+
+}
@@ -0,0 +1,114 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.model.util.CurrencyUtil;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class MonthlyTotalsTest {
+
+    private static final YearMonth MARCH_1937 = YearMonth.of(1937, 3);
+    private static final YearMonth NOVEMBER_2011 = YearMonth.of(2011, 11);
+
+    private final TransactionList transactionList = new TransactionList();
+    private final MonthlyTotals monthlyTotals = transactionList.getMonthlyTotals();
+
+    @Test
+    public void getExpense_nullYearMonth_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> monthlyTotals.getExpense(null));
+    }
+
+    @Test
+    public void getIncome_nullYearMonth_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> monthlyTotals.getIncome(null));
+    }
+
+    @Test
+    public void getExpense_emptyMonth_returnsZero() {
+        assertEquals(0, monthlyTotals.getExpense(MARCH_1937));
+        assertEquals(0, monthlyTotals.getIncome(MARCH_1937));
+    }
+
+    @Test
+    public void add_transactions_totalsUpdated() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(new ExpenseBuilder().withValue("1.25").build());
+        transactionList.add(TypicalTransactions.BURSARY);
+
+        assertEquals(4.75, monthlyTotals.getExpense(MARCH_1937));
+        assertEquals(0, monthlyTotals.getIncome(MARCH_1937));
+        assertEquals(0, monthlyTotals.getExpense(NOVEMBER_2011));
+        assertEquals(500, monthlyTotals.getIncome(NOVEMBER_2011));
+    }
+
+    @Test
+    public void remove_transactions_totalsUpdated() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY);
+        transactionList.remove(TypicalTransactions.LAKSA);
+        transactionList.removeLast();
+
+        assertEquals(0, monthlyTotals.getExpense(MARCH_1937));
+        assertEquals(0, monthlyTotals.getIncome(NOVEMBER_2011));
+    }
+
+    @Test
+    public void setTransactionWithIndex_differentMonth_totalsMoved() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0),
+                new IncomeBuilder().withValue("20").withDate("01/11/2011").build());
+
+        assertEquals(0, monthlyTotals.getExpense(MARCH_1937));
+        assertEquals(20, monthlyTotals.getIncome(NOVEMBER_2011));
+    }
+
+    @Test
+    public void changeRates_transactionInOtherCurrency_totalsFollowRatesWithoutDrift() {
+        Expense usdExpense = new Expense(new Description("Laksa"), new Value("10", "USD"), new Remark(""),
+                new TransactionDate("01/03/1937"), new HashSet<>());
+        try {
+            CurrencyUtil.setCurrencyMap(Map.of("SGD", 1.0, "USD", 0.5));
+            transactionList.add(TypicalTransactions.LAKSA);
+            transactionList.add(usdExpense);
+            assertEquals(8.5, monthlyTotals.getExpense(MARCH_1937));
+
+            CurrencyUtil.setCurrencyMap(Map.of("SGD", 1.0, "USD", 0.25));
+            assertEquals(6, monthlyTotals.getExpense(MARCH_1937));
+
+            transactionList.remove(usdExpense);
+            assertEquals(3.5, monthlyTotals.getExpense(MARCH_1937));
+        } finally {
+            CurrencyUtil.setCurrencyMap(CurrencyUtil.getDefaultMap());
+        }
+    }
+
+    @Test
+    public void setTransactions_replacesTotals() {
+        transactionList.add(TypicalTransactions.BURSARY);
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.LAKSA));
+
+        assertEquals(7, monthlyTotals.getExpense(MARCH_1937));
+        assertEquals(0, monthlyTotals.getIncome(NOVEMBER_2011));
+    }
+
+    @Test
+    public void add_manySmallValues_totalExact() {
+        for (int i = 0; i < 1000; i++) {
+            transactionList.add(new ExpenseBuilder().withValue("0.10").build());
+        }
+
+        assertEquals(10000, monthlyTotals.getExpenseMinorUnits(MARCH_1937));
+        assertEquals(100, monthlyTotals.getExpense(MARCH_1937));
+    }
+}
@@ -0,0 +1,63 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchTermTest {
+
+    @Test
+    public void constructor_invalidText_throwsException() {
+        assertThrows(NullPointerException.class, () -> new SearchTerm(null, "laksa"));
+        assertThrows(NullPointerException.class, () -> new SearchTerm(SearchTerm.Type.WORD, null));
+        assertThrows(IllegalArgumentException.class, () -> new SearchTerm(SearchTerm.Type.WORD, ""));
+        assertThrows(IllegalArgumentException.class, () -> new SearchTerm(SearchTerm.Type.PREFIX, "penang laksa"));
+    }
+
+    @Test
+    public void getDistance_eachType() {
+        assertEquals(0, new SearchTerm(SearchTerm.Type.WORD, "LAKSA").getDistance("laksa"));
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.WORD, "laksa").getDistance("laksa1"));
+
+        assertEquals(3, new SearchTerm(SearchTerm.Type.PREFIX, "la").getDistance("laksa"));
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.PREFIX, "ak").getDistance("laksa"));
+
+        assertEquals(3, new SearchTerm(SearchTerm.Type.SUBSTRING, "ak").getDistance("laksa"));
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.SUBSTRING, "ka").getDistance("laksa"));
+
+        // up to one edit for short words
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.FUZZY, "laska").getDistance("laksa")); // two substitutions
+        assertEquals(1, new SearchTerm(SearchTerm.Type.FUZZY, "laks").getDistance("laksa"));
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.FUZZY, "lak").getDistance("laksa"));
+
+        // up to two edits for longer words
+        assertEquals(1, new SearchTerm(SearchTerm.Type.FUZZY, "chiken").getDistance("chicken"));
+        assertEquals(2, new SearchTerm(SearchTerm.Type.FUZZY, "chikin").getDistance("chicken"));
+        assertEquals(-1, new SearchTerm(SearchTerm.Type.FUZZY, "chukkin").getDistance("chicken"));
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, SearchTerm.getEditDistance("", "", 0));
+        assertEquals(3, SearchTerm.getEditDistance("", "abc", 3));
+        assertEquals(-1, SearchTerm.getEditDistance("", "abc", 2));
+        assertEquals(3, SearchTerm.getEditDistance("kitten", "sitting", 3));
+        assertEquals(-1, SearchTerm.getEditDistance("kitten", "sitting", 2));
+        assertEquals(2, SearchTerm.getEditDistance("abcdef", "bcdefa", 2));
+        assertEquals(1, SearchTerm.getEditDistance("laksa", "laksaa", 2));
+    }
+
+    @Test
+    public void equals() {
+        SearchTerm prefix = new SearchTerm(SearchTerm.Type.PREFIX, "Lak");
+
+        assertTrue(prefix.equals(new SearchTerm(SearchTerm.Type.PREFIX, "lak")));
+        assertFalse(prefix.equals(new SearchTerm(SearchTerm.Type.SUBSTRING, "lak")));
+        assertFalse(prefix.equals(new SearchTerm(SearchTerm.Type.PREFIX, "la")));
+        assertFalse(prefix.equals(null));
+    }
+
+}
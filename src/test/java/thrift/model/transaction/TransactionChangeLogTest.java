@@ -0,0 +1,104 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionChangeLogTest {
+
+    private final TransactionList transactionList = new TransactionList();
+    private final TransactionChangeLog changeLog = transactionList.getChangeLog();
+
+    {
+        changeLog.retainChangesFrom(0);
+    }
+
+    @Test
+    public void getChangesBetween_listChanged_changesLoggedInOrder() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY, Index.fromZeroBased(0));
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(1), TypicalTransactions.PENANG_LAKSA);
+        transactionList.remove(TypicalTransactions.BURSARY);
+
+        assertEquals(4, changeLog.getChangeCount());
+        assertEquals(Optional.of(Arrays.asList(
+                new TransactionListChange(0, 0, Collections.singletonList(TypicalTransactions.BURSARY)),
+                new TransactionListChange(1, 1, Collections.singletonList(TypicalTransactions.PENANG_LAKSA)),
+                new TransactionListChange(0, 1, Collections.emptyList()))),
+                changeLog.getChangesBetween(1, 4));
+        assertEquals(Optional.of(Collections.emptyList()), changeLog.getChangesBetween(4, 4));
+    }
+
+    @Test
+    public void getChangesBetween_changesNotLogged_returnsEmptyOptional() {
+        transactionList.add(TypicalTransactions.LAKSA);
+
+        assertFalse(changeLog.getChangesBetween(0, 2).isPresent());
+        assertFalse(changeLog.getChangesBetween(1, 0).isPresent());
+    }
+
+    @Test
+    public void getChangesBetween_notRetaining_changesOnlyCounted() {
+        TransactionList list = new TransactionList();
+        TransactionChangeLog countingLog = list.getChangeLog();
+        list.add(TypicalTransactions.LAKSA);
+        list.add(TypicalTransactions.BURSARY);
+
+        assertEquals(2, countingLog.getChangeCount());
+        assertFalse(countingLog.getChangesBetween(1, 2).isPresent());
+
+        countingLog.retainChangesFrom(2);
+        list.removeLast();
+        assertEquals(Optional.of(Collections.singletonList(new TransactionListChange(1, 1, Collections.emptyList()))),
+                countingLog.getChangesBetween(2, 3));
+    }
+
+    @Test
+    public void getChangesBetween_manyTransactionsAdded_changeOnlyCounted() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.setTransactions(Collections.nCopies(TransactionChangeLog.MAX_LOGGED_ADDITIONS + 1,
+                TypicalTransactions.LAKSA));
+        transactionList.removeLast();
+
+        assertEquals(3, changeLog.getChangeCount());
+        assertFalse(changeLog.getChangesBetween(0, 3).isPresent());
+        assertFalse(changeLog.getChangesBetween(1, 3).isPresent());
+        assertEquals(Optional.of(Collections.singletonList(new TransactionListChange(
+                TransactionChangeLog.MAX_LOGGED_ADDITIONS, 1, Collections.emptyList()))),
+                changeLog.getChangesBetween(2, 3));
+    }
+
+    @Test
+    public void retainChangesFrom_changesReplayed_earlierChangesDiscarded() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY);
+        changeLog.retainChangesFrom(1);
+
+        assertFalse(changeLog.getChangesBetween(0, 2).isPresent());
+        assertEquals(Optional.of(Collections.singletonList(new TransactionListChange(1, 0,
+                Collections.singletonList(TypicalTransactions.BURSARY)))), changeLog.getChangesBetween(1, 2));
+    }
+
+    @Test
+    public void getChangesBetween_earliestChangesDropped_returnsEmptyOptional() {
+        for (int i = 0; i <= TransactionChangeLog.MAX_RETAINED_CHANGES; i++) {
+            transactionList.add(TypicalTransactions.LAKSA);
+        }
+        long changeCount = TransactionChangeLog.MAX_RETAINED_CHANGES + 1;
+
+        assertEquals(changeCount, changeLog.getChangeCount());
+        assertFalse(changeLog.getChangesBetween(0, changeCount).isPresent());
+        assertEquals(Optional.of(Collections.singletonList(new TransactionListChange(
+                TransactionChangeLog.MAX_RETAINED_CHANGES, 0, Collections.singletonList(TypicalTransactions.LAKSA)))),
+                changeLog.getChangesBetween(changeCount - 1, changeCount));
+    }
+
+}
@@ -0,0 +1,85 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionDateIndexTest {
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void getTransactionsBetween_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.getTransactionsBetween(null, LocalDate.now()));
+        assertThrows(NullPointerException.class, () -> transactionList.getTransactionsBetween(LocalDate.now(), null));
+    }
+
+    @Test
+    public void getTransactionsBetween_startAfterEnd_returnsEmptyList() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsBetween(
+                LocalDate.of(1937, 3, 14), LocalDate.of(1937, 3, 12)));
+    }
+
+    @Test
+    public void getTransactionsBetween_inclusiveRange_returnsTransactionsOrderedByDate() {
+        transactionList.setTransactions(TypicalTransactions.getTypicalTransaction());
+
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY), transactionList.getTransactionsBetween(
+                        LocalDate.of(1937, 3, 13), LocalDate.of(2011, 11, 13)));
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA), transactionList.getTransactionsBetween(
+                LocalDate.of(1937, 3, 14), LocalDate.of(2011, 11, 12)));
+    }
+
+    @Test
+    public void getTransactionsInMonth_afterRemovalAndUpdate_indexUpdated() {
+        Expense laterLaksa = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("20/03/1937").build();
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(laterLaksa);
+        transactionList.add(TypicalTransactions.BURSARY);
+        YearMonth march1937 = YearMonth.of(1937, 3);
+
+        transactionList.remove(TypicalTransactions.LAKSA);
+        assertEquals(Arrays.asList(laterLaksa), transactionList.getTransactionsInMonth(march1937));
+
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0), TypicalTransactions.PENANG_LAKSA);
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsInMonth(march1937));
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA),
+                transactionList.getTransactionsInMonth(YearMonth.of(2010, 10)));
+    }
+
+    @Test
+    public void getTransactionsInMonth_equalTransactions_removesOnlyOne() {
+        Expense laksaCopy = new ExpenseBuilder(TypicalTransactions.LAKSA).build();
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(laksaCopy);
+
+        transactionList.removeLast();
+        assertEquals(1, transactionList.getTransactionsInMonth(YearMonth.of(1937, 3)).size());
+    }
+
+    @Test
+    public void getPositionsInMonth_sameTransactionTwice_allPositionsFound() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY);
+        transactionList.add(TypicalTransactions.LAKSA);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, transactionList.getPositionsInMonth(YearMonth.of(1937, 3)));
+        assertEquals(new BitSet(), transactionList.getPositionsInMonth(YearMonth.of(1937, 4)));
+    }
+}
@@ -1,9 +1,12 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class TransactionDateTest {
@@ -19,6 +22,16 @@ public class TransactionDateTest {
         assertThrows(IllegalArgumentException.class, () -> new TransactionDate(invalidValue));
     }
 
+    @Test
+    public void fromLocalDate_sameDayAsString_equal() {
+        assertThrows(NullPointerException.class, () -> TransactionDate.fromLocalDate(null));
+
+        TransactionDate fromLocalDate = TransactionDate.fromLocalDate(LocalDate.of(2000, 1, 10));
+        assertEquals(new TransactionDate("10/01/2000"), fromLocalDate);
+        assertEquals("10/01/2000", fromLocalDate.toString());
+        assertEquals(LocalDate.of(2000, 1, 10), fromLocalDate.getLocalDate());
+    }
+
     @Test
     public void isValidDate() {
         // null value
@@ -30,9 +43,48 @@ public class TransactionDateTest {
         assertFalse(TransactionDate.isValidDate("^")); // only non-numeric characters
         assertFalse(TransactionDate.isValidDate("35/01/2000")); //invalid day
         assertFalse(TransactionDate.isValidDate("10/13/2000")); // invalid month
+        assertFalse(TransactionDate.isValidDate("29/02/2019")); // not a leap year
+        assertFalse(TransactionDate.isValidDate("00/01/2000")); // zero day
+        assertFalse(TransactionDate.isValidDate("10/01/0000")); // year zero
+        assertFalse(TransactionDate.isValidDate("10-01-2000")); // wrong separator
+        assertFalse(TransactionDate.isValidDate("10 /01/2000")); // whitespace after a field
+        assertFalse(TransactionDate.isValidDate("10/01/")); // missing year
 
         // valid value
         assertTrue(TransactionDate.isValidDate("10/01/2000")); //proper date
+        assertTrue(TransactionDate.isValidDate("29/02/2020")); // leap day
+        assertTrue(TransactionDate.isValidDate("1/2/2000")); // single digit day and month
+        // accepted as by a strict SimpleDateFormat of dd/MM/yyyy
+        assertTrue(TransactionDate.isValidDate("10/01/20")); // short year
+        assertTrue(TransactionDate.isValidDate("010/01/12345")); // long day and year
+        assertTrue(TransactionDate.isValidDate(" 10/ 01/ 2000")); // whitespace before fields
+        assertTrue(TransactionDate.isValidDate("10/01/2000 ")); // trailing characters
+    }
+
+    @Test
+    public void tryParse() {
+        assertThrows(NullPointerException.class, () -> TransactionDate.tryParse(null));
+
+        assertFalse(TransactionDate.tryParse("").isPresent());
+        assertFalse(TransactionDate.tryParse("31/02/2019").isPresent());
+
+        assertEquals(new TransactionDate("01/02/2000"), TransactionDate.tryParse("1/2/2000").get());
+    }
+
+    @Test
+    public void toString_singleDigitDayAndMonth_asEntered() {
+        TransactionDate date = new TransactionDate("1/2/2000");
+        assertEquals("1/2/2000", date.toString());
+        assertEquals(new TransactionDate("01/02/2000"), date);
+        assertEquals(new TransactionDate("01/02/2000").hashCode(), date.hashCode());
+        assertEquals(LocalDate.of(2000, 2, 1), date.getLocalDate());
+        assertEquals("1/2/2000", TransactionDate.tryParse("1/2/2000").get().toString());
+    }
+
+    @Test
+    public void toString_fromLocalDate_formatted() {
+        assertEquals("01/02/0020", TransactionDate.fromLocalDate(LocalDate.of(20, 2, 1)).toString());
+        assertEquals("01/02/12345", TransactionDate.fromLocalDate(LocalDate.of(12345, 2, 1)).toString());
     }
 
 }
@@ -0,0 +1,62 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionIdentityIndexTest {
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void contains_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TransactionIdentityIndex().contains(null));
+    }
+
+    @Test
+    public void contains_sameIdentityDifferentFields_returnsTrue() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        Expense sameIdentity = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("01/01/2019")
+                .withRemark("Different remark").withTags("Dinner").build();
+        Income sameIdentityIncome = new IncomeBuilder().withDescription(ExpenseBuilder.DEFAULT_DESCRIPTION)
+                .withValue(ExpenseBuilder.DEFAULT_COST).build();
+
+        assertTrue(transactionList.contains(sameIdentity));
+        assertTrue(transactionList.contains(sameIdentityIncome));
+        assertFalse(transactionList.contains(new ExpenseBuilder(TypicalTransactions.LAKSA).withValue("3.51").build()));
+    }
+
+    @Test
+    public void contains_afterSetTransaction_indexUpdated() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.setTransaction(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY);
+        assertFalse(transactionList.contains(TypicalTransactions.LAKSA));
+        assertTrue(transactionList.contains(TypicalTransactions.BURSARY));
+
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0), TypicalTransactions.PENANG_LAKSA);
+        assertFalse(transactionList.contains(TypicalTransactions.BURSARY));
+        assertTrue(transactionList.contains(TypicalTransactions.PENANG_LAKSA));
+    }
+
+    @Test
+    public void contains_afterRemovals_indexUpdated() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                TypicalTransactions.LAKSA));
+
+        transactionList.removeLast();
+        assertTrue(transactionList.contains(TypicalTransactions.LAKSA));
+
+        transactionList.removeByIndex(Index.fromZeroBased(0));
+        assertFalse(transactionList.contains(TypicalTransactions.LAKSA));
+        assertTrue(transactionList.contains(TypicalTransactions.BURSARY));
+    }
+}
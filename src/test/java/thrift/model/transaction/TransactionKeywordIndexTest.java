@@ -0,0 +1,84 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionKeywordIndexTest {
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void getTransactionsContainingAnyWord_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TransactionKeywordIndex()
+                .getTransactionsContainingAnyWord(null));
+    }
+
+    @Test
+    public void getTransactionsContainingAnyWord_descriptionOrRemark_caseInsensitiveUnion() {
+        transactionList.setTransactions(TypicalTransactions.getTypicalTransaction());
+
+        assertEquals(new HashSet<>(Arrays.asList(TypicalTransactions.PENANG_LAKSA)),
+                transactionList.getTransactionsContainingAnyWord(Arrays.asList("pEnAnG")));
+        assertEquals(new HashSet<>(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY)),
+                transactionList.getTransactionsContainingAnyWord(Arrays.asList("LAKSA", "bursary")));
+
+        // remark words are indexed too
+        assertEquals(new HashSet<>(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA)),
+                transactionList.getTransactionsContainingAnyWord(Arrays.asList("best")));
+
+        // only whole words match, and blank words match nothing
+        assertEquals(Collections.emptySet(), transactionList.getTransactionsContainingAnyWord(
+                Arrays.asList("Laks", "", " ")));
+    }
+
+    @Test
+    public void getTransactionsContainingAnyWord_afterChanges_indexUpdated() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                TypicalTransactions.LAKSA));
+
+        transactionList.removeLast();
+        assertEquals(new HashSet<>(Arrays.asList(TypicalTransactions.LAKSA)),
+                transactionList.getTransactionsContainingAnyWord(Arrays.asList("laksa")));
+
+        Expense renamed = new ExpenseBuilder(TypicalTransactions.LAKSA).withDescription("Mee Goreng")
+                .withRemark("Spicy").build();
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0), renamed);
+        assertEquals(Collections.emptySet(), transactionList.getTransactionsContainingAnyWord(
+                Arrays.asList("laksa")));
+        assertEquals(new HashSet<>(Arrays.asList(renamed)), transactionList.getTransactionsContainingAnyWord(
+                Arrays.asList("goreng")));
+
+        transactionList.removeRange(0, 2);
+        assertEquals(Collections.emptySet(), transactionList.getTransactionsContainingAnyWord(
+                Arrays.asList("goreng", "bursary")));
+    }
+
+    @Test
+    public void getPositionsContainingAnyWord_equalTransactions_eachPositionFound() {
+        Expense laksaCopy = new ExpenseBuilder(TypicalTransactions.LAKSA).build();
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                laksaCopy));
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, transactionList.getPositionsContainingAnyWord(Arrays.asList("LAKSA")));
+
+        transactionList.remove(TypicalTransactions.LAKSA);
+        expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, transactionList.getPositionsContainingAnyWord(Arrays.asList("laksa")));
+    }
+
+}
@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import thrift.commons.core.index.Index;
 import thrift.logic.commands.CommandTestUtil;
 import thrift.model.transaction.exceptions.TransactionNotFoundException;
@@ -171,4 +173,69 @@ public class TransactionListTest {
 
         assertTrue(indexFound.isEmpty());
     }
+
+    @Test
+    public void addAll_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.addAll(
+                Arrays.asList(TypicalTransactions.LAKSA, null)));
+    }
+
+    @Test
+    public void addAll_manyTransactions_singleChange() {
+        transactionList.add(TypicalTransactions.BURSARY);
+        int[] changeCount = {0};
+        transactionList.asUnmodifiableObservableList().addListener((ListChangeListener<Transaction>) change ->
+                changeCount[0]++);
+
+        transactionList.addAll(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA), transactionList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(Index.fromZeroBased(2)), transactionList.getIndex(TypicalTransactions.PENANG_LAKSA));
+    }
+
+    @Test
+    public void removeRange_invalidRange_throwsIndexOutOfBoundsException() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        assertThrows(IndexOutOfBoundsException.class, () -> transactionList.removeRange(0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> transactionList.removeRange(1, 0));
+    }
+
+    @Test
+    public void removeRange_manyTransactions_singleChange() {
+        transactionList.addAll(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA));
+        int[] changeCount = {0};
+        transactionList.asUnmodifiableObservableList().addListener((ListChangeListener<Transaction>) change ->
+                changeCount[0]++);
+
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA),
+                transactionList.removeRange(1, 3));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Collections.singletonList(TypicalTransactions.BURSARY),
+                transactionList.asUnmodifiableObservableList());
+        assertFalse(transactionList.contains(TypicalTransactions.LAKSA));
+
+        // Removing nothing does not notify the listeners
+        assertTrue(transactionList.removeRange(1, 1).isEmpty());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void replaceAll_operator_replacesEachTransactionInSingleChange() {
+        transactionList.addAll(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA));
+        int[] changeCount = {0};
+        transactionList.asUnmodifiableObservableList().addListener((ListChangeListener<Transaction>) change ->
+                changeCount[0]++);
+
+        transactionList.replaceAll(transaction -> transaction == TypicalTransactions.LAKSA
+                ? TypicalTransactions.PENANG_LAKSA
+                : transaction);
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.PENANG_LAKSA),
+                transactionList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(Index.fromZeroBased(1)), transactionList.getIndex(TypicalTransactions.PENANG_LAKSA));
+
+        assertThrows(NullPointerException.class, () -> transactionList.replaceAll(transaction -> null));
+    }
 }
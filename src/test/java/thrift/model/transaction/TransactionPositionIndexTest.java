@@ -0,0 +1,68 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionPositionIndexTest {
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void indexOf_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.getIndex(null));
+    }
+
+    @Test
+    public void indexOf_equalButDifferentReference_returnsEmpty() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        assertEquals(Optional.empty(), transactionList.getIndex(new ExpenseBuilder(TypicalTransactions.LAKSA).build()));
+    }
+
+    @Test
+    public void indexOf_afterInsertionsAndRemovals_returnsCurrentPositions() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transactions.add(new ExpenseBuilder().withValue(String.valueOf(i + 1)).build());
+        }
+        transactionList.setTransactions(transactions);
+
+        transactionList.removeByIndex(Index.fromZeroBased(2));
+        transactionList.remove(transactions.get(7));
+        transactionList.add(transactions.get(2), Index.fromZeroBased(0));
+        transactionList.removeLast();
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(4), TypicalTransactions.BURSARY);
+
+        List<Transaction> expected = Arrays.asList(transactions.get(2), transactions.get(0), transactions.get(1),
+                transactions.get(3), TypicalTransactions.BURSARY, transactions.get(5), transactions.get(6),
+                transactions.get(8));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(Optional.of(Index.fromZeroBased(i)), transactionList.getIndex(expected.get(i)));
+        }
+        assertEquals(Optional.empty(), transactionList.getIndex(transactions.get(4)));
+        assertEquals(Optional.empty(), transactionList.getIndex(transactions.get(9)));
+    }
+
+    @Test
+    public void indexOf_sameReferenceTwice_returnsRemainingPosition() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                TypicalTransactions.LAKSA));
+
+        transactionList.removeByIndex(Index.fromZeroBased(0));
+        assertEquals(Optional.of(Index.fromZeroBased(1)), transactionList.getIndex(TypicalTransactions.LAKSA));
+
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(1), TypicalTransactions.PENANG_LAKSA);
+        assertEquals(Optional.empty(), transactionList.getIndex(TypicalTransactions.LAKSA));
+        assertEquals(Optional.of(Index.fromZeroBased(1)), transactionList.getIndex(TypicalTransactions.PENANG_LAKSA));
+    }
+}
@@ -0,0 +1,89 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.model.tag.Tag;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+
+public class TransactionTagIndexTest {
+
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Laksa").withTags("Lunch").build();
+    private static final Expense WORK_LUNCH = new ExpenseBuilder().withDescription("Sandwich")
+            .withTags("Lunch", "Work").build();
+    private static final Expense DINNER = new ExpenseBuilder().withDescription("Steak").withTags("Dinner").build();
+    private static final Income SALARY = new IncomeBuilder().withDescription("Salary").withTags("Work").build();
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void getTransactionsWithTags_booleanCombinations() {
+        transactionList.setTransactions(Arrays.asList(LUNCH, WORK_LUNCH, DINNER, SALARY));
+
+        assertEquals(Arrays.asList(LUNCH, WORK_LUNCH), filter(clause("Lunch")));
+        assertEquals(Arrays.asList(WORK_LUNCH), filter(clause("Lunch", "Work")));
+        assertEquals(Arrays.asList(LUNCH, DINNER), filter(clauseExcluding("Lunch", "Work"), clause("Dinner")));
+        assertEquals(Arrays.asList(LUNCH, DINNER), filter(new TransactionHasTagsPredicate.Clause(
+                Collections.emptySet(), Collections.singleton(new Tag("Work")))));
+        assertEquals(Collections.emptyList(), filter(clause("Brunch")));
+    }
+
+    @Test
+    public void getTransactionsWithTags_afterChanges_indexUpdated() {
+        transactionList.setTransactions(Arrays.asList(LUNCH, WORK_LUNCH, DINNER));
+
+        // updates in place and appends
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(2), SALARY);
+        transactionList.add(DINNER);
+        assertEquals(Arrays.asList(WORK_LUNCH, SALARY), filter(clause("Work")));
+        assertEquals(Arrays.asList(DINNER), filter(clause("Dinner")));
+
+        // removals that shift the positions of later transactions
+        transactionList.removeByIndex(Index.fromZeroBased(0));
+        assertEquals(Arrays.asList(WORK_LUNCH), filter(clause("Lunch")));
+        transactionList.add(LUNCH, Index.fromZeroBased(0));
+        assertEquals(Arrays.asList(LUNCH, WORK_LUNCH), filter(clause("Lunch")));
+        assertEquals(Arrays.asList(DINNER), filter(clause("Dinner")));
+
+        transactionList.removeLast();
+        assertEquals(Collections.emptyList(), filter(clause("Dinner")));
+        transactionList.removeRange(0, 2);
+        assertEquals(Arrays.asList(SALARY), filter(clause("Work")));
+        assertEquals(Collections.emptyList(), filter(clause("Lunch")));
+    }
+
+    private List<Transaction> filter(TransactionHasTagsPredicate.Clause... clauses) {
+        TransactionHasTagsPredicate predicate = new TransactionHasTagsPredicate(Arrays.asList(clauses));
+        List<Transaction> found = transactionList.getTransactionsWithTags(predicate);
+        for (Transaction transaction : transactionList) {
+            assertEquals(predicate.test(transaction), found.contains(transaction));
+        }
+        return found;
+    }
+
+    private static TransactionHasTagsPredicate.Clause clause(String... requiredTags) {
+        return new TransactionHasTagsPredicate.Clause(toTags(requiredTags), Collections.emptySet());
+    }
+
+    private static TransactionHasTagsPredicate.Clause clauseExcluding(String requiredTag, String excludedTag) {
+        return new TransactionHasTagsPredicate.Clause(toTags(requiredTag), toTags(excludedTag));
+    }
+
+    private static Set<Tag> toTags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+}
@@ -0,0 +1,101 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class TransactionTrigramIndexTest {
+
+    private final TransactionList transactionList = new TransactionList();
+
+    @Test
+    public void searchTransactions_nullTerms_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.searchTransactions(null));
+    }
+
+    @Test
+    public void searchTransactions_prefixAndSubstring_rankedByDistance() {
+        transactionList.setTransactions(TypicalTransactions.getTypicalTransaction());
+
+        // "laksa" in the description and remark of LAKSA is closer than "laksa1" of PENANG_LAKSA
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA),
+                search(new SearchTerm(SearchTerm.Type.PREFIX, "LAK")));
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA),
+                search(new SearchTerm(SearchTerm.Type.SUBSTRING, "nan")));
+
+        // substrings shorter than a trigram
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA),
+                search(new SearchTerm(SearchTerm.Type.SUBSTRING, "ks")));
+
+        // tag names are searched too
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY),
+                search(new SearchTerm(SearchTerm.Type.PREFIX, "awa")));
+        assertEquals(Collections.emptyList(), search(new SearchTerm(SearchTerm.Type.PREFIX, "aks")));
+    }
+
+    @Test
+    public void searchTransactions_fuzzy_rankedByEdits() {
+        Expense chicken = new ExpenseBuilder().withDescription("Chicken rice").withRemark("Spicy").withTags().build();
+        Expense kitchen = new ExpenseBuilder().withDescription("Kitchen towels").withRemark("Spicy").withTags()
+                .build();
+        transactionList.setTransactions(Arrays.asList(kitchen, chicken, TypicalTransactions.LAKSA));
+
+        assertEquals(Arrays.asList(chicken), search(new SearchTerm(SearchTerm.Type.FUZZY, "chiken")));
+        assertEquals(Arrays.asList(kitchen, chicken), search(new SearchTerm(SearchTerm.Type.FUZZY, "chickn"),
+                new SearchTerm(SearchTerm.Type.FUZZY, "kitchn")));
+
+        // closer matches rank ahead of the order of the list
+        assertEquals(Arrays.asList(chicken, kitchen), search(new SearchTerm(SearchTerm.Type.FUZZY, "chickn"),
+                new SearchTerm(SearchTerm.Type.PREFIX, "kit")));
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA), search(new SearchTerm(SearchTerm.Type.FUZZY, "lasa")));
+    }
+
+    @Test
+    public void searchTransactions_afterChanges_indexUpdated() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                TypicalTransactions.LAKSA));
+        SearchTerm award = new SearchTerm(SearchTerm.Type.FUZZY, "awrd");
+
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY), search(award));
+        transactionList.remove(TypicalTransactions.BURSARY);
+        assertEquals(Collections.emptyList(), search(award));
+
+        transactionList.removeLast();
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA), search(new SearchTerm(SearchTerm.Type.WORD, "lunch")));
+        transactionList.removeLast();
+        assertEquals(Collections.emptyList(), search(new SearchTerm(SearchTerm.Type.WORD, "lunch")));
+    }
+
+    @Test
+    public void getPositionsMatching_equalTransactions_eachPositionFound() {
+        Expense renamed = new ExpenseBuilder(TypicalTransactions.LAKSA).withDescription("Noodles").withRemark("Soup")
+                .build();
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY,
+                new ExpenseBuilder(TypicalTransactions.LAKSA).build(), renamed));
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+
+        assertEquals(expected, transactionList.getPositionsMatching(Arrays.asList(
+                new SearchTerm(SearchTerm.Type.PREFIX, "lak"))));
+
+        // the renamed transaction only matches by its tag
+        expected.set(3);
+        assertEquals(expected, transactionList.getPositionsMatching(Arrays.asList(
+                new SearchTerm(SearchTerm.Type.FUZZY, "lnch"))));
+    }
+
+    private List<Transaction> search(SearchTerm... terms) {
+        return transactionList.searchTransactions(Arrays.asList(terms));
+    }
+
+}
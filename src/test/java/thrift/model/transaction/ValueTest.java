@@ -1,5 +1,6 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
@@ -45,10 +46,55 @@ public class ValueTest {
         assertFalse(Value.isValidValue("1a")); // contains non-numeric characters
         assertFalse(Value.isValidValue("10.100")); // contains more than 2 decimal digits
         assertFalse(Value.isValidValue(".10")); // not whole number
+        assertFalse(Value.isValidValue("0.00")); // zero
+        assertFalse(Value.isValidValue("1000000000")); // 1 billion
+        assertFalse(Value.isValidValue("1.2.3")); // more than one decimal point
+        assertFalse(Value.isValidValue("-1")); // negative
+        assertFalse(Value.isValidValue("\u0661")); // non-ASCII digit
 
         // valid value
         assertTrue(Value.isValidValue("100")); // integer only
         assertTrue(Value.isValidValue("100.1")); // 1 decimal point
         assertTrue(Value.isValidValue("100.10")); // 2 decimal points
+        assertTrue(Value.isValidValue("0.01")); // smallest amount
+        assertTrue(Value.isValidValue("1.")); // decimal point without decimal digits
+    }
+
+    @Test
+    public void getMonetaryMinorUnits() {
+        assertEquals(100, new Value("1").getMonetaryMinorUnits());
+        assertEquals(150, new Value("1.5").getMonetaryMinorUnits());
+        assertEquals(105, new Value("1.05").getMonetaryMinorUnits());
+        assertEquals(100, new Value("1.").getMonetaryMinorUnits());
+        assertEquals(99999999999L, new Value("999999999.99").getMonetaryMinorUnits());
+        assertEquals(new Value("1.5"), new Value("1.50"));
+    }
+
+    @Test
+    public void tryParse() {
+        assertThrows(NullPointerException.class, () -> Value.tryParse(null));
+
+        assertFalse(Value.tryParse("").isPresent());
+        assertFalse(Value.tryParse("0").isPresent());
+        assertFalse(Value.tryParse("10.100").isPresent());
+
+        assertEquals(new Value("1234.5"), Value.tryParse("1234.5").get());
+        assertEquals(Value.DEFAULT_CURRENCY, Value.tryParse("7").get().currency);
+    }
+
+    @Test
+    public void fromMinorUnits() {
+        assertThrows(IllegalArgumentException.class, () -> Value.fromMinorUnits(0));
+        assertThrows(IllegalArgumentException.class, () -> Value.fromMinorUnits(100000000000L));
+
+        assertEquals(new Value("0.01"), Value.fromMinorUnits(1));
+        assertEquals(new Value("1234.5"), Value.fromMinorUnits(123450));
+    }
+
+    @Test
+    public void getUnformattedString() {
+        assertEquals("0.05", new Value("0.05").getUnformattedString());
+        assertEquals("1234.50", new Value("1234.5").getUnformattedString());
+        assertEquals("7.00", new Value("7").getUnformattedString());
     }
 }
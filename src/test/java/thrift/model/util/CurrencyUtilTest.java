@@ -1,6 +1,8 @@
 package thrift.model.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Map;
@@ -38,4 +40,68 @@ public class CurrencyUtilTest {
         double conversionResult = CurrencyUtil.convertToDefaultCurrency(currencyMap, conversionAmount, "ABC");
         assertEquals(conversionAmount, conversionResult);
     }
+
+    @Test
+    public void getCurrencyId_differentCase_sameId() {
+        assertEquals(CurrencyUtil.getCurrencyId("USD"), CurrencyUtil.getCurrencyId("usd"));
+        assertEquals(CurrencyUtil.getCurrencyId("USD"), CurrencyUtil.getCurrencyId("uSd"));
+        assertFalse(CurrencyUtil.getCurrencyId("USD") == CurrencyUtil.getCurrencyId("MYR"));
+    }
+
+    @Test
+    public void getCurrencyId_unknownCurrency_unknownIdNotAssigned() {
+        assertEquals(CurrencyUtil.UNKNOWN_CURRENCY_ID, CurrencyUtil.getCurrencyId("ABC"));
+        assertEquals(CurrencyUtil.UNKNOWN_CURRENCY_ID, CurrencyUtil.getCurrencyId("abc"));
+        assertEquals(conversionAmount, CurrencyUtil.convert(conversionAmount,
+                CurrencyUtil.getCurrencyId("ABC"), CurrencyUtil.getCurrencyId("SGD")));
+    }
+
+    @Test
+    public void setCurrencyMap_lowerCaseCode_sameIdAsUpperCase() {
+        try {
+            CurrencyUtil.setCurrencyMap(Map.of("SGD", 1.0, "xts", 2.0));
+            assertEquals(CurrencyUtil.getCurrencyId("XTS"), CurrencyUtil.getCurrencyId("xts"));
+            assertEquals(200, CurrencyUtil.convertFromDefaultCurrency(conversionAmount,
+                    CurrencyUtil.getCurrencyId("XTS")));
+        } finally {
+            CurrencyUtil.setCurrencyMap(CurrencyUtil.getDefaultMap());
+        }
+    }
+
+    @Test
+    public void setCurrencyMap_newRates_usedByIdConversions() {
+        int usdId = CurrencyUtil.getCurrencyId("usd");
+        int jpyId = CurrencyUtil.getCurrencyId("JPY");
+        try {
+            CurrencyUtil.setCurrencyMap(Map.of("SGD", 1.0, "USD", 0.5));
+            assertEquals(50, CurrencyUtil.convertFromDefaultCurrency(conversionAmount, usdId));
+            assertEquals(200, CurrencyUtil.convertToDefaultCurrency(conversionAmount, usdId));
+            // Currencies missing from the new mappings fall back to the default mappings
+            assertEquals(conversionAmount * CurrencyUtil.getDefaultMap().get("JPY"),
+                    CurrencyUtil.convertFromDefaultCurrency(conversionAmount, jpyId));
+            assertEquals(CurrencyUtil.convert(CurrencyUtil.getCurrencyMap(), conversionAmount, "usd", "JPY"),
+                    CurrencyUtil.convert(conversionAmount, usdId, jpyId));
+            assertTrue(CurrencyUtil.isKnownCurrency("jpy"));
+            assertFalse(CurrencyUtil.isKnownCurrency("ABC"));
+        } finally {
+            CurrencyUtil.setCurrencyMap(CurrencyUtil.getDefaultMap());
+        }
+    }
+
+    @Test
+    public void convert_manyValuesAndCurrencies_sameAsSingleConversions() {
+        double[] values = {0.01, 1, 12.5, 999999999.99};
+        int usdId = CurrencyUtil.getCurrencyId("USD");
+        int[] targetIds = {CurrencyUtil.getCurrencyId("SGD"), CurrencyUtil.getCurrencyId("MYR"),
+            CurrencyUtil.getCurrencyId("JPY")};
+
+        double[][] convertedValues = CurrencyUtil.convert(values, usdId, targetIds);
+
+        assertEquals(targetIds.length, convertedValues.length);
+        for (int target = 0; target < targetIds.length; target++) {
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(CurrencyUtil.convert(values[i], usdId, targetIds[target]), convertedValues[target][i]);
+            }
+        }
+    }
 }
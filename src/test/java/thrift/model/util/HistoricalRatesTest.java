@@ -0,0 +1,63 @@
+package thrift.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.model.transaction.Value;
+
+public class HistoricalRatesTest {
+
+    private static final LocalDate OCT_2019 = LocalDate.of(2019, 10, 1);
+    private static final LocalDate NOV_2019 = LocalDate.of(2019, 11, 1);
+
+    private final HistoricalRates historicalRates = new HistoricalRates(Map.of(
+            "usd", Map.of(NOV_2019, 0.8, OCT_2019, 0.7),
+            "MYR", Map.of(NOV_2019, 3.0)));
+    private final int usdId = CurrencyUtil.getCurrencyId("USD");
+    private final int myrId = CurrencyUtil.getCurrencyId("MYR");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HistoricalRates(null));
+    }
+
+    @Test
+    public void getRate_dateOnOrAfterRate_latestRateInEffect() {
+        assertEquals(0.7, historicalRates.getRate(usdId, OCT_2019));
+        assertEquals(0.7, historicalRates.getRate(usdId, LocalDate.of(2019, 10, 31)));
+        assertEquals(0.8, historicalRates.getRate(usdId, NOV_2019));
+        assertEquals(0.8, historicalRates.getRate(usdId, LocalDate.of(2030, 1, 1)));
+        assertEquals(3.0, historicalRates.getRate(myrId, LocalDate.of(2019, 12, 25)));
+    }
+
+    @Test
+    public void getRate_noRateInEffect_notANumber() {
+        assertTrue(Double.isNaN(historicalRates.getRate(usdId, LocalDate.of(2019, 9, 30))));
+        assertTrue(Double.isNaN(historicalRates.getRate(myrId, OCT_2019)));
+        assertTrue(Double.isNaN(historicalRates.getRate(CurrencyUtil.getCurrencyId("EUR"), NOV_2019)));
+        assertTrue(Double.isNaN(HistoricalRates.EMPTY.getRate(usdId, NOV_2019)));
+    }
+
+    @Test
+    public void getMonetaryValue_historicalRatesSet_convertedAtDate() {
+        Value value = new Value("10", "USD");
+        try {
+            CurrencyUtil.setHistoricalRates(historicalRates);
+            assertEquals(7, value.getMonetaryValue(OCT_2019), 1e-9);
+            assertEquals(800, value.getMonetaryMinorUnits(NOV_2019));
+            assertEquals("7.00", value.getUnformattedString(OCT_2019));
+            assertEquals("8.00", value.getFormattedString(NOV_2019));
+            // Falls back to the current rate before the first historical rate
+            assertEquals(value.getMonetaryValue(), value.getMonetaryValue(LocalDate.of(2000, 1, 1)));
+        } finally {
+            CurrencyUtil.setHistoricalRates(HistoricalRates.EMPTY);
+        }
+    }
+
+}
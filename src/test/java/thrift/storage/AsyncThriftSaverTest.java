@@ -0,0 +1,112 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.testutil.TypicalTransactions;
+
+public class AsyncThriftSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Test
+    public void save_nullThrift_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncThriftSaver(new ThriftStorageStub()).save(null));
+    }
+
+    @Test
+    public void save_burstWhileWriting_onlyLatestWritten() throws Exception {
+        ThriftStorageStub storage = new ThriftStorageStub();
+        AsyncThriftSaver saver = new AsyncThriftSaver(storage);
+        Thrift first = new Thrift();
+        Thrift last = TypicalTransactions.getTypicalThrift();
+
+        saver.save(first);
+        storage.writeStarted.await();
+        saver.save(new Thrift());
+        saver.save(last);
+        storage.releaseWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(last, storage.saved.get(1));
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedAndThrown() {
+        ThriftStorageStub storage = new ThriftStorageStub();
+        storage.releaseWrite.countDown();
+        storage.failure = DUMMY_IO_EXCEPTION;
+        AsyncThriftSaver saver = new AsyncThriftSaver(storage);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new Thrift());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void flush_nothingSaved_returnsImmediately() throws Exception {
+        new AsyncThriftSaver(new ThriftStorageStub()).flush();
+    }
+
+    /**
+     * A {@code ThriftStorage} stub that records the saved THRIFTs, and holds the first save until it is released.
+     */
+    private static class ThriftStorageStub implements ThriftStorage {
+        private final List<ReadOnlyThrift> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+        private IOException failure;
+
+        @Override
+        public Path getThriftFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyThrift> readThrift() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyThrift> readThrift(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveThrift(ReadOnlyThrift thrift) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(thrift);
+        }
+
+        @Override
+        public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+            saveThrift(thrift);
+        }
+    }
+}
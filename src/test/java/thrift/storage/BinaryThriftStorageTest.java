@@ -0,0 +1,150 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Description;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Remark;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+import thrift.model.transaction.Value;
+import thrift.model.util.CurrencyUtil;
+import thrift.model.util.HistoricalRates;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class BinaryThriftStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readThrift_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryThriftStorage(testFolder.resolve("thrift.bin"))
+                .readThrift(null));
+    }
+
+    @Test
+    public void readThrift_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryThriftStorage(testFolder.resolve("thrift.bin")).readThrift().isPresent());
+    }
+
+    @Test
+    public void readThrift_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        new JsonThriftStorage(filePath).saveThrift(TypicalTransactions.getTypicalThrift());
+        assertThrows(DataConversionException.class, () -> new BinaryThriftStorage(filePath).readThrift());
+    }
+
+    @Test
+    public void readThrift_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        new BinaryThriftStorage(filePath).saveThrift(TypicalTransactions.getTypicalThrift());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> new BinaryThriftStorage(filePath).readThrift());
+    }
+
+    @Test
+    public void readAndSaveThrift_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        original.addTransaction(new ExpenseBuilder().withDescription("Nasi lemak").withValue("0.05")
+                .withRemark("").withDate("29/02/2020").withTags("Lunch", "Cheap").build());
+        original.addTransaction(new IncomeBuilder().withDescription("Nasi lemak").withValue("999999999.99")
+                .withTags("Lunch").build());
+        original.addRecurringTransaction(new RecurringTransaction(TypicalTransactions.LAKSA,
+                new Occurrence("weekly", 5, 2, null)));
+        original.addRecurringTransaction(new RecurringTransaction(TypicalTransactions.BURSARY,
+                new Occurrence("monthly", Occurrence.MAX_OCCURRENCES, 1, LocalDate.of(2020, 2, 29))));
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath);
+
+        binaryThriftStorage.saveThrift(original);
+        ReadOnlyThrift readBack = binaryThriftStorage.readThrift().get();
+        assertEquals(original, new Thrift(readBack));
+
+        // Same data as written by the json storage
+        Path jsonFilePath = testFolder.resolve("thrift.json");
+        new JsonThriftStorage(jsonFilePath).saveThrift(original);
+        assertEquals(new JsonThriftStorage(jsonFilePath).readThrift().get(), readBack);
+
+        original.removeTransaction(TypicalTransactions.PENANG_LAKSA);
+        binaryThriftStorage.saveThrift(original, filePath);
+        assertEquals(original, new Thrift(binaryThriftStorage.readThrift(filePath).get()));
+    }
+
+    @Test
+    public void readThrift_firstFormatVersion_noRecurringTransactions() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        ByteBuffer firstVersionFile = ByteBuffer.allocate(18);
+        firstVersionFile.putInt(BinaryThriftStorage.MAGIC_NUMBER).putShort((short) 1);
+        firstVersionFile.putInt(0).putInt(0).putInt(0); // no strings, transactions or budgets
+        Files.write(filePath, firstVersionFile.array());
+
+        assertEquals(new Thrift(), new Thrift(new BinaryThriftStorage(filePath).readThrift().get()));
+    }
+
+    @Test
+    public void readThrift_repeatedFields_decodedOnce() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        Thrift original = new Thrift();
+        original.addTransaction(new ExpenseBuilder().withDescription("Laksa").withValue("4.50")
+                .withDate("13/10/2019").withTags("Lunch").build());
+        original.addTransaction(new IncomeBuilder().withDescription("Laksa").withValue("4.50")
+                .withDate("13/10/2019").withTags("Lunch").build());
+        new BinaryThriftStorage(filePath).saveThrift(original);
+
+        ReadOnlyThrift readBack = new BinaryThriftStorage(filePath).readThrift().get();
+        Transaction first = readBack.getTransactionList().get(0);
+        Transaction second = readBack.getTransactionList().get(1);
+        assertSame(first.getDescription(), second.getDescription());
+        assertSame(first.getValue(), second.getValue());
+        assertSame(first.getDate(), second.getDate());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void saveThrift_otherCurrency_convertedAtTransactionDate() throws Exception {
+        Path filePath = testFolder.resolve("thrift.bin");
+        Thrift original = new Thrift();
+        original.addTransaction(new Expense(new Description("Laksa"), new Value("10", "USD"), new Remark(""),
+                new TransactionDate("13/10/2019"), new HashSet<>()));
+        try {
+            CurrencyUtil.setHistoricalRates(new HistoricalRates(Map.of("USD", Map.of(LocalDate.of(2019, 10, 1), 0.7))));
+            new BinaryThriftStorage(filePath).saveThrift(original);
+        } finally {
+            CurrencyUtil.setHistoricalRates(HistoricalRates.EMPTY);
+        }
+
+        assertEquals(Value.fromMinorUnits(700),
+                new BinaryThriftStorage(filePath).readThrift().get().getTransactionList().get(0).getValue());
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "thrift.bin"), BinaryThriftStorage.toBinaryFilePath(Paths.get("data",
+                "thrift.json")));
+        assertEquals(Paths.get("thrift.bin"), BinaryThriftStorage.toBinaryFilePath(Paths.get("thrift")));
+    }
+}
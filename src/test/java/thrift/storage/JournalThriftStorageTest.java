@@ -0,0 +1,192 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.Thrift;
+import thrift.model.ThriftSnapshot;
+import thrift.model.clone.Occurrence;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetValue;
+import thrift.model.transaction.TransactionChangeLog;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class JournalThriftStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readThrift_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalThriftStorage(testFolder.resolve("thrift.json"))
+                .readThrift(null));
+    }
+
+    @Test
+    public void readThrift_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalThriftStorage(testFolder.resolve("thrift.json")).readThrift().isPresent());
+    }
+
+    @Test
+    public void saveThrift_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        storage.saveThrift(thrift);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.removeTransaction(TypicalTransactions.PENANG_LAKSA);
+        storage.saveThrift(thrift);
+        thrift.setTransactionWithIndex(Index.fromZeroBased(0),
+                new ExpenseBuilder(TypicalTransactions.LAKSA).withTags("Dinner").build());
+        thrift.setBudget(new Budget(TypicalTransactions.OCT_BUDGET.getBudgetDate(), new BudgetValue("42")));
+        storage.saveThrift(thrift);
+        thrift.addRecurringTransaction(new RecurringTransaction(TypicalTransactions.BURSARY,
+                new Occurrence("yearly", Occurrence.MAX_OCCURRENCES, 1, LocalDate.of(2030, 1, 1))));
+        storage.saveThrift(thrift);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, Files.readAllLines(JournalThriftStorage.getJournalFilePath(filePath)).size());
+        assertEquals(thrift, new JournalThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_snapshotsOfChangedThrift_onlyLoggedChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        storage.saveThrift(new ThriftSnapshot(thrift));
+        Path journalFilePath = JournalThriftStorage.getJournalFilePath(filePath);
+
+        thrift.addTransaction(TypicalTransactions.LAKSA, Index.fromZeroBased(1));
+        ThriftSnapshot snapshot = new ThriftSnapshot(thrift);
+        thrift.removeTransactionByIndex(Index.fromZeroBased(0));
+        storage.saveThrift(snapshot);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        storage.saveThrift(new ThriftSnapshot(thrift));
+        storage.saveThrift(new ThriftSnapshot(thrift));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(thrift, new JournalThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_changesNoLongerLogged_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = new Thrift();
+        storage.saveThrift(thrift);
+
+        for (int i = 0; i <= TransactionChangeLog.MAX_RETAINED_CHANGES; i++) {
+            thrift.addTransaction(TypicalTransactions.LAKSA);
+        }
+        storage.saveThrift(thrift);
+
+        assertEquals(0, Files.readAllLines(JournalThriftStorage.getJournalFilePath(filePath)).size());
+        assertEquals(thrift, new JsonThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_transactionsReplaced_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        storage.saveThrift(thrift);
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.setTransactions(Collections.nCopies(TransactionChangeLog.MAX_LOGGED_ADDITIONS + 1,
+                TypicalTransactions.BURSARY));
+        storage.saveThrift(thrift);
+
+        assertEquals(0, Files.readAllLines(JournalThriftStorage.getJournalFilePath(filePath)).size());
+        assertEquals(thrift, new JsonThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_journalReachesThreshold_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath, 2);
+        Thrift thrift = new Thrift();
+        storage.saveThrift(thrift);
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        storage.saveThrift(thrift);
+        storage.awaitCompaction();
+
+        assertEquals(0, Files.readAllLines(JournalThriftStorage.getJournalFilePath(filePath)).size());
+        assertEquals(thrift, new JsonThriftStorage(filePath).readThrift().get());
+        assertEquals(thrift, new JournalThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_afterRestart_earlierRecordsNotReplayedAgain() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = new Thrift();
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+
+        JournalThriftStorage restartedStorage = new JournalThriftStorage(filePath);
+        Thrift restartedThrift = new Thrift(restartedStorage.readThrift().get());
+        restartedStorage.saveThrift(restartedThrift);
+        restartedThrift.addTransaction(TypicalTransactions.BURSARY);
+        restartedStorage.saveThrift(restartedThrift);
+
+        assertEquals(restartedThrift, new JournalThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void saveThrift_afterRead_onlyChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        new JournalThriftStorage(filePath).saveThrift(TypicalTransactions.getTypicalThrift());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = new Thrift(storage.readThrift().get());
+        thrift.removeTransactionByIndex(Index.fromZeroBased(1));
+        storage.saveThrift(new ThriftSnapshot(thrift));
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1, Files.readAllLines(JournalThriftStorage.getJournalFilePath(filePath)).size());
+        assertEquals(thrift, new JournalThriftStorage(filePath).readThrift().get());
+    }
+
+    @Test
+    public void readThrift_partiallyWrittenLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage storage = new JournalThriftStorage(filePath);
+        Thrift thrift = new Thrift();
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+
+        Path journalFilePath = JournalThriftStorage.getJournalFilePath(filePath);
+        Files.write(journalFilePath, "{\"seq\":2,\"at\":1,\"rem".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(thrift, new JournalThriftStorage(filePath).readThrift().get());
+
+        Files.write(journalFilePath, "\n{}\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournalThriftStorage(filePath).readThrift());
+    }
+
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static thrift.storage.JsonAdaptedTransaction.MISSING_FIELD_MESSAGE_FORMAT;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -13,10 +16,13 @@ import org.junit.jupiter.api.Test;
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.model.tag.Tag;
 import thrift.model.transaction.Description;
+import thrift.model.transaction.Expense;
 import thrift.model.transaction.Remark;
 import thrift.model.transaction.Transaction;
 import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
+import thrift.model.util.CurrencyUtil;
+import thrift.model.util.HistoricalRates;
 import thrift.testutil.TypicalTransactions;
 
 public class JsonAdaptedTransactionTest {
@@ -122,4 +128,19 @@ public class JsonAdaptedTransactionTest {
         assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
     }
 
+    @Test
+    public void toModelType_otherCurrency_convertedAtTransactionDate() throws IllegalValueException {
+        Expense usdExpense = new Expense(new Description("Laksa"), new Value("10", "USD"), new Remark(""),
+                new TransactionDate("13/10/2019"), new HashSet<>());
+        JsonAdaptedTransaction transaction;
+        try {
+            CurrencyUtil.setHistoricalRates(new HistoricalRates(Map.of("USD", Map.of(LocalDate.of(2019, 10, 1), 0.7))));
+            transaction = new JsonAdaptedTransaction(usdExpense);
+        } finally {
+            CurrencyUtil.setHistoricalRates(HistoricalRates.EMPTY);
+        }
+
+        assertEquals(Value.fromMinorUnits(700), transaction.toModelType().getValue());
+    }
+
 }
@@ -1,25 +1,34 @@
 package thrift.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static thrift.testutil.Assert.assertThrows;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import thrift.commons.exceptions.DataConversionException;
+import thrift.model.util.CurrencyUtil;
+import thrift.model.util.HistoricalRates;
 
 class JsonCurrencyMappingsStorageTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
             "JsonCurrencyMappingsStorageTest");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void readCurrencyMappings_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> readCurrencyMappings(null));
@@ -45,6 +54,35 @@ class JsonCurrencyMappingsStorageTest {
         testFile.delete();
     }
 
+    @Test
+    public void readHistoricalRates_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonCurrencyMappingsStorage(testFolder.resolve("currency.json")).readHistoricalRates()
+                .isPresent());
+    }
+
+    @Test
+    public void readHistoricalRates_validFile_success() throws Exception {
+        JsonCurrencyMappingsStorage storage = new JsonCurrencyMappingsStorage(testFolder.resolve("currency.json"));
+        assertEquals(testFolder.resolve("currency_history.json"), storage.getHistoricalRatesFilePath());
+        Files.writeString(storage.getHistoricalRatesFilePath(),
+                "{ \"USD\" : { \"01/10/2019\" : 0.7, \"01/11/2019\" : 1 } }");
+
+        HistoricalRates historicalRates = storage.readHistoricalRates().get();
+        int usdId = CurrencyUtil.getCurrencyId("USD");
+        assertEquals(0.7, historicalRates.getRate(usdId, LocalDate.of(2019, 10, 15)));
+        assertEquals(1.0, historicalRates.getRate(usdId, LocalDate.of(2019, 11, 15)));
+    }
+
+    @Test
+    public void readHistoricalRates_invalidFile_throwsDataConversionException() throws Exception {
+        JsonCurrencyMappingsStorage storage = new JsonCurrencyMappingsStorage(testFolder.resolve("currency.json"));
+        Files.writeString(storage.getHistoricalRatesFilePath(), "{ \"USD\" : { \"2019-10-01\" : 0.7 } }");
+        assertThrows(DataConversionException.class, storage::readHistoricalRates);
+
+        Files.writeString(storage.getHistoricalRatesFilePath(), "{ \"USD\" : { \"01/10/2019\" : -0.7 } }");
+        assertThrows(DataConversionException.class, storage::readHistoricalRates);
+    }
+
     private Optional<HashMap<String, Double>> readCurrencyMappings(String currencyFileInTestDataFolder)
             throws DataConversionException {
         Path currencyFilePath = addToTestDataPathIfNotNull(currencyFileInTestDataFolder);
@@ -5,12 +5,17 @@ import static thrift.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.commons.util.JsonUtil;
 import thrift.model.Thrift;
+import thrift.model.transaction.TransactionDate;
+import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.TypicalTransactions;
 
 public class JsonSerializableThriftTest {
@@ -38,4 +43,37 @@ public class JsonSerializableThriftTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyTransactions_orderPreserved() throws Exception {
+        Thrift expected = new Thrift();
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            String date = String.format("%02d/%02d/2019", i % 28 + 1, i % 12 + 1);
+            adaptedTransactions.add(new JsonAdaptedTransaction("expense", "Item " + i, i + ".00", "", date,
+                    Collections.emptyList()));
+            expected.addTransaction(new ExpenseBuilder().withDescription("Item " + i).withValue(i + ".00")
+                    .withRemark("").withDate(date).withTags().build());
+        }
+
+        assertEquals(expected, new JsonSerializableThrift(adaptedTransactions, Collections.emptyList(),
+                Collections.emptyList()).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyInvalidTransactions_firstInvalidReported() {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            adaptedTransactions.add(new JsonAdaptedTransaction("expense", "Item", "1.00", "", "01/01/2019",
+                    Collections.emptyList()));
+        }
+        adaptedTransactions.set(1234, new JsonAdaptedTransaction("expense", "Item", "1.00", "", "31/02/2019",
+                Collections.emptyList()));
+        adaptedTransactions.set(4321, new JsonAdaptedTransaction("expense", "Item", "-1", "", "01/01/2019",
+                Collections.emptyList()));
+
+        JsonSerializableThrift serializableThrift = new JsonSerializableThrift(adaptedTransactions,
+                Collections.emptyList(), Collections.emptyList());
+        assertThrows(IllegalValueException.class, TransactionDate.DATE_CONSTRAINTS, serializableThrift::toModelType);
+    }
+
 }
@@ -11,9 +11,13 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
 import thrift.commons.exceptions.DataConversionException;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.Thrift;
+import thrift.model.clone.RecurringTransaction;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
 import thrift.testutil.TypicalTransactions;
 
 public class JsonThriftStorageTest {
@@ -85,6 +89,33 @@ public class JsonThriftStorageTest {
 
     }
 
+    @Test
+    public void saveThrift_failsMidway_previousDataKept() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.json");
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        JsonThriftStorage jsonThriftStorage = new JsonThriftStorage(filePath);
+        jsonThriftStorage.saveThrift(original, filePath);
+
+        ReadOnlyThrift failingThrift = new ReadOnlyThrift() {
+            @Override
+            public ObservableList<Transaction> getTransactionList() {
+                return original.getTransactionList();
+            }
+
+            @Override
+            public BudgetList getBudgetList() {
+                throw new IllegalStateException("Failed midway");
+            }
+
+            @Override
+            public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+                return original.getRecurringTransactionList();
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> jsonThriftStorage.saveThrift(failingThrift, filePath));
+        assertEquals(original, new Thrift(jsonThriftStorage.readThrift(filePath).get()));
+    }
+
     @Test
     public void saveThrift_nullThrift_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveThrift(null, "SomeFile.json"));
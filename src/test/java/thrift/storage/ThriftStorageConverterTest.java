@@ -0,0 +1,78 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.model.Thrift;
+import thrift.testutil.TypicalTransactions;
+
+public class ThriftStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        JsonThriftStorage jsonStorage = new JsonThriftStorage(testFolder.resolve("thrift.json"));
+        BinaryThriftStorage binaryStorage = new BinaryThriftStorage(testFolder.resolve("thrift.bin"));
+        JsonThriftStorage convertedBackStorage = new JsonThriftStorage(testFolder.resolve("convertedBack.json"));
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        jsonStorage.saveThrift(original);
+
+        assertTrue(ThriftStorageConverter.convert(jsonStorage, binaryStorage));
+        assertTrue(ThriftStorageConverter.convert(binaryStorage, convertedBackStorage));
+        assertEquals(original, binaryStorage.readThrift().get());
+        assertEquals(original, convertedBackStorage.readThrift().get());
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        BinaryThriftStorage binaryStorage = new BinaryThriftStorage(testFolder.resolve("thrift.bin"));
+        assertFalse(ThriftStorageConverter.convert(new JsonThriftStorage(testFolder.resolve("thrift.json")),
+                binaryStorage));
+        assertFalse(binaryStorage.readThrift().isPresent());
+    }
+
+    @Test
+    public void convertIfNewer_targetSavedLater_notConverted() throws Exception {
+        JsonThriftStorage jsonStorage = new JsonThriftStorage(testFolder.resolve("thrift.json"));
+        BinaryThriftStorage binaryStorage = new BinaryThriftStorage(testFolder.resolve("thrift.bin"));
+        jsonStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+        binaryStorage.saveThrift(new Thrift());
+        Files.setLastModifiedTime(jsonStorage.getThriftFilePath(), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(binaryStorage.getThriftFilePath(), FileTime.fromMillis(2000));
+
+        assertFalse(ThriftStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(new Thrift(), binaryStorage.readThrift().get());
+
+        Files.setLastModifiedTime(jsonStorage.getThriftFilePath(), FileTime.fromMillis(3000));
+        assertTrue(ThriftStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(TypicalTransactions.getTypicalThrift(), binaryStorage.readThrift().get());
+    }
+
+    @Test
+    public void convertIfNewer_journalNewerThanSnapshot_journalIncluded() throws Exception {
+        Path jsonFilePath = testFolder.resolve("thrift.json");
+        JournalThriftStorage journalStorage = new JournalThriftStorage(jsonFilePath);
+        BinaryThriftStorage binaryStorage = new BinaryThriftStorage(testFolder.resolve("thrift.bin"));
+        Thrift thrift = new Thrift();
+        journalStorage.saveThrift(thrift);
+        binaryStorage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        journalStorage.saveThrift(thrift);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(binaryStorage.getThriftFilePath(), FileTime.fromMillis(2000));
+        Files.setLastModifiedTime(JournalThriftStorage.getJournalFilePath(jsonFilePath), FileTime.fromMillis(3000));
+
+        assertTrue(ThriftStorageConverter.convertIfNewer(journalStorage, binaryStorage));
+        assertEquals(thrift, binaryStorage.readThrift().get());
+    }
+}